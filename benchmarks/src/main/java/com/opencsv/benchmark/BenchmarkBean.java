@@ -0,0 +1,59 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import com.opencsv.bean.CsvBindByName;
+
+/**
+ * The bean read and written by the bean benchmarks.
+ * It mixes the field types most commonly found in real input.
+ */
+public class BenchmarkBean {
+
+    @CsvBindByName
+    private int id;
+
+    @CsvBindByName
+    private String name;
+
+    @CsvBindByName
+    private double amount;
+
+    @CsvBindByName
+    private long count;
+
+    @CsvBindByName
+    private boolean active;
+
+    @CsvBindByName
+    private String category;
+
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public double getAmount() { return amount; }
+    public void setAmount(double amount) { this.amount = amount; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public boolean isActive() { return active; }
+    public void setActive(boolean active) { this.active = active; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+}
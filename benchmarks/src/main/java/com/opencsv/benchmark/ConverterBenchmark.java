@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import com.opencsv.bean.ConverterDate;
+import com.opencsv.bean.ConverterNumber;
+import com.opencsv.bean.ConverterPrimitiveTypes;
+import com.opencsv.bean.ConverterTemporal;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the converters behind {@link com.opencsv.bean.CsvDate} (for both
+ * {@link Date} and {@code java.time}),
+ * {@link com.opencsv.bean.CsvNumber} and plain primitive fields.
+ * <p>One converter instance is shared by all benchmark threads, just as one
+ * instance is shared by all threads that populate beans in parallel. Run
+ * with different thread counts, e.g. {@code -t 1} and {@code -t 4}, to see
+ * how conversion scales across cores.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConverterBenchmark {
+
+    private ConverterDate date;
+    private ConverterNumber number;
+    private ConverterPrimitiveTypes primitive;
+    private ConverterTemporal timestamp;
+    private ConverterTemporal timestampFormatter;
+
+    @Setup
+    public void setup() {
+        date = new ConverterDate(Date.class, null, Locale.US, "yyyy-MM-dd HH:mm:ss");
+        number = new ConverterNumber(Double.TYPE, null, Locale.US, "#,##0.00");
+        primitive = new ConverterPrimitiveTypes(Integer.TYPE, null, Locale.US);
+        timestamp = new ConverterTemporal(OffsetDateTime.class, null, Locale.US, "yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        // The optional section keeps the fixed-width parser out of the way
+        timestampFormatter = new ConverterTemporal(OffsetDateTime.class, null, Locale.US, "yyyy-MM-dd'T'HH:mm:ss[.SSS]XXX");
+    }
+
+    @Benchmark
+    public Object readDate() throws CsvDataTypeMismatchException {
+        return date.convertToRead("2019-07-14 12:34:56");
+    }
+
+    @Benchmark
+    public Object readNumber() throws CsvDataTypeMismatchException {
+        return number.convertToRead("12,345.67");
+    }
+
+    @Benchmark
+    public Object readPrimitive() throws CsvDataTypeMismatchException {
+        return primitive.convertToRead("12345");
+    }
+
+    @Benchmark
+    public Object readTimestamp() throws CsvDataTypeMismatchException {
+        return timestamp.convertToRead("2019-07-14T12:34:56.789+02:00");
+    }
+
+    @Benchmark
+    public Object readTimestampWithFormatter() throws CsvDataTypeMismatchException {
+        return timestampFormatter.convertToRead("2019-07-14T12:34:56.789+02:00");
+    }
+}
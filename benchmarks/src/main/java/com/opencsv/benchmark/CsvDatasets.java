@@ -0,0 +1,205 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import com.opencsv.CSVReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the input used by the benchmarks.
+ * <p>All data are produced from a fixed seed, so every run of every benchmark
+ * sees exactly the same characters. Nothing is read from disk, which keeps
+ * the benchmarks free of I/O noise and makes them easy to reproduce on any
+ * machine.</p>
+ * <p>Generated data never contain a backslash, so the results of
+ * {@link com.opencsv.CSVParser} (whose default escape character is the
+ * backslash) and {@link com.opencsv.RFC4180Parser} are comparable.</p>
+ */
+public final class CsvDatasets {
+
+    private static final long SEED = 0x5EEDL;
+    private static final String[] WORDS = {
+            "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf",
+            "hotel", "india", "juliet", "kilo", "lima", "mike", "november",
+            "oscar", "papa", "quebec", "romeo", "sierra", "tango", "uniform",
+            "victor", "whiskey", "xray", "yankee", "zulu"};
+
+    private CsvDatasets() {}
+
+    /**
+     * Generates CSV text of the given shape.
+     * The first record is a header.
+     *
+     * @param shape The kind of data to generate
+     * @param records The number of data records after the header
+     * @return The complete CSV input, records separated by {@code \n}
+     */
+    public static String generate(DatasetShape shape, int records) {
+        Random random = new Random(SEED + shape.ordinal());
+        StringBuilder sb = new StringBuilder(records * 64);
+        int columns = columnCount(shape);
+        for (int c = 0; c < columns; c++) {
+            if (c > 0) {
+                sb.append(',');
+            }
+            sb.append("COL").append(c);
+        }
+        sb.append('\n');
+        for (int r = 0; r < records; r++) {
+            for (int c = 0; c < columns; c++) {
+                if (c > 0) {
+                    sb.append(',');
+                }
+                appendCell(shape, random, r, c, sb);
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Generates CSV text that binds to {@link BenchmarkBean}.
+     * The first record is a header.
+     *
+     * @param records The number of data records after the header
+     * @return The complete CSV input
+     */
+    public static String generateBeans(int records) {
+        Random random = new Random(SEED);
+        StringBuilder sb = new StringBuilder(records * 64);
+        sb.append("ID,NAME,AMOUNT,COUNT,ACTIVE,CATEGORY\n");
+        for (int r = 0; r < records; r++) {
+            sb.append(r).append(',')
+                    .append(word(random)).append(' ').append(word(random)).append(',')
+                    .append(random.nextInt(1000000) / 100.0).append(',')
+                    .append(random.nextLong()).append(',')
+                    .append(random.nextBoolean()).append(',')
+                    .append(word(random)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parses generated CSV text back into records, excluding the header.
+     * Used to prepare input for the writing benchmarks.
+     *
+     * @param csv Text produced by {@link #generate(DatasetShape, int)}
+     * @return The data records
+     */
+    public static List<String[]> toRecords(String csv) {
+        List<String[]> result = new ArrayList<>();
+        try (CSVReader reader = new CSVReader(new StringReader(csv))) {
+            reader.skip(1);
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                result.add(record);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return result;
+    }
+
+    /**
+     * Creates the beans the bean writing benchmarks write.
+     *
+     * @param records The number of beans to create
+     * @return A reproducible list of beans
+     */
+    public static List<BenchmarkBean> beans(int records) {
+        Random random = new Random(SEED);
+        List<BenchmarkBean> result = new ArrayList<>(records);
+        for (int r = 0; r < records; r++) {
+            BenchmarkBean bean = new BenchmarkBean();
+            bean.setId(r);
+            bean.setName(word(random) + ' ' + word(random));
+            bean.setAmount(random.nextInt(1000000) / 100.0);
+            bean.setCount(random.nextLong());
+            bean.setActive(random.nextBoolean());
+            bean.setCategory(word(random));
+            result.add(bean);
+        }
+        return result;
+    }
+
+    private static int columnCount(DatasetShape shape) {
+        switch (shape) {
+            case WIDE:
+                return 100;
+            case QUOTED_MULTILINE:
+                return 8;
+            case LONG_FIELDS:
+                return 4;
+            case NUMERIC:
+                return 12;
+            default:
+                return 6;
+        }
+    }
+
+    private static void appendCell(DatasetShape shape, Random random, int record, int column, StringBuilder sb) {
+        switch (shape) {
+            case QUOTED_MULTILINE:
+                if (random.nextBoolean()) {
+                    sb.append('"').append(word(random));
+                    int kind = random.nextInt(4);
+                    if (kind == 0) {
+                        sb.append(", ").append(word(random));
+                    } else if (kind == 1) {
+                        sb.append(" \"\"").append(word(random)).append("\"\"");
+                    } else if (kind == 2) {
+                        sb.append('\n').append(word(random));
+                    }
+                    sb.append('"');
+                } else {
+                    sb.append(word(random));
+                }
+                break;
+            case LONG_FIELDS:
+                int length = 300 + random.nextInt(1700);
+                int start = sb.length();
+                while (sb.length() - start < length) {
+                    sb.append(word(random)).append(' ');
+                }
+                break;
+            case NUMERIC:
+                if (column % 3 == 0) {
+                    sb.append(record * 31 + column);
+                } else if (column % 3 == 1) {
+                    sb.append(random.nextLong());
+                } else {
+                    sb.append(random.nextInt(100000000) / 100.0);
+                }
+                break;
+            default:
+                if (column % 3 == 0) {
+                    sb.append(record * 31 + column);
+                } else if (column % 3 == 1) {
+                    sb.append(word(random));
+                } else {
+                    sb.append(random.nextInt(100000) / 100.0);
+                }
+        }
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import com.opencsv.bean.CsvToBeanBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading beans with {@link com.opencsv.bean.CsvToBean}, both
+ * collecting the complete list and consuming the stream.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class CsvToBeanBenchmark {
+
+    @Param({"10000"})
+    public int records;
+
+    @Param({"true", "false"})
+    public boolean ordered;
+
+    @Param({"1", "32"})
+    public int batchSize;
+
+    private String csv;
+
+    @Setup
+    public void setup() {
+        csv = CsvDatasets.generateBeans(records);
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) {
+        bh.consume(new CsvToBeanBuilder<BenchmarkBean>(new StringReader(csv))
+                .withType(BenchmarkBean.class)
+                .withOrderedResults(ordered)
+                .withBatchSize(batchSize)
+                .build().parse());
+    }
+
+    @Benchmark
+    public void stream(Blackhole bh) {
+        new CsvToBeanBuilder<BenchmarkBean>(new StringReader(csv))
+                .withType(BenchmarkBean.class)
+                .withOrderedResults(ordered)
+                .withBatchSize(batchSize)
+                .build().stream().forEach(bh::consume);
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+/**
+ * The kinds of input the benchmarks are run against.
+ * Each shape stresses a different part of the tokenizers and writers.
+ */
+public enum DatasetShape {
+
+    /** Six short, unquoted columns per record. */
+    NARROW,
+
+    /** One hundred short, unquoted columns per record. */
+    WIDE,
+
+    /**
+     * Eight columns per record, many of them quoted and containing
+     * separators, doubled quotes and embedded newlines.
+     */
+    QUOTED_MULTILINE,
+
+    /** Four unquoted columns per record, each several hundred characters long. */
+    LONG_FIELDS,
+
+    /** Twelve unquoted columns per record, all of them integers or decimals. */
+    NUMERIC
+}
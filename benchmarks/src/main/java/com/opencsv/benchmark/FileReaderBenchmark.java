@@ -0,0 +1,118 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.ParallelCsvFileReader;
+import com.opencsv.ParallelCsvFileReaderBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a file from disk, single-threaded through
+ * {@link CSVReader}, either from a buffered reader or from the mapped file
+ * with and without decoding first, and in chunks through
+ * {@link ParallelCsvFileReader}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileReaderBenchmark {
+
+    @Param({"NARROW", "QUOTED_MULTILINE"})
+    public DatasetShape shape;
+
+    @Param({"200000"})
+    public int records;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("opencsv-benchmark", ".csv");
+        Files.write(file, CsvDatasets.generate(shape, records).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long csvReaderStreaming(Blackhole bh) throws IOException {
+        try (CSVReader reader = new CSVReaderBuilder(Files.newBufferedReader(file, StandardCharsets.UTF_8))
+                .withStreamingTokenizer(true)
+                .build()) {
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                bh.consume(record);
+            }
+            return reader.getRecordsRead();
+        }
+    }
+
+    @Benchmark
+    public long csvReaderFromPath(Blackhole bh) throws IOException {
+        try (CSVReader reader = CSVReaderBuilder.fromPath(file, StandardCharsets.UTF_8).build()) {
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                bh.consume(record);
+            }
+            return reader.getRecordsRead();
+        }
+    }
+
+    @Benchmark
+    public long csvReaderFromPathByteLevel(Blackhole bh) throws IOException {
+        try (CSVReader reader = CSVReaderBuilder.fromPath(file, StandardCharsets.UTF_8)
+                .withByteLevelTokenizer(true)
+                .build()) {
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                bh.consume(record);
+            }
+            return reader.getRecordsRead();
+        }
+    }
+
+    @Benchmark
+    public long parallelOrdered(Blackhole bh) throws IOException {
+        return readAll(new ParallelCsvFileReaderBuilder(file).build(), bh);
+    }
+
+    @Benchmark
+    public long parallelUnordered(Blackhole bh) throws IOException {
+        return readAll(new ParallelCsvFileReaderBuilder(file).withOrderedResults(false).build(), bh);
+    }
+
+    private long readAll(ParallelCsvFileReader reader, Blackhole bh) throws IOException {
+        try (ParallelCsvFileReader r = reader) {
+            String[] record;
+            while ((record = r.readNext()) != null) {
+                bh.consume(record);
+            }
+            return r.getRecordsRead();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import java.io.Writer;
+
+/**
+ * A {@link Writer} that discards everything, but counts what it was given so
+ * the JIT cannot eliminate the writes.
+ */
+public class NullWriter extends Writer {
+
+    private long charactersWritten = 0;
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        charactersWritten += len;
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        charactersWritten += len;
+    }
+
+    @Override
+    public void write(int c) {
+        charactersWritten++;
+    }
+
+    @Override
+    public void flush() {}
+
+    @Override
+    public void close() {}
+
+    /**
+     * @return The number of characters written so far
+     */
+    public long getCharactersWritten() {
+        return charactersWritten;
+    }
+}
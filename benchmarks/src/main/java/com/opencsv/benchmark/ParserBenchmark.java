@@ -0,0 +1,76 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import com.opencsv.CSVParser;
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.ICSVParser;
+import com.opencsv.RFC4180Parser;
+import com.opencsv.RFC4180ParserBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the line parsers in isolation, without any reader around them.
+ * Every invocation parses the whole dataset once, physical line by physical
+ * line, so multi-line records go through {@code parseLineMulti()} exactly as
+ * they would inside {@link com.opencsv.CSVReader}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ParserBenchmark {
+
+    @Param({"NARROW", "WIDE", "QUOTED_MULTILINE", "LONG_FIELDS", "NUMERIC"})
+    public DatasetShape shape;
+
+    @Param({"10000"})
+    public int records;
+
+    private String[] lines;
+    private CSVParser csvParser;
+    private RFC4180Parser rfc4180Parser;
+
+    @Setup
+    public void setup() {
+        lines = CsvDatasets.generate(shape, records).split("\n");
+        csvParser = new CSVParserBuilder().build();
+        rfc4180Parser = new RFC4180ParserBuilder().build();
+    }
+
+    @Benchmark
+    public void csvParserParseLine(Blackhole bh) throws IOException {
+        parseAll(csvParser, bh);
+    }
+
+    @Benchmark
+    public void rfc4180ParserParseLine(Blackhole bh) throws IOException {
+        parseAll(rfc4180Parser, bh);
+    }
+
+    private void parseAll(ICSVParser parser, Blackhole bh) throws IOException {
+        for (String line : lines) {
+            bh.consume(parser.parseLineMulti(line));
+        }
+        if (parser.isPending()) {
+            throw new IllegalStateException("Dataset ended inside a quoted field.");
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import com.opencsv.CsvRecord;
+import com.opencsv.RFC4180ParserBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CSVReader#readNext()} over an in-memory dataset, which
+ * includes line reading, multi-line record assembly and parsing.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ReaderBenchmark {
+
+    @Param({"NARROW", "WIDE", "QUOTED_MULTILINE", "LONG_FIELDS"})
+    public DatasetShape shape;
+
+    @Param({"10000"})
+    public int records;
+
+    private String csv;
+
+    @Setup
+    public void setup() {
+        csv = CsvDatasets.generate(shape, records);
+    }
+
+    @Benchmark
+    public long csvParser(Blackhole bh) throws IOException {
+        return readAll(new CSVReaderBuilder(new StringReader(csv)).build(), bh);
+    }
+
+    @Benchmark
+    public long csvParserStreaming(Blackhole bh) throws IOException {
+        return readAll(new CSVReaderBuilder(new StringReader(csv))
+                .withStreamingTokenizer(true)
+                .build(), bh);
+    }
+
+    /**
+     * Reads every record into one reusable {@link CsvRecord} and looks at the
+     * first field only, which is where the cursor API saves the most.
+     */
+    @Benchmark
+    public long csvParserStreamingCursor(Blackhole bh) throws IOException {
+        try (CSVReader r = new CSVReaderBuilder(new StringReader(csv))
+                .withStreamingTokenizer(true)
+                .build()) {
+            CsvRecord record = new CsvRecord();
+            while (r.nextRecord(record) != null) {
+                bh.consume(record.getLength(0));
+            }
+            return r.getRecordsRead();
+        }
+    }
+
+    /**
+     * Keeps three columns, which shows what projection saves on wide input.
+     */
+    @Benchmark
+    public long csvParserProjected(Blackhole bh) throws IOException {
+        return readAll(new CSVReaderBuilder(new StringReader(csv))
+                .withProjection(0, 2, 4)
+                .build(), bh);
+    }
+
+    @Benchmark
+    public long csvParserStreamingProjected(Blackhole bh) throws IOException {
+        return readAll(new CSVReaderBuilder(new StringReader(csv))
+                .withProjection(0, 2, 4)
+                .withStreamingTokenizer(true)
+                .build(), bh);
+    }
+
+    @Benchmark
+    public long rfc4180Parser(Blackhole bh) throws IOException {
+        return readAll(new CSVReaderBuilder(new StringReader(csv))
+                .withCSVParser(new RFC4180ParserBuilder().build())
+                .build(), bh);
+    }
+
+    private long readAll(CSVReader reader, Blackhole bh) throws IOException {
+        try (CSVReader r = reader) {
+            String[] record;
+            while ((record = r.readNext()) != null) {
+                bh.consume(record);
+            }
+            return r.getRecordsRead();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import com.opencsv.bean.StatefulBeanToCsvBuilder;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing beans with {@link com.opencsv.bean.StatefulBeanToCsv}.
+ * Output goes to a {@link NullWriter}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class StatefulBeanToCsvBenchmark {
+
+    @Param({"10000"})
+    public int records;
+
+    @Param({"true", "false"})
+    public boolean ordered;
+
+    @Param({"1", "32"})
+    public int batchSize;
+
+    private List<BenchmarkBean> beans;
+
+    @Setup
+    public void setup() {
+        beans = CsvDatasets.beans(records);
+    }
+
+    @Benchmark
+    public long write() throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        NullWriter out = new NullWriter();
+        new StatefulBeanToCsvBuilder<BenchmarkBean>(out)
+                .withOrderedResults(ordered)
+                .withBatchSize(batchSize)
+                .build().write(beans);
+        return out.getCharactersWritten();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.benchmark;
+
+import com.opencsv.CSVWriterBuilder;
+import com.opencsv.ICSVWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ICSVWriter#writeNext(String[], boolean)} and
+ * {@link ICSVWriter#writeAll(Iterable, boolean)} for records that
+ * are already in memory, with and without
+ * {@link CSVWriterBuilder#withBufferedOutput(boolean) buffered output}. Output goes to a {@link NullWriter}, so only the
+ * cost of building the output is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WriterBenchmark {
+
+    @Param({"NARROW", "WIDE", "QUOTED_MULTILINE", "LONG_FIELDS"})
+    public DatasetShape shape;
+
+    @Param({"10000"})
+    public int records;
+
+    @Param({"true", "false"})
+    public boolean applyQuotesToAll;
+
+    private List<String[]> rows;
+
+    @Setup
+    public void setup() {
+        rows = CsvDatasets.toRecords(CsvDatasets.generate(shape, records));
+    }
+
+    @Benchmark
+    public long writeNext() throws IOException {
+        NullWriter out = new NullWriter();
+        try (ICSVWriter writer = new CSVWriterBuilder(out).build()) {
+            for (String[] row : rows) {
+                writer.writeNext(row, applyQuotesToAll);
+            }
+        }
+        return out.getCharactersWritten();
+    }
+
+    @Benchmark
+    public long writeNextBuffered() throws IOException {
+        NullWriter out = new NullWriter();
+        try (ICSVWriter writer = new CSVWriterBuilder(out).withBufferedOutput(true).build()) {
+            for (String[] row : rows) {
+                writer.writeNext(row, applyQuotesToAll);
+            }
+        }
+        return out.getCharactersWritten();
+    }
+
+    @Benchmark
+    public long writeAll() throws IOException {
+        NullWriter out = new NullWriter();
+        try (ICSVWriter writer = new CSVWriterBuilder(out).build()) {
+            writer.writeAll(rows, applyQuotesToAll);
+        }
+        return out.getCharactersWritten();
+    }
+
+    @Benchmark
+    public long writeAllBuffered() throws IOException {
+        NullWriter out = new NullWriter();
+        try (ICSVWriter writer = new CSVWriterBuilder(out).withBufferedOutput(true).build()) {
+            writer.writeAll(rows, applyQuotesToAll);
+        }
+        return out.getCharactersWritten();
+    }
+}
@@ -19,6 +19,18 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
     protected ResultSetHelper resultService;
     protected volatile IOException exception;
 
+    /**
+     * The number of lines formatted so far.
+     * @since 5.0
+     */
+    protected long recordsWritten = 0;
+
+    /**
+     * The number of characters formatted so far, including line ends.
+     * @since 5.0
+     */
+    protected long charactersWritten = 0;
+
     /**
      * Constructor to initialize the common values.
      * @param writer Writer used for output of csv data.
@@ -35,6 +47,7 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
         try {
             for (String[] line : allLines) {
                 writeNext(line, applyQuotesToAll, sb);
+                countRecord(line, sb);
                 sb.setLength(0);
             }
         } catch (IOException e) {
@@ -73,12 +86,21 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
     @Override
     public void writeNext(String[] nextLine, boolean applyQuotesToAll) {
         try {
-            writeNext(nextLine, applyQuotesToAll, new StringBuilder(INITIAL_STRING_SIZE));
+            StringBuilder sb = new StringBuilder(INITIAL_STRING_SIZE);
+            writeNext(nextLine, applyQuotesToAll, sb);
+            countRecord(nextLine, sb);
         } catch (IOException e) {
             exception = e;
         }
     }
 
+    private void countRecord(String[] nextLine, StringBuilder sb) {
+        if (nextLine != null) {
+            recordsWritten++;
+            charactersWritten += sb.length();
+        }
+    }
+
     /**
      * Writes the next line to the file.  This method is a fail-fast method that will throw the
      * IOException of the writer supplied to the CSVWriter (if the Writer does not handle the exceptions itself like
@@ -116,6 +138,32 @@ public abstract class AbstractCSVWriter implements ICSVWriter {
         return exception != null;
     }
 
+    /**
+     * Returns the number of lines written so far. Null lines are not
+     * counted. A line counts as written once it has been handed to this
+     * writer without error, even if it is still waiting in a buffer.
+     *
+     * @return The number of lines written
+     * @since 5.0
+     */
+    public long getRecordsWritten() {
+        return recordsWritten;
+    }
+
+    /**
+     * Returns the number of characters written so far, including separators,
+     * quotes, escape characters and line ends. Like
+     * {@link #getRecordsWritten()}, this includes output that is still
+     * waiting in a buffer. The number of bytes that end up in a file depends
+     * on the encoding used by the underlying {@link Writer}.
+     *
+     * @return The number of characters written
+     * @since 5.0
+     */
+    public long getCharactersWritten() {
+        return charactersWritten;
+    }
+
     @Override
     public void setResultService(ResultSetHelper resultService) {
         this.resultService = resultService;
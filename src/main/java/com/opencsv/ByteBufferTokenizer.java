@@ -0,0 +1,419 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Splits UTF-8 or ASCII input into records and fields straight from a
+ * reusable byte buffer that is filled from an {@link InputStream}.
+ * <p>This is the engine behind
+ * {@link CSVReaderBuilder#withByteLevelTokenizer(boolean)}. It runs the same
+ * state machine as {@link CharBufferTokenizer}, but on the raw bytes. This
+ * works because the separator, the quotation character, the escape
+ * character and line breaks are all ASCII, and in UTF-8 an ASCII byte is
+ * never part of a longer sequence. Nothing is decoded until the contents of
+ * a field are copied into the {@link CsvRecord}; runs of ASCII bytes are
+ * simply widened to chars, and only the bytes of other characters are
+ * decoded. Fields of columns that are not projected are never decoded at
+ * all.</p>
+ * <p>As with {@link java.io.InputStreamReader}, malformed input is replaced
+ * with U+FFFD, not reported.</p>
+ * <p>This class is not thread-safe.</p>
+ *
+ * @since 5.0
+ */
+final class ByteBufferTokenizer extends StreamingTokenizer {
+
+    /** The default size of the input buffer in bytes. */
+    static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    /**
+     * The number of bytes before the read position that are kept when the
+     * window is refilled. Enough to look back over the beginning of a line,
+     * which can take up to three bytes per character.
+     */
+    private static final int HISTORY = 16;
+
+    /** Room for the history, an incomplete character and some new input. */
+    private static final int MIN_BUFFER_SIZE = HISTORY + 8;
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final InputStream in;
+    /** False for ASCII, where every byte above 0x7F is malformed. */
+    private final boolean utf8;
+    /** Which bytes end a run of ordinary bytes outside of quotes, by unsigned value. */
+    private final boolean[] special = new boolean[256];
+    /** Which bytes end a run of ordinary bytes inside quotes, by unsigned value. */
+    private final boolean[] specialInQuotes = new boolean[256];
+
+    // Input window
+    private final byte[] buf;
+    private int pos = 0;
+    private int limit = 0;
+    private boolean endOfInput = false;
+    /** The absolute offset of the first byte in the buffer. */
+    private long windowOffset = 0;
+    /** Absolute offset of the first byte of the current physical line. */
+    private long lineStart = 0;
+
+    /**
+     * Creates a tokenizer that follows the rules of the given parser.
+     *
+     * @param in             The source of the input
+     * @param charset        The encoding of the input, UTF-8 or US-ASCII
+     * @param parser         The parser whose configuration is to be copied.
+     *                       This must be a {@link CSVParser}.
+     * @param keepCR         Whether carriage returns are data
+     * @param multilineLimit The maximum number of lines in one record. Less
+     *                       than one means no limit.
+     * @param bufferSize     The size of the input window in bytes
+     * @throws IllegalArgumentException If the parser or the encoding is not
+     *   supported
+     */
+    ByteBufferTokenizer(InputStream in, Charset charset, ICSVParser parser, boolean keepCR, int multilineLimit,
+                        int bufferSize) {
+        super(parser, keepCR, multilineLimit);
+        if (!supports(parser, charset)) {
+            throw new IllegalArgumentException(charset.name());
+        }
+        this.in = in;
+        this.utf8 = StandardCharsets.UTF_8.equals(charset);
+        this.buf = new byte[Math.max(MIN_BUFFER_SIZE, bufferSize)];
+        for (int b = 0; b < 0x80; b++) {
+            specialInQuotes[b] = (hasQuotechar && b == quotechar) || (hasEscape && b == escape) || isLineBreak(b);
+            special[b] = specialInQuotes[b] || b == separator;
+        }
+    }
+
+    /**
+     * Determines whether input in the given encoding can be tokenized on
+     * bytes with the rules of the given parser.
+     *
+     * @param parser  The parser in question
+     * @param charset The encoding of the input
+     * @return Whether a tokenizer can be created for the parser and the
+     *   encoding
+     */
+    static boolean supports(ICSVParser parser, Charset charset) {
+        return supports(parser)
+                && (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset))
+                && parser.getSeparator() < 0x80
+                && parser.getQuotechar() < 0x80
+                && (!(parser instanceof CSVParser) || ((CSVParser) parser).getEscape() < 0x80);
+    }
+
+    @Override
+    boolean readRecord(CsvRecord target) throws IOException {
+        startRecord(target);
+        if (pos >= limit && !fill()) {
+            return false;
+        }
+        linesInRecord = 1;
+
+        boolean inQuotes = false;
+        boolean inField = false;
+        boolean fromQuotedField = false;
+        while (true) {
+            if (pos >= limit && !fill()) {
+                if (inQuotes && !ignoreQuotations) {
+                    // Like CSVParser, which adds the line break before it
+                    // knows there is no next line
+                    append('\n');
+                    unterminated = true;
+                    return true;
+                }
+                endField(fromQuotedField);
+                return true;
+            }
+            final boolean quoted = inQuotes && !ignoreQuotations;
+
+            // Take a run of ordinary bytes in one go.
+            final boolean[] ends = quoted ? specialInQuotes : special;
+            final int runStart = pos;
+            while (pos < limit && !ends[buf[pos] & 0xFF]) {
+                pos++;
+            }
+            if (pos == limit && utf8 && !endOfInput) {
+                // Leave a character cut off by the end of the window for the next one.
+                pos = endOfCompleteCharacters(runStart, pos);
+            }
+            if (pos > runStart) {
+                if (!strictQuotes || quoted) {
+                    if (copying) {
+                        appendDecoded(runStart, pos);
+                    }
+                    inField = true;
+                    fromQuotedField = true;
+                }
+                continue;
+            }
+            if (!ends[buf[pos] & 0xFF]) {
+                // Nothing but the start of a cut-off character
+                fill();
+                continue;
+            }
+
+            final byte c = buf[pos++];
+            if (hasEscape && c == escape) {
+                if (quoted || inField) {
+                    int next = peek();
+                    if (next != -1 && (next == quotechar || next == escape)) {
+                        pos++;
+                        append((char) next);
+                    }
+                }
+            } else if (hasQuotechar && c == quotechar) {
+                final long quoteOffset = windowOffset + pos - 1;
+                final byte previous = pos >= 2 ? buf[pos - 2] : 0;
+                int next = peek();
+                if ((quoted || inField) && next == quotechar) {
+                    pos++;
+                    append(quotechar);
+                } else {
+                    inQuotes = !inQuotes;
+                    if (record.isCurrentFieldEmpty()) {
+                        fromQuotedField = true;
+                    }
+
+                    // The tricky case of an embedded quote in the middle: a,bc"d"ef,g
+                    if (!strictQuotes
+                            && isPastBeginningOfLine(quoteOffset)
+                            && previous != separator
+                            && next != -1 && !isLineBreak(next)
+                            && next != separator) {
+                        if (ignoreLeadingWhiteSpace && !record.isCurrentFieldEmpty() && record.isCurrentFieldWhitespace()) {
+                            record.clearCurrentField();
+                        } else {
+                            append(quotechar);
+                        }
+                    }
+                }
+                inField = !inField;
+            } else if (c == separator && !quoted) {
+                endField(fromQuotedField);
+                fromQuotedField = false;
+                inField = false;
+            } else if (isLineBreak(c)) {
+                if (c == '\r' && peek() == '\n') {
+                    pos++;
+                }
+                lineStart = windowOffset + pos;
+                if (!quoted) {
+                    endField(fromQuotedField);
+                    return true;
+                }
+                append('\n');
+                if (pos >= limit && !fill()) {
+                    unterminated = true;
+                    return true;
+                }
+                linesInRecord++;
+                if (multilineLimit > 0 && linesInRecord > multilineLimit) {
+                    multilineLimitBroken = true;
+                    return true;
+                }
+            } else if (!strictQuotes || quoted) {
+                // A separator inside quotes
+                append((char) c);
+                inField = true;
+                fromQuotedField = true;
+            }
+        }
+    }
+
+    @Override
+    boolean skipLine() throws IOException {
+        if (pos >= limit && !fill()) {
+            return false;
+        }
+        while (pos < limit || fill()) {
+            final byte c = buf[pos++];
+            if (isLineBreak(c)) {
+                if (c == '\r' && peek() == '\n') {
+                    pos++;
+                }
+                break;
+            }
+        }
+        lineStart = windowOffset + pos;
+        return true;
+    }
+
+    /**
+     * Tells whether a quotation character lies beyond the first
+     * {@link #BEGINNING_OF_LINE} characters of its line. Characters, not
+     * bytes, are what counts, so the bytes are only decoded if that makes a
+     * difference.
+     *
+     * @param quoteOffset The absolute offset of the quotation character
+     * @return Whether the quotation character can be embedded in a field
+     */
+    private boolean isPastBeginningOfLine(long quoteOffset) {
+        long bytes = quoteOffset - lineStart;
+        if (bytes < BEGINNING_OF_LINE) {
+            return false;
+        }
+        if (!utf8 || bytes >= 3 * BEGINNING_OF_LINE) {
+            return true;
+        }
+        // Within HISTORY bytes of the quotation character, so still in the buffer
+        int chars = 0;
+        for (int i = (int) (lineStart - windowOffset); i < quoteOffset - windowOffset; i++) {
+            int b = buf[i] & 0xFF;
+            if (b < 0x80) {
+                chars++;
+            } else if (b >= 0xC0) {
+                chars += b >= 0xF0 ? 2 : 1;
+            }
+        }
+        return chars >= BEGINNING_OF_LINE;
+    }
+
+    /**
+     * Finds the end of the last complete character in a run of bytes that
+     * reaches the end of the window.
+     *
+     * @param start The beginning of the run
+     * @param end   The end of the run
+     * @return The position after the last complete character
+     */
+    private int endOfCompleteCharacters(int start, int end) {
+        for (int i = end - 1; i >= Math.max(start, end - 3); i--) {
+            int b = buf[i] & 0xFF;
+            if (b < 0x80) {
+                return end;
+            }
+            if (b >= 0xC0) {
+                int length = b >= 0xF0 ? 4 : b >= 0xE0 ? 3 : 2;
+                return end - i < length ? i : end;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Decodes a run of bytes into the current field.
+     *
+     * @param start The position of the first byte
+     * @param end   The position after the last byte
+     */
+    private void appendDecoded(int start, int end) {
+        int i = start;
+        while (i < end) {
+            i += record.appendAscii(buf, i, end - i);
+            if (i < end) {
+                if (utf8) {
+                    i = appendUtf8(i, end);
+                } else {
+                    record.append(REPLACEMENT);
+                    i++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Decodes one multi-byte UTF-8 sequence into the current field. Invalid
+     * sequences are replaced by U+FFFD the same way the decoder of the JDK
+     * does it.
+     *
+     * @param start The position of the first byte of the sequence
+     * @param end   The end of the bytes available
+     * @return The position after the sequence
+     */
+    private int appendUtf8(int start, int end) {
+        final int b0 = buf[start] & 0xFF;
+        final int length;
+        int min = 0x80, max = 0xBF;
+        if (b0 >= 0xC2 && b0 <= 0xDF) {
+            length = 2;
+        } else if (b0 >= 0xE0 && b0 <= 0xEF) {
+            length = 3;
+            if (b0 == 0xE0) {
+                min = 0xA0;
+            }
+        } else if (b0 >= 0xF0 && b0 <= 0xF4) {
+            length = 4;
+            if (b0 == 0xF0) {
+                min = 0x90;
+            } else if (b0 == 0xF4) {
+                max = 0x8F;
+            }
+        } else {
+            record.append(REPLACEMENT);
+            return start + 1;
+        }
+        int codePoint = b0 & (0xFF >> (length + 1));
+        for (int k = 1; k < length; k++) {
+            if (start + k >= end) {
+                record.append(REPLACEMENT);
+                return start + k;
+            }
+            final int b = buf[start + k] & 0xFF;
+            if (b < min || b > max) {
+                record.append(REPLACEMENT);
+                return start + k;
+            }
+            codePoint = (codePoint << 6) | (b & 0x3F);
+            min = 0x80;
+            max = 0xBF;
+        }
+        if (length == 4) {
+            record.append(Character.highSurrogate(codePoint));
+            record.append(Character.lowSurrogate(codePoint));
+        } else {
+            // An encoded surrogate counts as one malformed character.
+            record.append(Character.isSurrogate((char) codePoint) ? REPLACEMENT : (char) codePoint);
+        }
+        return start + length;
+    }
+
+    /**
+     * Looks at the next byte without consuming it, refilling the window if
+     * necessary.
+     *
+     * @return The next byte as an unsigned value, or -1 at the end of the
+     *   input
+     * @throws IOException If reading from the underlying stream fails
+     */
+    private int peek() throws IOException {
+        if (pos >= limit && !fill()) {
+            return -1;
+        }
+        return buf[pos] & 0xFF;
+    }
+
+    /**
+     * Refills the input window. The bytes that have not been consumed yet
+     * and the last {@link #HISTORY} bytes that have been are moved to the
+     * front of the buffer first.
+     *
+     * @return False if there are no bytes left to consume, true otherwise
+     * @throws IOException If reading from the underlying stream fails
+     */
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return pos < limit;
+        }
+        final int keepFrom = pos - HISTORY;
+        if (keepFrom > 0) {
+            System.arraycopy(buf, keepFrom, buf, 0, limit - keepFrom);
+            windowOffset += keepFrom;
+            pos -= keepFrom;
+            limit -= keepFrom;
+        }
+        int n;
+        do {
+            n = in.read(buf, limit, buf.length - limit);
+        } while (n == 0);
+        if (n < 0) {
+            endOfInput = true;
+            return pos < limit;
+        }
+        limit += n;
+        return true;
+    }
+}
@@ -17,6 +17,7 @@ package com.opencsv;
  */
 
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 
@@ -44,6 +45,8 @@ import java.util.ResourceBundle;
 public class CSVParser extends AbstractCSVParser {
 
     private static final int BEGINNING_OF_LINE = 3;
+    /** Marks the position of a special character that has not been searched for yet. */
+    private static final int NOT_SEARCHED = -2;
     /**
      * This is the character that the CSVParser will treat as the escape character.
      */
@@ -62,6 +65,15 @@ public class CSVParser extends AbstractCSVParser {
     private final boolean ignoreQuotations;
     private int tokensOnLastCompleteLine = -1;
     private boolean inField = false;
+
+    /** The columns to be returned, or null for all columns. */
+    private final ColumnProjection projection;
+
+    /** With a projection, the fields of the record being parsed. */
+    private String[] projectedFields;
+
+    /** With a projection, the index of the column of the field being parsed. */
+    private int column;
     
     /** Locale for all translations. */
     private Locale errorLocale;
@@ -94,7 +106,32 @@ public class CSVParser extends AbstractCSVParser {
      */
     CSVParser(char separator, char quotechar, char escape, boolean strictQuotes, boolean ignoreLeadingWhiteSpace,
               boolean ignoreQuotations, CSVReaderNullFieldIndicator nullFieldIndicator, Locale errorLocale) {
+        this(separator, quotechar, escape, strictQuotes, ignoreLeadingWhiteSpace, ignoreQuotations,
+                nullFieldIndicator, errorLocale, null);
+    }
+
+    /**
+     * Constructs CSVParser that returns only some of the columns.
+     * <p>This constructor sets all necessary parameters for CSVParser, and
+     * intentionally has package access so only the builder can use it.</p>
+     *
+     * @param separator               The delimiter to use for separating entries
+     * @param quotechar               The character to use for quoted elements
+     * @param escape                  The character to use for escaping a separator or quote
+     * @param strictQuotes            If true, characters outside the quotes are ignored
+     * @param ignoreLeadingWhiteSpace If true, white space in front of a quote in a field is ignored
+     * @param ignoreQuotations        If true, treat quotations like any other character.
+     * @param nullFieldIndicator      Which field content will be returned as null: EMPTY_SEPARATORS, EMPTY_QUOTES,
+     *                                BOTH, NEITHER (default)
+     * @param errorLocale             Locale for error messages.
+     * @param projection              The columns to be returned, or null for all columns
+     * @since 5.0
+     */
+    CSVParser(char separator, char quotechar, char escape, boolean strictQuotes, boolean ignoreLeadingWhiteSpace,
+              boolean ignoreQuotations, CSVReaderNullFieldIndicator nullFieldIndicator, Locale errorLocale,
+              ColumnProjection projection) {
         super(separator, quotechar, nullFieldIndicator);
+        this.projection = projection;
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
         if (anyCharactersAreTheSame(separator, quotechar, escape)) {
             throw new UnsupportedOperationException(ResourceBundle.getBundle(DEFAULT_BUNDLE_NAME, this.errorLocale).getString("special.characters.must.differ"));
@@ -136,6 +173,13 @@ public class CSVParser extends AbstractCSVParser {
         return ignoreQuotations;
     }
 
+    /**
+     * @return The columns this parser returns, or null for all columns
+     */
+    ColumnProjection getColumnProjection() {
+        return projection;
+    }
+
     /**
      * Checks to see if any two of the three characters are the same.
      * This is because in opencsv the separator, quote, and escape characters
@@ -196,11 +240,19 @@ public class CSVParser extends AbstractCSVParser {
             if (pending != null) {
                 String s = pending;
                 pending = null;
+                if (projection != null) {
+                    return finishProjectedRecord(s, false);
+                }
                 return new String[]{s};
             }
             return null;
         }
 
+        if (projection != null && pending == null) {
+            projectedFields = new String[projection.size()];
+            column = 0;
+        }
+
         final List<String> tokensOnThisLine = tokensOnLastCompleteLine <= 0 ? new ArrayList<String>() : new ArrayList<String>(tokensOnLastCompleteLine);
         final StringFragmentCopier sfc = new StringFragmentCopier(nextLine);
         boolean inQuotes = false;
@@ -210,6 +262,8 @@ public class CSVParser extends AbstractCSVParser {
             pending = null;
             inQuotes = !this.ignoreQuotations;
         }
+        // Positions of the next special characters, -1 if there are none, NOT_SEARCHED if not known yet
+        int nextSeparator = NOT_SEARCHED, nextQuote = NOT_SEARCHED, nextEscape = NOT_SEARCHED;
         while (!sfc.isEmptyInput()) {
             final char c = sfc.takeInput();
             if (c == this.escape) {
@@ -247,14 +301,25 @@ public class CSVParser extends AbstractCSVParser {
                 }
                 inField = !inField;
             } else if (c == separator && !(inQuotes && !ignoreQuotations)) {
-                tokensOnThisLine.add(convertEmptyToNullIfNeeded(sfc.takeOutput(), fromQuotedField));
+                addToken(tokensOnThisLine, sfc, fromQuotedField);
                 fromQuotedField = false;
                 inField = false;
             } else {
+                // Everything up to the next character that means something
+                // is taken in one go.
+                nextQuote = indexOf(nextLine, quotechar, sfc.i, nextQuote);
+                nextEscape = indexOf(nextLine, escape, sfc.i, nextEscape);
+                int runEnd = endOfRun(nextLine.length(), nextQuote, nextEscape);
+                if (!(inQuotes && !ignoreQuotations)) {
+                    nextSeparator = indexOf(nextLine, separator, sfc.i, nextSeparator);
+                    runEnd = endOfRun(runEnd, nextSeparator, -1);
+                }
                 if (!strictQuotes || (inQuotes && !ignoreQuotations)) {
-                    sfc.appendPrev();
+                    sfc.appendPrevThrough(runEnd);
                     inField = true;
                     fromQuotedField = true;
+                } else {
+                    sfc.skipTo(runEnd);
                 }
             }
 
@@ -266,6 +331,10 @@ public class CSVParser extends AbstractCSVParser {
                     // continuing a quoted section, re-append newline
                     sfc.append('\n');
                     pending = sfc.peekOutput();
+                    if (projection != null) {
+                        // The record is returned in one piece once complete.
+                        return ArrayUtils.EMPTY_STRING_ARRAY;
+                    }
                     break line_done; // this partial content is not to be added to field list yet
                 } else {
                     throw new IOException(String.format(
@@ -276,6 +345,9 @@ public class CSVParser extends AbstractCSVParser {
                 inField = false;
             }
 
+            if (projection != null) {
+                return finishProjectedRecord(sfc.takeOutput(), fromQuotedField);
+            }
             tokensOnThisLine.add(convertEmptyToNullIfNeeded(sfc.takeOutput(), fromQuotedField));
         }
 
@@ -284,6 +356,44 @@ public class CSVParser extends AbstractCSVParser {
 
     }
 
+    /**
+     * Adds the field just completed to the results, or drops it if it is not
+     * part of the projection.
+     *
+     * @param tokensOnThisLine The fields of the current line
+     * @param sfc              The copier holding the field
+     * @param fromQuotedField  Whether the field contained quotation characters
+     */
+    private void addToken(List<String> tokensOnThisLine, StringFragmentCopier sfc, boolean fromQuotedField) {
+        if (projection == null) {
+            tokensOnThisLine.add(convertEmptyToNullIfNeeded(sfc.takeOutput(), fromQuotedField));
+        } else {
+            int position = projection.positionOf(column++);
+            if (position < 0) {
+                sfc.clearOutput();
+            } else {
+                projectedFields[position] = convertEmptyToNullIfNeeded(sfc.takeOutput(), fromQuotedField);
+            }
+        }
+    }
+
+    /**
+     * Adds the last field of a record to the projected fields.
+     *
+     * @param lastField       The last field of the record
+     * @param fromQuotedField Whether the field contained quotation characters
+     * @return The projected record
+     */
+    private String[] finishProjectedRecord(String lastField, boolean fromQuotedField) {
+        int position = projection.positionOf(column);
+        String[] result = projectedFields;
+        if (position >= 0) {
+            result[position] = convertEmptyToNullIfNeeded(lastField, fromQuotedField);
+        }
+        projectedFields = null;
+        return result;
+    }
+
     private String convertEmptyToNullIfNeeded(String s, boolean fromQuotedField) {
         if (s.isEmpty() && shouldConvertEmptyToNull(fromQuotedField)) {
             return null;
@@ -304,6 +414,36 @@ public class CSVParser extends AbstractCSVParser {
         }
     }
 
+    /**
+     * Finds the next occurrence of a character, reusing the result of the
+     * last search as long as it still lies ahead.
+     *
+     * @param nextLine The current line
+     * @param c        The character to look for
+     * @param from     The index to start at
+     * @param last     The result of the last search for this character
+     * @return The index of the character, or -1 if it does not occur
+     */
+    private static int indexOf(String nextLine, char c, int from, int last) {
+        return last == -1 || last >= from ? last : nextLine.indexOf(c, from);
+    }
+
+    /**
+     * @param end    The end of the run so far
+     * @param first  The index of a special character, or -1
+     * @param second The index of another special character, or -1
+     * @return The end of the run, which stops at the nearest special character
+     */
+    private static int endOfRun(int end, int first, int second) {
+        if (first >= 0 && first < end) {
+            end = first;
+        }
+        if (second >= 0 && second < end) {
+            end = second;
+        }
+        return end;
+    }
+
     /**
      * Determines if we can process as if we were in quotes.
      *
@@ -447,6 +587,34 @@ public class CSVParser extends AbstractCSVParser {
             }
         }
 
+        /**
+         * Appends the character just taken and everything up to, but not
+         * including, the given index.
+         *
+         * @param end The index of the first character not to be appended
+         */
+        public void appendPrevThrough(int end) {
+            appendPrev();
+            if (end > i) {
+                if (pendingSubstrTo == i) {
+                    pendingSubstrTo = end;
+                } else {
+                    materializeBuilder().append(input, i, end);
+                }
+                i = end;
+            }
+        }
+
+        /**
+         * Takes the input up to, but not including, the given index without
+         * appending it.
+         *
+         * @param end The index of the next character to be taken
+         */
+        public void skipTo(int end) {
+            i = Math.max(i, end);
+        }
+
         public boolean isEmptyOutput() {
             return pendingSubstrFrom >= pendingSubstrTo && (sb == null || sb.length() == 0);
         }
@@ -43,6 +43,7 @@ public class CSVParserBuilder {
     private boolean ignoreQuotations = ICSVParser.DEFAULT_IGNORE_QUOTATIONS;
     private CSVReaderNullFieldIndicator nullFieldIndicator = CSVReaderNullFieldIndicator.NEITHER;
     private Locale errorLocale = Locale.getDefault();
+    private ColumnProjection projection = null;
 
 
     /**
@@ -143,7 +144,8 @@ public class CSVParserBuilder {
                 ignoreLeadingWhiteSpace,
                 ignoreQuotations,
                 nullFieldIndicator,
-                errorLocale);
+                errorLocale,
+                projection);
     }
 
     /**
@@ -217,4 +219,36 @@ public class CSVParserBuilder {
     public CSVReaderNullFieldIndicator nullFieldIndicator() {
         return nullFieldIndicator;
     }
+
+    /**
+     * Restricts the parser to a subset of columns.
+     * <p>The parser still scans every field of a line, but fields of columns
+     * that are not projected are never turned into Strings. The arrays
+     * returned hold only the projected columns, in the order given here. If
+     * a record has fewer columns than a projected index, the field for that
+     * column is null.</p>
+     * <p>Records that span several lines are returned in one piece by
+     * {@link CSVParser#parseLineMulti(String)} when their last line has been
+     * parsed. For the lines before that, an empty array is returned.</p>
+     *
+     * @param columns The zero-based indexes of the columns to be returned, in
+     *                the order in which they are to be returned. No columns
+     *                means all columns.
+     * @return {@code this}
+     * @throws IllegalArgumentException If an index is negative or repeated
+     * @since 5.0
+     */
+    public CSVParserBuilder withProjection(final int... columns) {
+        this.projection = ColumnProjection.ofIndexes(columns);
+        return this;
+    }
+
+    /**
+     * @return The zero-based indexes of the projected columns, or null if all
+     *   columns are returned
+     * @since 5.0
+     */
+    public int[] getProjection() {
+        return projection == null ? null : projection.getColumns();
+    }
 }
@@ -24,6 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.*;
 import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
 import java.util.*;
 import java.util.zip.ZipException;
 
@@ -70,6 +71,26 @@ public class CSVReader implements Closeable, Iterable<String[]> {
     protected long recordsRead = 0;
     protected String[] peekedLine = null;
 
+    /**
+     * Reads records directly from {@link #br}, or from the undecoded input,
+     * if the streaming or the byte-level tokenizer has been requested,
+     * otherwise null.
+     */
+    private final StreamingTokenizer tokenizer;
+
+    /** The record {@link #readNext()} fills when using the streaming tokenizer. */
+    private final CsvRecord record = new CsvRecord();
+
+    /**
+     * The columns to be returned, or null for all columns. A projection by
+     * header names is replaced by its resolved version once the header has
+     * been read.
+     */
+    private ColumnProjection projection;
+
+    /** Whether {@link #projection} is applied by the tokenizer. */
+    private boolean projectionPushedDown = false;
+
     /**
      * Constructs CSVReader using defaults for all parameters.
      *
@@ -105,6 +126,64 @@ public class CSVReader implements Closeable, Iterable<String[]> {
      * @param errorLocale    Set the locale for error messages. If null, the default locale is used.
      */
     CSVReader(Reader reader, int line, ICSVParser icsvParser, boolean keepCR, boolean verifyReader, int multilineLimit, Locale errorLocale) {
+        this(reader, line, icsvParser, keepCR, verifyReader, multilineLimit, errorLocale, false, null);
+    }
+
+    /**
+     * Constructs CSVReader with supplied CSVParser, optionally using the
+     * streaming tokenizer.
+     * <p>This constructor sets all necessary parameters for CSVReader, and
+     * intentionally has package access so only the builder can use it.</p>
+     *
+     * @param reader             The reader to an underlying CSV source
+     * @param line               The number of lines to skip before reading
+     * @param icsvParser         The parser to use to parse input
+     * @param keepCR             True to keep carriage returns in data read, false otherwise
+     * @param verifyReader       True to verify reader before each read, false otherwise
+     * @param multilineLimit     Allow the user to define the limit to the number of lines in a multiline record. Less than one means no limit.
+     * @param errorLocale        Set the locale for error messages. If null, the default locale is used.
+     * @param streamingTokenizer True to tokenize straight from a character
+     *                           buffer instead of reading lines. Ignored for
+     *                           parsers other than {@link CSVParser}.
+     * @param projection         The columns to be returned, or null for all
+     *                           columns
+     * @since 5.0
+     */
+    CSVReader(Reader reader, int line, ICSVParser icsvParser, boolean keepCR, boolean verifyReader, int multilineLimit,
+              Locale errorLocale, boolean streamingTokenizer, ColumnProjection projection) {
+        this(reader, line, icsvParser, keepCR, verifyReader, multilineLimit, errorLocale, streamingTokenizer,
+                projection, null, null);
+    }
+
+    /**
+     * Constructs CSVReader with supplied CSVParser, optionally tokenizing
+     * the undecoded bytes of the input.
+     * <p>This constructor sets all necessary parameters for CSVReader, and
+     * intentionally has package access so only the builder can use it.</p>
+     *
+     * @param reader             The reader to an underlying CSV source
+     * @param line               The number of lines to skip before reading
+     * @param icsvParser         The parser to use to parse input
+     * @param keepCR             True to keep carriage returns in data read, false otherwise
+     * @param verifyReader       True to verify reader before each read, false otherwise
+     * @param multilineLimit     Allow the user to define the limit to the number of lines in a multiline record. Less than one means no limit.
+     * @param errorLocale        Set the locale for error messages. If null, the default locale is used.
+     * @param streamingTokenizer True to tokenize straight from a character
+     *                           buffer instead of reading lines. Ignored for
+     *                           parsers other than {@link CSVParser}.
+     * @param projection         The columns to be returned, or null for all
+     *                           columns
+     * @param bytes              The undecoded input {@code reader} decodes,
+     *                           to be tokenized instead of {@code reader}
+     *                           if possible, or null. If the byte-level
+     *                           tokenizer cannot be used, the streaming
+     *                           tokenizer is used instead.
+     * @param charset            The encoding of {@code bytes}
+     * @since 5.0
+     */
+    CSVReader(Reader reader, int line, ICSVParser icsvParser, boolean keepCR, boolean verifyReader, int multilineLimit,
+              Locale errorLocale, boolean streamingTokenizer, ColumnProjection projection,
+              InputStream bytes, Charset charset) {
         this.br =
                 (reader instanceof BufferedReader ?
                         (BufferedReader) reader :
@@ -116,6 +195,18 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         this.verifyReader = verifyReader;
         this.multilineLimit = multilineLimit;
         this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        if (bytes != null && ByteBufferTokenizer.supports(icsvParser, charset)) {
+            this.tokenizer = new ByteBufferTokenizer(bytes, charset, icsvParser, keepCR, multilineLimit,
+                    ByteBufferTokenizer.DEFAULT_BUFFER_SIZE);
+        } else if ((streamingTokenizer || bytes != null) && StreamingTokenizer.supports(icsvParser)) {
+            // A mapped file is decoded straight into the buffer of the tokenizer.
+            this.tokenizer = new CharBufferTokenizer(reader instanceof MappedFileReader ? reader : br, icsvParser,
+                    keepCR, multilineLimit, CharBufferTokenizer.DEFAULT_BUFFER_SIZE);
+        } else {
+            this.tokenizer = null;
+        }
+        this.projection = projection;
+        pushDownProjection();
     }
 
     /**
@@ -184,7 +275,37 @@ public class CSVReader implements Closeable, Iterable<String[]> {
             peekedLine = null;
             return l;
         }
+        if (projection == null || projectionPushedDown) {
+            return tokenizer != null ? readNextFromTokenizer() : readNextFromLines();
+        }
+        String[] result = tokenizer != null ? readNextFromTokenizer() : readNextFromLines();
+        if (result == null) {
+            return null;
+        }
+        if (!projection.isResolved()) {
+            projection = projection.resolve(result, errorLocale);
+            pushDownProjection();
+        }
+        return projection.project(result);
+    }
+
+    /**
+     * Lets the tokenizer take care of the projection, if possible.
+     */
+    private void pushDownProjection() {
+        if (projection != null && projection.isResolved() && tokenizer != null && !tokenizer.hasProjection()) {
+            tokenizer.setProjection(projection);
+            projectionPushedDown = true;
+        }
+    }
 
+    /**
+     * Reads the next record line by line using the parser.
+     *
+     * @return The next record, or null if there is no more input
+     * @throws IOException If bad things happen during the read
+     */
+    private String[] readNextFromLines() throws IOException {
         String[] result = null;
         int linesInThisRecord = 0;
         long lastSuccessfulLineRead = linesRead;
@@ -193,28 +314,12 @@ public class CSVReader implements Closeable, Iterable<String[]> {
             linesInThisRecord++;
             if (!hasNext) {
                 if (parser.isPending()) {
-                    throw new CsvMalformedLineException(String.format(
-                            ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("unterminated.quote"),
-                            StringUtils.abbreviate(parser.getPendingText(), MAX_WIDTH)), lastSuccessfulLineRead + 1, parser.getPendingText());
+                    throw unterminatedQuote(parser.getPendingText(), lastSuccessfulLineRead + 1, errorLocale);
                 }
                 return validateResult(result);
             }
             if (multilineLimit > 0 && linesInThisRecord > multilineLimit) {
-
-                // get current row records Read +1
-                long row = this.recordsRead + 1L;
-
-                String context = parser.getPendingText();
-
-                // just to avoid out of index
-                // to get the whole context use CsvMultilineLimitBrokenException::getContext()
-                if(context.length()> CONTEXT_MULTILINE_EXCEPTION_MESSAGE_SIZE){
-                     context = context.substring(0, CONTEXT_MULTILINE_EXCEPTION_MESSAGE_SIZE);
-                }
-
-                String messageFormat = ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("multiline.limit.broken");
-                String message = String.format(errorLocale, messageFormat, multilineLimit, row, context);
-                throw new CsvMultilineLimitBrokenException(message, row, parser.getPendingText(), multilineLimit);
+                throw multilineLimitBroken(parser.getPendingText());
             }
             String[] r = parser.parseLineMulti(nextLine);
             if (r.length > 0) {
@@ -228,6 +333,138 @@ public class CSVReader implements Closeable, Iterable<String[]> {
         return validateResult(result);
     }
 
+    /**
+     * Reads the next record into a reusable {@link CsvRecord}.
+     * <p>This is the cursor-style alternative to {@link #readNext()} for
+     * callers that want to look at fields without turning every one of them
+     * into a String. The record passed in is filled and returned, so one
+     * record can serve for the entire input.</p>
+     * <p>Only with the
+     * {@link CSVReaderBuilder#withStreamingTokenizer(boolean) streaming tokenizer}
+     * does the input go straight into the record. Otherwise the record is
+     * filled from the result of {@link #readNext()}, which works the same but
+     * saves nothing.</p>
+     * <p>Records read this way are counted by {@link #getRecordsRead()} and
+     * {@link #getLinesRead()} just like records read by {@link #readNext()},
+     * and the two methods may be mixed.</p>
+     *
+     * @param reuse The record to be filled. If null, a new record is created.
+     * @return The record passed in, filled with the next record of the input,
+     *   or null if there is no more input
+     * @throws IOException If bad things happen during the read
+     * @since 5.0
+     */
+    public CsvRecord nextRecord(CsvRecord reuse) throws IOException {
+        CsvRecord target = reuse == null ? new CsvRecord() : reuse;
+        if (tokenizer != null && peekedLine == null && (projection == null || projectionPushedDown)) {
+            if (!readRecordFromTokenizer(target)) {
+                return null;
+            }
+            recordsRead++;
+            return target;
+        }
+        String[] line = readNext();
+        if (line == null) {
+            return null;
+        }
+        target.set(line);
+        return target;
+    }
+
+    /**
+     * Reads the next record using the streaming tokenizer.
+     *
+     * @return The next record, or null if there is no more input
+     * @throws IOException If bad things happen during the read
+     */
+    private String[] readNextFromTokenizer() throws IOException {
+        return validateResult(readRecordFromTokenizer(record) ? record.toArray() : null);
+    }
+
+    /**
+     * Reads the next record into the given record using the streaming
+     * tokenizer. The number of records read is left to the caller.
+     *
+     * @param target The record to be filled
+     * @return False if there is no more input, true otherwise
+     * @throws IOException If bad things happen during the read
+     */
+    private boolean readRecordFromTokenizer(CsvRecord target) throws IOException {
+        if (!hasNext) {
+            return false;
+        }
+        long lastSuccessfulLineRead = linesRead;
+        boolean recordFound;
+        try {
+            if (!linesSkipped) {
+                for (int i = 0; i < skipLines && tokenizer.skipLine(); i++) {
+                    linesRead++;
+                }
+                linesSkipped = true;
+                lastSuccessfulLineRead = linesRead;
+            }
+            recordFound = tokenizer.readRecord(target);
+        } catch (IOException e) {
+            // The equivalent of isClosed() for the line-based path
+            if (!verifyReader || PASSTHROUGH_EXCEPTIONS.contains(e.getClass())) {
+                throw e;
+            }
+            recordFound = false;
+        }
+        if (!recordFound) {
+            hasNext = false;
+            return false;
+        }
+        linesRead += tokenizer.getLinesInRecord();
+        if (tokenizer.isUnterminated()) {
+            hasNext = false;
+            throw unterminatedQuote(tokenizer.getPendingText(), lastSuccessfulLineRead + 1, errorLocale);
+        }
+        if (tokenizer.isMultilineLimitBroken()) {
+            throw multilineLimitBroken(tokenizer.getPendingText());
+        }
+        return true;
+    }
+
+    /**
+     * Creates the exception for input that ends inside a quoted field.
+     *
+     * @param pendingText The incomplete field
+     * @param lineNumber  The line the record started on
+     * @param errorLocale The locale for the message
+     * @return An exception ready to be thrown
+     */
+    static CsvMalformedLineException unterminatedQuote(String pendingText, long lineNumber, Locale errorLocale) {
+        return new CsvMalformedLineException(String.format(
+                ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("unterminated.quote"),
+                StringUtils.abbreviate(pendingText, MAX_WIDTH)), lineNumber, pendingText);
+    }
+
+    /**
+     * Creates the exception for a record with more lines than
+     * {@link #multilineLimit}.
+     *
+     * @param pendingText The incomplete field
+     * @return An exception ready to be thrown
+     */
+    private CsvMultilineLimitBrokenException multilineLimitBroken(String pendingText) {
+
+        // get current row records Read +1
+        long row = this.recordsRead + 1L;
+
+        String context = pendingText;
+
+        // just to avoid out of index
+        // to get the whole context use CsvMultilineLimitBrokenException::getContext()
+        if(context.length()> CONTEXT_MULTILINE_EXCEPTION_MESSAGE_SIZE){
+             context = context.substring(0, CONTEXT_MULTILINE_EXCEPTION_MESSAGE_SIZE);
+        }
+
+        String messageFormat = ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("multiline.limit.broken");
+        String message = String.format(errorLocale, messageFormat, multilineLimit, row, context);
+        return new CsvMultilineLimitBrokenException(message, row, pendingText, multilineLimit);
+    }
+
     /**
      * Increments the number of records read if the result passed in is not null.
      *
@@ -19,7 +19,13 @@ package com.opencsv;
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import org.apache.commons.lang3.ObjectUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Locale;
 import java.util.ResourceBundle;
 
@@ -55,6 +61,12 @@ public class CSVReaderBuilder {
     private CSVReaderNullFieldIndicator nullFieldIndicator = CSVReaderNullFieldIndicator.NEITHER;
     private int multilineLimit = CSVReader.DEFAULT_MULTILINE_LIMIT;
     private Locale errorLocale = Locale.getDefault();
+    private boolean streamingTokenizer = false;
+    private ColumnProjection projection = null;
+    private boolean byteLevelTokenizer = false;
+    /** The undecoded input of {@link #reader}, if known. */
+    private InputStream bytes = null;
+    private Charset charset = null;
 
     /**
      * Sets the reader to an underlying CSV source.
@@ -69,6 +81,62 @@ public class CSVReaderBuilder {
         this.reader = reader;
     }
 
+    /**
+     * Creates a builder for reading a local file through memory mapping.
+     * <p>Instead of going through an {@link java.io.InputStreamReader} and a
+     * {@link java.io.BufferedReader}, the file is mapped into memory and
+     * decoded in large blocks straight into the buffer of the
+     * {@link #withStreamingTokenizer(boolean) streaming tokenizer}, which is
+     * switched on for readers created this way. Files of any size can be
+     * read, since the file is mapped in windows of limited size. This pays
+     * off most for large files. UTF-8 and US-ASCII files can also be split
+     * into fields before they are decoded; see
+     * {@link #withByteLevelTokenizer(boolean)}.</p>
+     * <p>The file is opened immediately and closed when the
+     * {@link CSVReader} built is closed. Malformed input is replaced, as it
+     * is by {@link java.io.InputStreamReader}.</p>
+     *
+     * @param path    The file to be read
+     * @param charset The encoding of the file. If null, UTF-8 is used.
+     * @return A builder for a reader of the file
+     * @throws IOException If the file cannot be opened
+     * @since 5.0
+     */
+    public static CSVReaderBuilder fromPath(final Path path, final Charset charset) throws IOException {
+        if (path == null) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("reader.null"));
+        }
+        final Charset cs = ObjectUtils.defaultIfNull(charset, StandardCharsets.UTF_8);
+        final MappedFileReader mappedFileReader = MappedFileReader.open(path, cs);
+        final CSVReaderBuilder builder = new CSVReaderBuilder(mappedFileReader).withStreamingTokenizer(true);
+        builder.bytes = mappedFileReader.asInputStream();
+        builder.charset = cs;
+        return builder;
+    }
+
+    /**
+     * Creates a builder for reading from a stream of bytes.
+     * <p>This is the same as passing an {@link InputStreamReader} for the
+     * stream to {@link #CSVReaderBuilder(Reader)}, except that the
+     * {@link #withByteLevelTokenizer(boolean) byte-level tokenizer} can be
+     * used.</p>
+     *
+     * @param in      The stream to be read
+     * @param charset The encoding of the stream. If null, UTF-8 is used.
+     * @return A builder for a reader of the stream
+     * @since 5.0
+     */
+    public static CSVReaderBuilder fromInputStream(final InputStream in, final Charset charset) {
+        if (in == null) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("reader.null"));
+        }
+        final Charset cs = ObjectUtils.defaultIfNull(charset, StandardCharsets.UTF_8);
+        final CSVReaderBuilder builder = new CSVReaderBuilder(new InputStreamReader(in, cs));
+        builder.bytes = in;
+        builder.charset = cs;
+        return builder;
+    }
+
     /**
      * Used by unit tests.
      *
@@ -137,7 +205,8 @@ public class CSVReaderBuilder {
      */
     public CSVReader build() {
         final ICSVParser parser = getOrCreateCsvParser();
-        return new CSVReader(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale);
+        return new CSVReader(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale,
+                streamingTokenizer, getReaderProjection(), byteLevelTokenizer ? bytes : null, charset);
     }
 
     /**
@@ -169,6 +238,7 @@ public class CSVReaderBuilder {
                 parserBuilder
                         .withFieldAsNull(nullFieldIndicator)
                         .withErrorLocale(errorLocale)
+                        .withProjection(isProjectionForParser() ? projection.getColumns() : null)
                         .build());
     }
 
@@ -238,4 +308,150 @@ public class CSVReaderBuilder {
     public Locale getErrorLocale() {
         return errorLocale;
     }
+
+    /**
+     * Sets whether the reader tokenizes its input straight from a character
+     * buffer.
+     * <p>Normally the reader reads one line at a time into a String, passes it
+     * to the parser, and puts the results of several lines back together for
+     * multi-line records. The streaming tokenizer skips all of that: it runs
+     * one state machine over a reusable buffer filled directly from the
+     * underlying reader, so line breaks inside quoted fields cost no more than
+     * any other character and no intermediate Strings are created. This pays
+     * off most for large inputs and for input with many multi-line records.</p>
+     * <p>The streaming tokenizer honors all settings of a {@link CSVParser} as
+     * well as all settings of this builder. It is not available for other
+     * implementations of {@link ICSVParser}, including {@link RFC4180Parser};
+     * if such a parser is set with {@link #withCSVParser(ICSVParser)}, this
+     * setting is ignored. The parser itself is never called in this mode, so
+     * {@link ICSVParser#isPending()} and {@link ICSVParser#getPendingText()}
+     * tell nothing about the state of the reader.</p>
+     * <p>The two modes differ in rare edge cases of malformed input. In
+     * particular, with {@link #withKeepCarriageReturn(boolean)} set to true,
+     * an empty line does not end the input in this mode.</p>
+     * <p>The default is false.</p>
+     *
+     * @param streamingTokenizer Whether to use the streaming tokenizer
+     * @return {@code this}
+     * @since 5.0
+     */
+    public CSVReaderBuilder withStreamingTokenizer(boolean streamingTokenizer) {
+        this.streamingTokenizer = streamingTokenizer;
+        return this;
+    }
+
+    /**
+     * Used by unit tests.
+     * @return Whether the reader built will use the streaming tokenizer
+     * @since 5.0
+     */
+    protected boolean isStreamingTokenizer() {
+        return streamingTokenizer;
+    }
+
+    /**
+     * Sets whether the reader splits its input into fields before decoding
+     * it.
+     * <p>The byte-level tokenizer works like the
+     * {@link #withStreamingTokenizer(boolean) streaming tokenizer}, but scans
+     * the raw bytes of the input for separators, quotation characters,
+     * escape characters and line breaks, and decodes only the contents of
+     * the fields that are actually returned. ASCII characters need no
+     * decoding at all. This pays off most for input that is mostly ASCII,
+     * such as numeric data.</p>
+     * <p>It is only available for builders created with
+     * {@link #fromPath(Path, Charset)} or
+     * {@link #fromInputStream(InputStream, Charset)} for UTF-8 or US-ASCII
+     * input, with a {@link CSVParser} whose special characters are ASCII. If any of this is not the case, but the setting
+     * is true, the streaming tokenizer is used instead.</p>
+     * <p>The default is false.</p>
+     *
+     * @param byteLevelTokenizer Whether to use the byte-level tokenizer
+     * @return {@code this}
+     * @since 5.0
+     */
+    public CSVReaderBuilder withByteLevelTokenizer(boolean byteLevelTokenizer) {
+        this.byteLevelTokenizer = byteLevelTokenizer;
+        return this;
+    }
+
+    /**
+     * Used by unit tests.
+     * @return Whether the reader built will use the byte-level tokenizer, if
+     *   possible
+     * @since 5.0
+     */
+    protected boolean isByteLevelTokenizer() {
+        return byteLevelTokenizer;
+    }
+
+    /**
+     * Restricts the reader to a subset of columns, given by index.
+     * <p>Every record returned holds only the projected columns, in the order
+     * given here. If a record has fewer columns than a projected index, the
+     * field for that column is null.</p>
+     * <p>Whenever possible, the projection is pushed down to where the input
+     * is split into fields, so fields of columns that are not projected are
+     * scanned, but never turned into Strings. This is the case if the parser
+     * is created by this builder or if the
+     * {@link #withStreamingTokenizer(boolean) streaming tokenizer} is used.
+     * Otherwise, the projection is applied to the complete records. If a
+     * parser with its own {@link CSVParserBuilder#withProjection(int...)
+     * projection} is set, this projection applies to the columns that parser
+     * returns.</p>
+     *
+     * @param columns The zero-based indexes of the columns to be returned, in
+     *                the order in which they are to be returned. No columns
+     *                means all columns.
+     * @return {@code this}
+     * @throws IllegalArgumentException If an index is negative or repeated
+     * @since 5.0
+     */
+    public CSVReaderBuilder withProjection(int... columns) {
+        this.projection = ColumnProjection.ofIndexes(columns);
+        return this;
+    }
+
+    /**
+     * Restricts the reader to a subset of columns, given by header name.
+     * <p>The first record read after skipping lines is taken to be the
+     * header. It is returned like every other record, that is, with only the
+     * projected columns, so it can still be used by anything that expects a
+     * header. If a name appears in the header more than once, the first
+     * column with that name is used.</p>
+     * <p>Otherwise, this works like {@link #withProjection(int...)}, except
+     * that the projection can only be pushed down with the
+     * {@link #withStreamingTokenizer(boolean) streaming tokenizer}, and only
+     * for the records after the header.</p>
+     *
+     * @param names The header names of the columns to be returned, in the
+     *              order in which they are to be returned. No names means all
+     *              columns. Reading the header fails with an
+     *              {@link IllegalArgumentException} if one of them is
+     *              missing.
+     * @return {@code this}
+     * @since 5.0
+     */
+    public CSVReaderBuilder withProjectionByName(String... names) {
+        this.projection = ColumnProjection.ofNames(names);
+        return this;
+    }
+
+    /**
+     * @return Whether the projection is handed to the parser this builder
+     *   creates
+     */
+    private boolean isProjectionForParser() {
+        return icsvParser == null && projection != null && projection.isResolved();
+    }
+
+    /**
+     * Used by the builders of derived readers.
+     *
+     * @return The projection the reader has to take care of itself, or null
+     * @since 5.0
+     */
+    ColumnProjection getReaderProjection() {
+        return isProjectionForParser() ? null : projection;
+    }
 }
@@ -48,6 +48,30 @@ public class CSVReaderHeaderAware extends CSVReader {
         initializeHeader();
     }
 
+    /**
+     * Supports the streaming tokenizer and projections of the parent class.
+     * <p>This constructor intentionally has package access so only the
+     * builder can use it.</p>
+     *
+     * @param reader             The reader to an underlying CSV source
+     * @param skipLines          The number of lines to skip before reading
+     * @param parser             The parser to use to parse input
+     * @param keepCR             True to keep carriage returns in data read, false otherwise
+     * @param verifyReader       True to verify reader before each read, false otherwise
+     * @param multilineLimit     Allow the user to define the limit to the number of lines in a multiline record. Less than one means no limit.
+     * @param errorLocale        Set the locale for error messages. If null, the default locale is used.
+     * @param streamingTokenizer True to tokenize straight from a character buffer
+     * @param projection         The columns to be returned, or null for all columns
+     * @throws IOException   If bad things happen while initializing the header
+     * @since 5.0
+     */
+    CSVReaderHeaderAware(Reader reader, int skipLines, ICSVParser parser, boolean keepCR, boolean verifyReader,
+                         int multilineLimit, Locale errorLocale, boolean streamingTokenizer,
+                         ColumnProjection projection) throws IOException {
+        super(reader, skipLines, parser, keepCR, verifyReader, multilineLimit, errorLocale, streamingTokenizer, projection);
+        initializeHeader();
+    }
+
     /**
      * Retrieves a specific data element from a line based on the value of the header.
      *
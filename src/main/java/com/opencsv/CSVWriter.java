@@ -16,6 +16,8 @@ package com.opencsv;
  limitations under the License.
  */
 
+import com.opencsv.enums.CSVWriterFlushPolicy;
+
 import java.io.IOException;
 import java.io.Writer;
 
@@ -30,6 +32,13 @@ public class CSVWriter extends AbstractCSVWriter {
    protected final char quotechar;
    protected final char escapechar;
 
+   /** The buffer lines are formatted into, or null if every line goes to the writer on its own. */
+   private final CharOutputBuffer outputBuffer;
+   private final CSVWriterFlushPolicy flushPolicy;
+   private final int flushThreshold;
+   /** The number of lines or characters written since the writer was last flushed. */
+   private long writtenSinceFlush = 0;
+
    /**
     * Constructs CSVWriter using a comma for the separator.
     *
@@ -49,18 +58,121 @@ public class CSVWriter extends AbstractCSVWriter {
     * @param lineEnd    The line feed terminator to use
     */
    public CSVWriter(Writer writer, char separator, char quotechar, char escapechar, String lineEnd) {
+      this(writer, separator, quotechar, escapechar, lineEnd, 0, CSVWriterFlushPolicy.ON_CLOSE, 0);
+   }
+
+   /**
+    * Constructs CSVWriter with supplied separator, quote char, escape char,
+    * line ending and output buffering.
+    * <p>This constructor is package-private so only the builder can use it.</p>
+    *
+    * @param writer           The writer to an underlying CSV source.
+    * @param separator        The delimiter to use for separating entries
+    * @param quotechar        The character to use for quoted elements
+    * @param escapechar       The character to use for escaping quotechars or escapechars
+    * @param lineEnd          The line feed terminator to use
+    * @param outputBufferSize The size of the buffer lines are collected in
+    *                         before they are handed to the writer, or zero
+    *                         to hand every line to the writer on its own
+    * @param flushPolicy      When buffered output is pushed to the writer
+    * @param flushThreshold   The number of lines or characters after which
+    *                         the writer is flushed, depending on the policy
+    * @see CSVWriterBuilder#withBufferedOutput(boolean)
+    */
+   CSVWriter(Writer writer, char separator, char quotechar, char escapechar, String lineEnd,
+             int outputBufferSize, CSVWriterFlushPolicy flushPolicy, int flushThreshold) {
       super(writer, lineEnd);
       this.escapechar = escapechar;
       this.quotechar = quotechar;
       this.separator = separator;
+      this.outputBuffer = outputBufferSize > 0 ? new CharOutputBuffer(writer, outputBufferSize) : null;
+      this.flushPolicy = flushPolicy;
+      this.flushThreshold = flushThreshold;
    }
 
+   @Override
+   public void writeNext(String[] nextLine, boolean applyQuotesToAll) {
+      if (outputBuffer == null) {
+         super.writeNext(nextLine, applyQuotesToAll);
+         return;
+      }
+      try {
+         appendBuffered(nextLine, applyQuotesToAll);
+      } catch (IOException e) {
+         exception = e;
+      }
+   }
+
+   @Override
+   public void writeAll(Iterable<String[]> allLines, boolean applyQuotesToAll) {
+      if (outputBuffer == null) {
+         super.writeAll(allLines, applyQuotesToAll);
+         return;
+      }
+      try {
+         for (String[] line : allLines) {
+            appendBuffered(line, applyQuotesToAll);
+         }
+      } catch (IOException e) {
+         exception = e;
+      }
+   }
+
+   /**
+    * Formats one line into the output buffer, counts it and flushes the
+    * writer if the flush policy asks for it.
+    *
+    * @param nextLine         The fields of the line, or null for nothing
+    * @param applyQuotesToAll Whether all values are to be quoted
+    * @throws IOException If the writer throws one
+    */
+   private void appendBuffered(String[] nextLine, boolean applyQuotesToAll) throws IOException {
+      if (nextLine == null) {
+         return;
+      }
+      long before = outputBuffer.getCharactersAppended();
+      appendLine(nextLine, applyQuotesToAll, outputBuffer);
+      long characters = outputBuffer.getCharactersAppended() - before;
+      recordsWritten++;
+      charactersWritten += characters;
+
+      switch (flushPolicy) {
+         case ROWS:
+            writtenSinceFlush++;
+            break;
+         case CHARACTERS:
+            writtenSinceFlush += characters;
+            break;
+         default:
+            return;
+      }
+      if (writtenSinceFlush >= flushThreshold) {
+         flush();
+      }
+   }
 
    @Override
    protected void writeNext(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
       if (nextLine == null) {
          return;
       }
+      appendLine(nextLine, applyQuotesToAll, appendable);
+      writer.write(appendable.toString());
+   }
+
+   /**
+    * Formats one line, including the line end, into the given appendable
+    * without writing it out.
+    *
+    * @param nextLine         The fields of the line, or null for nothing
+    * @param applyQuotesToAll Whether all values are to be quoted
+    * @param appendable       The destination of the formatted line
+    * @throws IOException If the appendable throws one
+    */
+   private void appendLine(String[] nextLine, boolean applyQuotesToAll, Appendable appendable) throws IOException {
+      if (nextLine == null) {
+         return;
+      }
 
       for (int i = 0; i < nextLine.length; i++) {
 
@@ -88,7 +200,6 @@ public class CSVWriter extends AbstractCSVWriter {
       }
 
       appendable.append(lineEnd);
-      writer.write(appendable.toString());
    }
 
    private void appendQuoteCharacterIfNeeded(boolean applyQuotesToAll, Appendable appendable, Boolean stringContainsSpecialCharacters) throws IOException {
@@ -103,11 +214,13 @@ public class CSVWriter extends AbstractCSVWriter {
     * @return True if the line contains the quote, escape, separator, newline, or return.
     */
    protected boolean stringContainsSpecialCharacters(String line) {
-      return line.indexOf(quotechar) != -1
-              || line.indexOf(escapechar) != -1
-              || line.indexOf(separator) != -1
-              || line.contains(DEFAULT_LINE_END)
-              || line.contains("\r");
+      for (int i = 0; i < line.length(); i++) {
+         char c = line.charAt(i);
+         if (c == quotechar || c == escapechar || c == separator || c == '\n' || c == '\r') {
+            return true;
+         }
+      }
+      return false;
    }
 
    /**
@@ -150,4 +263,25 @@ public class CSVWriter extends AbstractCSVWriter {
               : (nextChar == quotechar || nextChar == escapechar);
    }
 
+   @Override
+   public void flush() throws IOException {
+      if (outputBuffer != null) {
+         outputBuffer.drain();
+         writtenSinceFlush = 0;
+      }
+      super.flush();
+   }
+
+   @Override
+   public boolean checkError() {
+      if (outputBuffer != null) {
+         try {
+            outputBuffer.drain();
+         } catch (IOException e) {
+            exception = e;
+         }
+      }
+      return super.checkError();
+   }
+
 }
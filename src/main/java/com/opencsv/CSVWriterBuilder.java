@@ -1,6 +1,10 @@
 package com.opencsv;
 
+import com.opencsv.enums.CSVWriterFlushPolicy;
+import org.apache.commons.lang3.ObjectUtils;
+
 import java.io.Writer;
+import java.util.ResourceBundle;
 
 /**
  * Builder for creating the CSVWriter.
@@ -41,6 +45,9 @@ public class CSVWriterBuilder {
     private Character quotechar;
     private Character escapechar;
     private String lineEnd = ICSVWriter.DEFAULT_LINE_END;
+    private int outputBufferSize = 0;
+    private CSVWriterFlushPolicy flushPolicy = CSVWriterFlushPolicy.ON_CLOSE;
+    private int flushThreshold = 0;
 
     /**
      * Constructor taking a writer for the resulting CSV output.  This is because the Writer is required and
@@ -125,6 +132,94 @@ public class CSVWriterBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the CSVWriter collects its output in a reusable buffer.
+     * <p>By default every line is formatted into a new StringBuilder and
+     * handed to the writer as a String of its own. With buffered output,
+     * lines are formatted straight into one reusable character array that is
+     * handed to the writer whenever it is full, so writing a line allocates
+     * nothing. The price is that lines reach the writer only when the buffer
+     * is full or when {@link ICSVWriter#flush()}, {@link ICSVWriter#close()}
+     * or {@link ICSVWriter#checkError()} is called, and that subclasses of
+     * CSVWriter must not rely on their override of
+     * {@link CSVWriter#writeNext(String[], boolean, Appendable)} being
+     * called.</p>
+     * <p>The buffer holds 65536 characters unless
+     * {@link #withOutputBufferSize(int)} says otherwise. Buffered output also
+     * makes {@link ICSVWriter#writeAll(Iterable, boolean)} collect many lines
+     * before it touches the writer, so there is no need to wrap the writer in
+     * a {@link java.io.BufferedWriter}.</p>
+     * <p>This has no effect if a parser has been set.</p>
+     *
+     * @param bufferedOutput Whether output is buffered. The default is false.
+     * @return The CSVWriterBuilder with buffered output set.
+     * @see #withFlushPolicy(CSVWriterFlushPolicy, int)
+     * @since 5.0
+     */
+    public CSVWriterBuilder withBufferedOutput(boolean bufferedOutput) {
+        if (!bufferedOutput) {
+            this.outputBufferSize = 0;
+        } else if (outputBufferSize == 0) {
+            this.outputBufferSize = CharOutputBuffer.DEFAULT_BUFFER_SIZE;
+        }
+        return this;
+    }
+
+    /**
+     * Sets the size of the buffer the CSVWriter collects its output in, and
+     * turns {@link #withBufferedOutput(boolean) buffered output} on.
+     * <p>Large sequential writes are cheapest for most writers, so the
+     * buffer should be large enough to hold many lines.</p>
+     *
+     * @param outputBufferSize The size of the buffer in characters
+     * @return The CSVWriterBuilder with the output buffer size set.
+     * @throws IllegalArgumentException If the size is less than one
+     * @since 5.0
+     */
+    public CSVWriterBuilder withOutputBufferSize(int outputBufferSize) {
+        if (outputBufferSize < 1) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("writer.buffer.size.invalid"),
+                    outputBufferSize));
+        }
+        this.outputBufferSize = outputBufferSize;
+        return this;
+    }
+
+    /**
+     * Sets when the CSVWriter pushes its buffered output to the writer and
+     * flushes it, and turns {@link #withBufferedOutput(boolean) buffered
+     * output} on.
+     * <p>With {@link CSVWriterFlushPolicy#ON_CLOSE}, the default, the writer
+     * receives output whenever the buffer is full, but is only flushed by
+     * {@link ICSVWriter#flush()} and {@link ICSVWriter#close()}. With
+     * {@link CSVWriterFlushPolicy#ROWS} or
+     * {@link CSVWriterFlushPolicy#CHARACTERS}, it is also flushed once the
+     * given number of lines or characters has been written since the last
+     * flush, which bounds how much output is lost if the program dies.</p>
+     *
+     * @param flushPolicy    When the writer is flushed. Null means
+     *                       {@link CSVWriterFlushPolicy#ON_CLOSE}.
+     * @param flushThreshold The number of lines or characters after which
+     *                       the writer is flushed. Ignored for
+     *                       {@link CSVWriterFlushPolicy#ON_CLOSE}.
+     * @return The CSVWriterBuilder with the flush policy set.
+     * @throws IllegalArgumentException If the policy needs a threshold and
+     *                                  the threshold is less than one
+     * @since 5.0
+     */
+    public CSVWriterBuilder withFlushPolicy(CSVWriterFlushPolicy flushPolicy, int flushThreshold) {
+        CSVWriterFlushPolicy policy = ObjectUtils.defaultIfNull(flushPolicy, CSVWriterFlushPolicy.ON_CLOSE);
+        if (policy != CSVWriterFlushPolicy.ON_CLOSE && flushThreshold < 1) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("writer.flush.threshold.invalid"),
+                    flushThreshold));
+        }
+        this.flushPolicy = policy;
+        this.flushThreshold = flushThreshold;
+        return withBufferedOutput(true);
+    }
+
     /**
      * Creates the CSVWriter.
      *
@@ -151,6 +246,7 @@ public class CSVWriterBuilder {
         if (escapechar == null) {
             escapechar = ICSVWriter.DEFAULT_ESCAPE_CHARACTER;
         }
-        return new CSVWriter(writer, separator, quotechar, escapechar, lineEnd);
+        return new CSVWriter(writer, separator, quotechar, escapechar, lineEnd,
+                outputBufferSize, flushPolicy, flushThreshold);
     }
 }
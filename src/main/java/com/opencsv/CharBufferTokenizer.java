@@ -0,0 +1,235 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Splits input into records and fields straight from a reusable character
+ * buffer that is filled from a {@link Reader}.
+ * <p>This is the engine behind {@link CSVReaderBuilder#withStreamingTokenizer(boolean)}.
+ * Where {@link CSVReader} normally reads a line into a String, hands it to the
+ * parser and glues the results of multi-line records back together, this
+ * class runs one state machine over the raw input in which line breaks are
+ * just another kind of character. Field contents are collected in a
+ * {@link CsvRecord} that is reused for every record, so the only objects
+ * created per record are the Strings that are finally handed to the
+ * caller, if any. The rules it follows are described in
+ * {@link StreamingTokenizer}.</p>
+ * <p>This class is not thread-safe.</p>
+ *
+ * @since 5.0
+ */
+final class CharBufferTokenizer extends StreamingTokenizer {
+
+    /** The default size of the input buffer in characters. */
+    static final int DEFAULT_BUFFER_SIZE = 32768;
+
+    private final Reader reader;
+
+    // Input window
+    private final char[] buf;
+    private int pos = 0;
+    private int limit = 0;
+    private boolean endOfInput = false;
+    /** The last character of the previous window, needed to look behind a quotation character at position 0. */
+    private char lastCharOfPreviousWindow = 0;
+    /** The number of characters consumed before the current window. */
+    private long windowOffset = 0;
+    /** Absolute offset of the first character of the current physical line. */
+    private long lineStart = 0;
+
+    /**
+     * Creates a tokenizer that follows the rules of the given parser.
+     *
+     * @param reader         The source of the input
+     * @param parser         The parser whose configuration is to be copied.
+     *                       This must be a {@link CSVParser}.
+     * @param keepCR         Whether carriage returns are data
+     * @param multilineLimit The maximum number of lines in one record. Less
+     *                       than one means no limit.
+     * @param bufferSize     The size of the input window in characters
+     * @throws IllegalArgumentException If the parser is of another type
+     */
+    CharBufferTokenizer(Reader reader, ICSVParser parser, boolean keepCR, int multilineLimit, int bufferSize) {
+        super(parser, keepCR, multilineLimit);
+        this.reader = reader;
+        this.buf = new char[Math.max(1, bufferSize)];
+    }
+
+    @Override
+    boolean readRecord(CsvRecord target) throws IOException {
+        startRecord(target);
+        if (pos >= limit && !fill()) {
+            return false;
+        }
+        linesInRecord = 1;
+
+        boolean inQuotes = false;
+        boolean inField = false;
+        boolean fromQuotedField = false;
+        while (true) {
+            if (pos >= limit && !fill()) {
+                if (inQuotes && !ignoreQuotations) {
+                    // Like CSVParser, which adds the line break before it
+                    // knows there is no next line
+                    append('\n');
+                    unterminated = true;
+                    return true;
+                }
+                endField(fromQuotedField);
+                return true;
+            }
+            final boolean quoted = inQuotes && !ignoreQuotations;
+
+            // Take a run of ordinary characters in one go.
+            final int runStart = pos;
+            while (pos < limit && !isSpecial(buf[pos], quoted)) {
+                pos++;
+            }
+            if (pos > runStart) {
+                if (!strictQuotes || quoted) {
+                    if (copying) {
+                        record.append(buf, runStart, pos - runStart);
+                    }
+                    inField = true;
+                    fromQuotedField = true;
+                }
+                continue;
+            }
+
+            final char c = buf[pos++];
+            if (hasEscape && c == escape) {
+                if (quoted || inField) {
+                    int next = peek();
+                    if (next != -1 && (next == quotechar || next == escape)) {
+                        pos++;
+                        append((char) next);
+                    }
+                }
+            } else if (hasQuotechar && c == quotechar) {
+                final long quoteOffset = windowOffset + pos - 1;
+                final char previous = pos >= 2 ? buf[pos - 2] : lastCharOfPreviousWindow;
+                int next = peek();
+                if ((quoted || inField) && next == quotechar) {
+                    pos++;
+                    append(quotechar);
+                } else {
+                    inQuotes = !inQuotes;
+                    if (record.isCurrentFieldEmpty()) {
+                        fromQuotedField = true;
+                    }
+
+                    // The tricky case of an embedded quote in the middle: a,bc"d"ef,g
+                    if (!strictQuotes
+                            && quoteOffset - lineStart >= BEGINNING_OF_LINE
+                            && previous != separator
+                            && next != -1 && !isLineBreak((char) next)
+                            && next != separator) {
+                        if (ignoreLeadingWhiteSpace && !record.isCurrentFieldEmpty() && record.isCurrentFieldWhitespace()) {
+                            record.clearCurrentField();
+                        } else {
+                            append(quotechar);
+                        }
+                    }
+                }
+                inField = !inField;
+            } else if (c == separator && !quoted) {
+                endField(fromQuotedField);
+                fromQuotedField = false;
+                inField = false;
+            } else if (isLineBreak(c)) {
+                if (c == '\r' && peek() == '\n') {
+                    pos++;
+                }
+                lineStart = windowOffset + pos;
+                if (!quoted) {
+                    endField(fromQuotedField);
+                    return true;
+                }
+                append('\n');
+                if (pos >= limit && !fill()) {
+                    unterminated = true;
+                    return true;
+                }
+                linesInRecord++;
+                if (multilineLimit > 0 && linesInRecord > multilineLimit) {
+                    multilineLimitBroken = true;
+                    return true;
+                }
+            } else if (!strictQuotes || quoted) {
+                // A separator inside quotes
+                append(c);
+                inField = true;
+                fromQuotedField = true;
+            }
+        }
+    }
+
+    @Override
+    boolean skipLine() throws IOException {
+        if (pos >= limit && !fill()) {
+            return false;
+        }
+        while (pos < limit || fill()) {
+            final char c = buf[pos++];
+            if (isLineBreak(c)) {
+                if (c == '\r' && peek() == '\n') {
+                    pos++;
+                }
+                break;
+            }
+        }
+        lineStart = windowOffset + pos;
+        return true;
+    }
+
+    private boolean isSpecial(char c, boolean quoted) {
+        return (c == separator && !quoted)
+                || (hasQuotechar && c == quotechar)
+                || (hasEscape && c == escape)
+                || isLineBreak(c);
+    }
+
+    /**
+     * Looks at the next character without consuming it, refilling the window
+     * if necessary.
+     *
+     * @return The next character, or -1 at the end of the input
+     * @throws IOException If reading from the underlying reader fails
+     */
+    private int peek() throws IOException {
+        if (pos >= limit && !fill()) {
+            return -1;
+        }
+        return buf[pos];
+    }
+
+    /**
+     * Refills the input window. Must only be called when the window has been
+     * consumed completely.
+     *
+     * @return False at the end of the input, true otherwise
+     * @throws IOException If reading from the underlying reader fails
+     */
+    private boolean fill() throws IOException {
+        if (endOfInput) {
+            return false;
+        }
+        if (limit > 0) {
+            lastCharOfPreviousWindow = buf[limit - 1];
+        }
+        windowOffset += limit;
+        pos = 0;
+        limit = 0;
+        int n;
+        do {
+            n = reader.read(buf, 0, buf.length);
+        } while (n == 0);
+        if (n < 0) {
+            endOfInput = true;
+            return false;
+        }
+        limit = n;
+        return true;
+    }
+}
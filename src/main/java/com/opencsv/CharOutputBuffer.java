@@ -0,0 +1,111 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * A reusable character buffer in front of a {@link Writer}.
+ * <p>{@link CSVWriter} formats lines straight into this buffer when it is
+ * built with {@link CSVWriterBuilder#withBufferedOutput(boolean) buffered
+ * output}. Nothing is allocated per line: fields are copied into the array
+ * with {@link String#getChars(int, int, char[], int)}, and the array is
+ * handed to the writer only when it is full or when it is drained
+ * explicitly. Strings longer than the whole buffer bypass it.</p>
+ * <p>This class is not thread-safe.</p>
+ *
+ * @since 5.0
+ */
+final class CharOutputBuffer implements Appendable {
+
+    /** The default size of the buffer in characters. */
+    static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    private final Writer writer;
+    private final char[] buf;
+    private int pos = 0;
+    /** The number of characters appended since this buffer was created. */
+    private long appended = 0;
+
+    /**
+     * @param writer     The destination of the buffered characters
+     * @param bufferSize The size of the buffer in characters
+     */
+    CharOutputBuffer(Writer writer, int bufferSize) {
+        this.writer = writer;
+        this.buf = new char[Math.max(1, bufferSize)];
+    }
+
+    @Override
+    public CharOutputBuffer append(CharSequence csq) throws IOException {
+        if (csq == null) {
+            csq = "null";
+        }
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public CharOutputBuffer append(CharSequence csq, int start, int end) throws IOException {
+        if (csq == null) {
+            csq = "null";
+        }
+        final int length = end - start;
+        appended += length;
+        if (length > buf.length - pos) {
+            drain();
+            if (length > buf.length) {
+                writer.append(csq, start, end);
+                return this;
+            }
+        }
+        if (csq instanceof String) {
+            ((String) csq).getChars(start, end, buf, pos);
+        } else {
+            for (int i = start; i < end; i++) {
+                buf[pos + i - start] = csq.charAt(i);
+            }
+        }
+        pos += length;
+        return this;
+    }
+
+    @Override
+    public CharOutputBuffer append(char c) throws IOException {
+        if (pos == buf.length) {
+            drain();
+        }
+        buf[pos++] = c;
+        appended++;
+        return this;
+    }
+
+    /**
+     * @return The number of characters appended since this buffer was
+     *   created, whether or not they have been handed to the writer yet
+     */
+    long getCharactersAppended() {
+        return appended;
+    }
+
+    /**
+     * Hands everything buffered so far to the writer. The writer itself is
+     * not flushed.
+     *
+     * @throws IOException If the writer throws one
+     */
+    void drain() throws IOException {
+        if (pos > 0) {
+            int length = pos;
+            pos = 0;
+            writer.write(buf, 0, length);
+        }
+    }
+
+    /**
+     * @return The buffered characters that have not been handed to the
+     *   writer yet
+     */
+    @Override
+    public String toString() {
+        return new String(buf, 0, pos);
+    }
+}
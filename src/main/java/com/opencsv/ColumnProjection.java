@@ -0,0 +1,188 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * The subset of columns a reader or parser is to return, in the order in
+ * which they are to be returned.
+ * <p>A projection is defined either by column indexes or by header names.
+ * A projection by header names must be {@link #resolve(String[], Locale)
+ * resolved} against the header record before it can be applied.</p>
+ * <p>Projected records always have one field per projected column. Fields
+ * for columns a record does not have are null.</p>
+ * <p>Instances are immutable.</p>
+ *
+ * @since 5.0
+ */
+final class ColumnProjection {
+
+    private static final int NOT_PROJECTED = -1;
+
+    /** The projected column indexes in output order, or null if not resolved yet. */
+    private final int[] columns;
+
+    /** The projected header names in output order, or null for a projection by index. */
+    private final String[] names;
+
+    /**
+     * The projected column indexes in ascending order, to be searched by
+     * {@link #positionOf(int)}, or null if not resolved yet. This takes no
+     * more space than {@link #columns}, however large the indexes are.
+     */
+    private final int[] sortedColumns;
+
+    /** The position in the output of each column in {@link #sortedColumns}. */
+    private final int[] sortedPositions;
+
+    /**
+     * @param columns       The projected column indexes in output order, or
+     *                      null
+     * @param sortedColumns The same indexes in ascending order, or null
+     * @param names         The projected header names, or null
+     */
+    private ColumnProjection(int[] columns, int[] sortedColumns, String[] names) {
+        this.columns = columns;
+        this.sortedColumns = sortedColumns;
+        this.names = names;
+        if (columns == null) {
+            this.sortedPositions = null;
+        } else {
+            this.sortedPositions = new int[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                sortedPositions[Arrays.binarySearch(sortedColumns, columns[i])] = i;
+            }
+        }
+    }
+
+    /**
+     * Creates a projection by column indexes.
+     *
+     * @param columns The zero-based indexes of the columns to be returned, in
+     *                the order in which they are to be returned
+     * @return The projection, or null if no columns are given
+     * @throws IllegalArgumentException If an index is negative or repeated
+     */
+    static ColumnProjection ofIndexes(int... columns) {
+        if (ArrayUtils.isEmpty(columns)) {
+            return null;
+        }
+        for (int column : columns) {
+            if (column < 0) {
+                throw invalidColumn(column);
+            }
+        }
+        int[] sorted = columns.clone();
+        Arrays.sort(sorted);
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] == sorted[i - 1]) {
+                throw invalidColumn(sorted[i]);
+            }
+        }
+        return new ColumnProjection(columns.clone(), sorted, null);
+    }
+
+    private static IllegalArgumentException invalidColumn(int column) {
+        return new IllegalArgumentException(String.format(
+                ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("projection.column.invalid"),
+                column));
+    }
+
+    /**
+     * Creates a projection by header names.
+     *
+     * @param names The header names of the columns to be returned, in the
+     *              order in which they are to be returned
+     * @return The projection, or null if no names are given
+     */
+    static ColumnProjection ofNames(String... names) {
+        return ArrayUtils.isEmpty(names) ? null : new ColumnProjection(null, null, names.clone());
+    }
+
+    /**
+     * @return Whether the column indexes are known
+     */
+    boolean isResolved() {
+        return columns != null;
+    }
+
+    /**
+     * Turns a projection by header names into a projection by column
+     * indexes. If a name appears more than once in the header, the first
+     * column with that name is used.
+     *
+     * @param header      The header record
+     * @param errorLocale The locale for error messages
+     * @return A resolved projection
+     * @throws IllegalArgumentException If one of the names is not in the header
+     */
+    ColumnProjection resolve(String[] header, Locale errorLocale) {
+        if (isResolved()) {
+            return this;
+        }
+        int[] resolved = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            resolved[i] = ArrayUtils.indexOf(header, names[i]);
+            if (resolved[i] == ArrayUtils.INDEX_NOT_FOUND) {
+                throw new IllegalArgumentException(String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("header.nonexistant"),
+                        names[i]));
+            }
+        }
+        return ofIndexes(resolved);
+    }
+
+    /**
+     * @return The number of fields in a projected record
+     */
+    int size() {
+        return columns == null ? names.length : columns.length;
+    }
+
+    /**
+     * Determines where a column goes in a projected record.
+     *
+     * @param column The zero-based index of the column in the input
+     * @return The zero-based index of the column in the projected record, or
+     *   a negative number if the column is not projected
+     */
+    int positionOf(int column) {
+        int i = Arrays.binarySearch(sortedColumns, column);
+        return i >= 0 ? sortedPositions[i] : NOT_PROJECTED;
+    }
+
+    /**
+     * @param column The zero-based index of the column in the input
+     * @return Whether the column is part of the projection
+     */
+    boolean includes(int column) {
+        return positionOf(column) != NOT_PROJECTED;
+    }
+
+    /**
+     * Applies the projection to a complete record.
+     *
+     * @param record The record with all of its columns
+     * @return The projected record
+     */
+    String[] project(String[] record) {
+        String[] result = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] < record.length) {
+                result[i] = record[columns[i]];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The projected column indexes in output order, or null for an
+     *   unresolved projection by header names
+     */
+    int[] getColumns() {
+        return columns == null ? null : columns.clone();
+    }
+}
@@ -0,0 +1,496 @@
+package com.opencsv;
+
+import java.util.Arrays;
+
+/**
+ * One record of input, as filled in by {@link CSVReader#nextRecord(CsvRecord)}.
+ * <p>A record keeps the contents of all of its fields in a single character
+ * array and is meant to be reused for every record read. Fields are not
+ * turned into Strings unless asked for: {@link #get(int)} offers a
+ * {@link CharSequence} view of a field, and {@link #getInt(int)},
+ * {@link #getLong(int)} and {@link #getDouble(int)} parse numbers straight
+ * from the buffer. A job that needs three columns out of eighty thus pays
+ * for three columns only.</p>
+ * <p>Everything obtained from a record without copying, that is the views
+ * returned by {@link #get(int)} and the array returned by
+ * {@link #getBuffer()}, is only valid until the record is filled again.
+ * Call {@link #getString(int)} or {@link #toArray()} for values that must
+ * survive.</p>
+ * <p>This class is not thread-safe.</p>
+ *
+ * @since 5.0
+ */
+public class CsvRecord {
+
+    private static final int INITIAL_FIELD_CAPACITY = 16;
+
+    /** Powers of ten that can be represented exactly as a double. */
+    private static final double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20,
+            1e21, 1e22};
+
+    /** The largest integer up to which every integer can be represented exactly as a double. */
+    private static final long MAX_EXACT_DOUBLE_MANTISSA = 1L << 53;
+
+    char[] data = new char[ICSVParser.INITIAL_READ_SIZE];
+    int dataLength = 0;
+    private int[] starts = new int[INITIAL_FIELD_CAPACITY];
+    private int[] ends = new int[INITIAL_FIELD_CAPACITY];
+    private boolean[] nulls = new boolean[INITIAL_FIELD_CAPACITY];
+    private int fieldCount = 0;
+    private int currentFieldStart = 0;
+    private FieldView[] views = new FieldView[0];
+
+    /**
+     * Creates an empty record, ready to be passed to
+     * {@link CSVReader#nextRecord(CsvRecord)}.
+     */
+    public CsvRecord() {}
+
+    /**
+     * @return The number of fields in the record
+     */
+    public int size() {
+        return fieldCount;
+    }
+
+    /**
+     * Determines whether a field is null. Fields are only null if the
+     * {@link com.opencsv.enums.CSVReaderNullFieldIndicator null field indicator}
+     * of the parser says so.
+     *
+     * @param index The zero-based index of the field
+     * @return Whether the field is null
+     * @throws ArrayIndexOutOfBoundsException If there is no such field
+     */
+    public boolean isNull(int index) {
+        checkIndex(index);
+        return nulls[index];
+    }
+
+    /**
+     * Returns a view of one field without copying it.
+     * The view is only valid until the record is filled again.
+     *
+     * @param index The zero-based index of the field
+     * @return The field, or null if the field is null
+     * @throws ArrayIndexOutOfBoundsException If there is no such field
+     */
+    public CharSequence get(int index) {
+        checkIndex(index);
+        if (nulls[index]) {
+            return null;
+        }
+        if (index >= views.length) {
+            int oldLength = views.length;
+            views = Arrays.copyOf(views, Math.max(fieldCount, oldLength * 2));
+            for (int i = oldLength; i < views.length; i++) {
+                views[i] = new FieldView(i);
+            }
+        }
+        return views[index];
+    }
+
+    /**
+     * Returns the array holding the contents of all fields.
+     * Together with {@link #getStart(int)} and {@link #getLength(int)}, this
+     * offers the most direct access to a field. The array is only valid until
+     * the record is filled again, and it must not be modified.
+     *
+     * @return The internal buffer of the record
+     */
+    public char[] getBuffer() {
+        return data;
+    }
+
+    /**
+     * @param index The zero-based index of the field
+     * @return The position of the first character of the field in
+     *   {@link #getBuffer()}
+     * @throws ArrayIndexOutOfBoundsException If there is no such field
+     */
+    public int getStart(int index) {
+        checkIndex(index);
+        return starts[index];
+    }
+
+    /**
+     * @param index The zero-based index of the field
+     * @return The number of characters in the field. Null fields have a
+     *   length of zero.
+     * @throws ArrayIndexOutOfBoundsException If there is no such field
+     */
+    public int getLength(int index) {
+        checkIndex(index);
+        return ends[index] - starts[index];
+    }
+
+    /**
+     * Copies one field into a new String.
+     *
+     * @param index The zero-based index of the field
+     * @return The field, or null if the field is null
+     * @throws ArrayIndexOutOfBoundsException If there is no such field
+     */
+    public String getString(int index) {
+        checkIndex(index);
+        return nulls[index] ? null : new String(data, starts[index], ends[index] - starts[index]);
+    }
+
+    /**
+     * Parses one field as an int without creating a String.
+     * The same input is accepted as by {@link Integer#parseInt(String)}.
+     *
+     * @param index The zero-based index of the field
+     * @return The value of the field
+     * @throws NumberFormatException If the field does not hold an int
+     * @throws ArrayIndexOutOfBoundsException If there is no such field
+     */
+    public int getInt(int index) {
+        long value = parseLong(index, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return value == Long.MIN_VALUE ? Integer.parseInt(getString(index)) : (int) value;
+    }
+
+    /**
+     * Parses one field as a long without creating a String.
+     * The same input is accepted as by {@link Long#parseLong(String)}.
+     *
+     * @param index The zero-based index of the field
+     * @return The value of the field
+     * @throws NumberFormatException If the field does not hold a long
+     * @throws ArrayIndexOutOfBoundsException If there is no such field
+     */
+    public long getLong(int index) {
+        // Long.MIN_VALUE itself is rare enough to be left to the slow path.
+        long value = parseLong(index, -Long.MAX_VALUE, Long.MAX_VALUE);
+        return value == Long.MIN_VALUE ? Long.parseLong(getString(index)) : value;
+    }
+
+    /**
+     * Parses one field as a double.
+     * The same input is accepted as by {@link Double#parseDouble(String)},
+     * and the result is the same. Plain decimal numbers of up to fifteen or so
+     * significant digits are parsed without creating a String; everything
+     * else is handed to {@link Double#parseDouble(String)}.
+     *
+     * @param index The zero-based index of the field
+     * @return The value of the field
+     * @throws NumberFormatException If the field does not hold a double
+     * @throws NullPointerException If the field is null
+     * @throws ArrayIndexOutOfBoundsException If there is no such field
+     */
+    public double getDouble(int index) {
+        checkIndex(index);
+        if (!nulls[index]) {
+            int i = starts[index];
+            final int end = ends[index];
+            boolean negative = false;
+            if (i < end && (data[i] == '-' || data[i] == '+')) {
+                negative = data[i] == '-';
+                i++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int fractionDigits = -1;
+            boolean exact = i < end;
+            for (; i < end && exact; i++) {
+                char c = data[i];
+                if (c >= '0' && c <= '9') {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits++;
+                    if (fractionDigits >= 0) {
+                        fractionDigits++;
+                    }
+                    exact = mantissa <= MAX_EXACT_DOUBLE_MANTISSA;
+                } else if (c == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                } else {
+                    exact = false;
+                }
+            }
+            if (exact && digits > 0 && fractionDigits < EXACT_POWERS_OF_TEN.length) {
+                // Both operands are exact, so the single rounding of the
+                // division yields the correctly rounded result.
+                double value = fractionDigits > 0 ?
+                        mantissa / EXACT_POWERS_OF_TEN[fractionDigits] :
+                        mantissa;
+                return negative ? -value : value;
+            }
+        }
+        return Double.parseDouble(getString(index));
+    }
+
+    /**
+     * Copies all fields into a new array of Strings, as
+     * {@link CSVReader#readNext()} would have returned them.
+     *
+     * @return The fields of the record
+     */
+    public String[] toArray() {
+        String[] result = new String[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            result[i] = nulls[i] ? null : new String(data, starts[i], ends[i] - starts[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Parses an integer field without overflowing.
+     *
+     * @param index The zero-based index of the field
+     * @param min   The smallest value allowed
+     * @param max   The largest value allowed
+     * @return The value, or {@link Long#MIN_VALUE} if the field is anything
+     *   but an optional sign followed by ASCII digits within the given range
+     */
+    private long parseLong(int index, long min, long max) {
+        checkIndex(index);
+        if (nulls[index]) {
+            return Long.MIN_VALUE;
+        }
+        int i = starts[index];
+        final int end = ends[index];
+        boolean negative = false;
+        if (i < end && (data[i] == '-' || data[i] == '+')) {
+            negative = data[i] == '-';
+            i++;
+        }
+        if (i == end) {
+            return Long.MIN_VALUE;
+        }
+        final long bound = negative ? -min : max;
+        long value = 0;
+        for (; i < end; i++) {
+            char c = data[i];
+            if (c < '0' || c > '9') {
+                return Long.MIN_VALUE;
+            }
+            int digit = c - '0';
+            if (value > (bound - digit) / 10) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= fieldCount) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+    }
+
+    /**
+     * Empties the record before it is filled again.
+     */
+    void clear() {
+        dataLength = 0;
+        fieldCount = 0;
+        currentFieldStart = 0;
+    }
+
+    /**
+     * Empties the record before it is filled again with a fixed number of
+     * fields. Until {@link #endField(int, boolean)} is called for them, all
+     * fields are null.
+     *
+     * @param size The number of fields
+     */
+    void clear(int size) {
+        clear();
+        ensureFieldCapacity(size);
+        Arrays.fill(starts, 0, size, 0);
+        Arrays.fill(ends, 0, size, 0);
+        Arrays.fill(nulls, 0, size, true);
+        fieldCount = size;
+    }
+
+    /**
+     * Fills the record with the fields of a record that has already been
+     * split into Strings.
+     *
+     * @param fields The fields
+     */
+    void set(String[] fields) {
+        clear();
+        for (String field : fields) {
+            if (field != null) {
+                int length = field.length();
+                ensureCapacity(length);
+                field.getChars(0, length, data, dataLength);
+                dataLength += length;
+            }
+            endField(field == null);
+        }
+    }
+
+    /**
+     * Adds one character to the current field.
+     *
+     * @param c The character
+     */
+    void append(char c) {
+        if (dataLength == data.length) {
+            data = Arrays.copyOf(data, data.length * 2);
+        }
+        data[dataLength++] = c;
+    }
+
+    /**
+     * Adds characters to the current field.
+     *
+     * @param source The source of the characters
+     * @param offset The position of the first character in the source
+     * @param length The number of characters
+     */
+    void append(char[] source, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(source, offset, data, dataLength, length);
+        dataLength += length;
+    }
+
+    /**
+     * Adds ASCII characters to the current field, up to the first byte that
+     * is not ASCII.
+     *
+     * @param source The source of the characters, one byte per character
+     * @param offset The position of the first byte in the source
+     * @param length The number of bytes
+     * @return The number of bytes added
+     */
+    int appendAscii(byte[] source, int offset, int length) {
+        ensureCapacity(length);
+        final char[] target = data;
+        final int start = dataLength;
+        int i = 0;
+        while (i < length) {
+            final byte b = source[offset + i];
+            if (b < 0) {
+                break;
+            }
+            target[start + i] = (char) b;
+            i++;
+        }
+        dataLength += i;
+        return i;
+    }
+
+    /**
+     * @return Whether nothing has been added to the current field yet
+     */
+    boolean isCurrentFieldEmpty() {
+        return dataLength == currentFieldStart;
+    }
+
+    /**
+     * @return Whether the current field consists of whitespace only
+     */
+    boolean isCurrentFieldWhitespace() {
+        for (int i = currentFieldStart; i < dataLength; i++) {
+            if (!Character.isWhitespace(data[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes everything added to the current field so far.
+     */
+    void clearCurrentField() {
+        dataLength = currentFieldStart;
+    }
+
+    /**
+     * Finishes the current field and starts the next one.
+     *
+     * @param isNull Whether the field is to be reported as null. Only ever
+     *   true for empty fields.
+     */
+    void endField(boolean isNull) {
+        ensureFieldCapacity(fieldCount + 1);
+        fieldCount++;
+        endField(fieldCount - 1, isNull);
+    }
+
+    /**
+     * Finishes the current field as the field with the given index and
+     * starts the next one. Only for records prepared with {@link #clear(int)}.
+     *
+     * @param index  The zero-based index of the field
+     * @param isNull Whether the field is to be reported as null. Only ever
+     *   true for empty fields.
+     */
+    void endField(int index, boolean isNull) {
+        starts[index] = currentFieldStart;
+        ends[index] = dataLength;
+        nulls[index] = isNull;
+        currentFieldStart = dataLength;
+    }
+
+    /**
+     * @return The contents of the field that has not been finished yet
+     */
+    String getCurrentFieldText() {
+        return new String(data, currentFieldStart, dataLength - currentFieldStart);
+    }
+
+    private void ensureFieldCapacity(int capacity) {
+        if (capacity > starts.length) {
+            int newCapacity = Math.max(capacity, starts.length * 2);
+            starts = Arrays.copyOf(starts, newCapacity);
+            ends = Arrays.copyOf(ends, newCapacity);
+            nulls = Arrays.copyOf(nulls, newCapacity);
+        }
+    }
+
+    private void ensureCapacity(int additional) {
+        if (dataLength + additional > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + additional));
+        }
+    }
+
+    /**
+     * A window on one field of the record.
+     * Views are created once per column and reused for every record.
+     */
+    private class FieldView implements CharSequence {
+        private final int index;
+
+        FieldView(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public int length() {
+            return ends[index] - starts[index];
+        }
+
+        @Override
+        public char charAt(int i) {
+            if (i < 0 || i >= length()) {
+                throw new StringIndexOutOfBoundsException(i);
+            }
+            return data[starts[index] + i];
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            if (start < 0 || end > length() || start > end) {
+                throw new StringIndexOutOfBoundsException(start);
+            }
+            return new String(data, starts[index] + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(data, starts[index], ends[index] - starts[index]);
+        }
+    }
+}
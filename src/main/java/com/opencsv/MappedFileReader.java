@@ -0,0 +1,265 @@
+package com.opencsv;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads characters from a range of a file by memory-mapping it.
+ * <p>The range is mapped in windows of limited size, so ranges of any length
+ * can be read. Bytes are moved from the mapped window into a small staging
+ * buffer on the heap in bulk and decoded from there straight into the array
+ * of the caller, since decoders are much faster on arrays than on mapped
+ * memory. A multi-byte character that is cut off at the end of the staging
+ * buffer stays there until the rest of it has been moved in. As with
+ * {@link java.io.InputStreamReader}, malformed input is replaced, not
+ * reported.</p>
+ * <p>The channel is only closed by this reader if the reader opened it
+ * itself, that is, if it was created with {@link #open(Path, Charset)}.</p>
+ * <p>This class is not thread-safe.</p>
+ *
+ * @since 5.0
+ */
+final class MappedFileReader extends Reader {
+
+    /** The default size of a mapped window in bytes. */
+    static final int DEFAULT_WINDOW_SIZE = 1 << 26;
+
+    /** The size of the staging buffer in bytes. */
+    private static final int STAGING_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final long end;
+    private final int windowSize;
+    private final CharsetDecoder decoder;
+    private final boolean ownsChannel;
+    private final ByteBuffer staging = ByteBuffer.allocate(STAGING_SIZE);
+
+    /** The file position of the next window to be mapped. */
+    private long nextWindowStart;
+    private ByteBuffer window = null;
+    /**
+     * Whether all bytes of the range are in the staging buffer. From then on,
+     * the decoder may only be told that the input has ended.
+     */
+    private boolean endOfInput = false;
+    /** Whether the decoder has consumed all input and only needs flushing. */
+    private boolean flushing = false;
+    private boolean finished = false;
+    /** The second half of a surrogate pair that did not fit into the array of the caller, or -1. */
+    private int leftover = -1;
+    private boolean closed = false;
+
+    /**
+     * Creates a reader for a range of a file.
+     *
+     * @param channel    The file
+     * @param start      The position of the first byte to be read
+     * @param end        The position after the last byte to be read
+     * @param charset    The encoding of the file
+     * @param windowSize The maximum number of bytes mapped at once
+     */
+    MappedFileReader(FileChannel channel, long start, long end, Charset charset, int windowSize) {
+        this(channel, start, end, charset, windowSize, false);
+    }
+
+    private MappedFileReader(FileChannel channel, long start, long end, Charset charset, int windowSize,
+                             boolean ownsChannel) {
+        this.channel = channel;
+        this.ownsChannel = ownsChannel;
+        this.nextWindowStart = start;
+        this.end = end;
+        this.windowSize = Math.max(1, windowSize);
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        staging.flip();
+    }
+
+    /**
+     * Opens a file for reading.
+     * The file is mapped in windows of {@link #DEFAULT_WINDOW_SIZE}, so files
+     * larger than 2GB can be read. The file is closed with this reader.
+     *
+     * @param path    The file
+     * @param charset The encoding of the file
+     * @return A reader for the whole file
+     * @throws IOException If the file cannot be opened
+     */
+    static MappedFileReader open(Path path, Charset charset) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MappedFileReader(channel, 0, channel.size(), charset, DEFAULT_WINDOW_SIZE, true);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (leftover >= 0) {
+            cbuf[off] = (char) leftover;
+            leftover = -1;
+            return 1;
+        }
+        if (len == 1) {
+            // Supplementary characters need room for two chars.
+            char[] pair = new char[2];
+            int n = read(pair, 0, 2);
+            if (n == 2) {
+                leftover = pair[1];
+            }
+            if (n > 0) {
+                cbuf[off] = pair[0];
+            }
+            return n == -1 ? -1 : 1;
+        }
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (out.position() == off && !finished) {
+            if (endOfInput) {
+                if (!finish(out)) {
+                    break;
+                }
+            } else if (decoder.decode(staging, out, false).isOverflow()) {
+                break;
+            } else if (!refill()) {
+                endOfInput = true;
+            }
+        }
+        int n = out.position() - off;
+        return n == 0 && finished ? -1 : n;
+    }
+
+    /**
+     * Moves as many bytes as fit from the mapped file into the staging
+     * buffer, mapping the next window as necessary.
+     *
+     * @return False if there were no more bytes, true otherwise
+     * @throws IOException If mapping fails
+     */
+    private boolean refill() throws IOException {
+        staging.compact();
+        int before = staging.position();
+        while (staging.hasRemaining() && nextWindow()) {
+            int n = Math.min(staging.remaining(), window.remaining());
+            ByteBuffer slice = window.duplicate();
+            slice.limit(slice.position() + n);
+            staging.put(slice);
+            window.position(window.position() + n);
+        }
+        boolean added = staging.position() > before;
+        staging.flip();
+        return added;
+    }
+
+    /**
+     * Maps the next window if the current one has been consumed.
+     *
+     * @return False if the whole range has been consumed, true otherwise
+     * @throws IOException If mapping fails
+     */
+    private boolean nextWindow() throws IOException {
+        if (window == null || !window.hasRemaining()) {
+            if (nextWindowStart >= end) {
+                return false;
+            }
+            long size = Math.min(end - nextWindowStart, windowSize);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, nextWindowStart, size);
+            nextWindowStart += size;
+        }
+        return true;
+    }
+
+    /**
+     * Decodes what is left at the end of the range. If the buffer of the
+     * caller fills up, this is called again on the next read.
+     *
+     * @param out The buffer of the caller
+     * @return False if the buffer of the caller is full, true otherwise
+     */
+    private boolean finish(CharBuffer out) {
+        if (!flushing) {
+            if (decoder.decode(staging, out, true).isOverflow()) {
+                return false;
+            }
+            flushing = true;
+        }
+        finished = decoder.flush(out).isUnderflow();
+        return finished;
+    }
+
+    /**
+     * Gives access to the bytes of the range without decoding them.
+     * The stream is meant to be used instead of this reader, not together
+     * with it. Closing the stream closes this reader.
+     *
+     * @return A stream of the bytes of the range
+     */
+    InputStream asInputStream() {
+        return new InputStream() {
+            @Override
+            public int read() throws IOException {
+                byte[] b = new byte[1];
+                return read(b, 0, 1) == -1 ? -1 : b[0] & 0xFF;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return readBytes(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                MappedFileReader.this.close();
+            }
+        };
+    }
+
+    private int readBytes(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextWindow()) {
+            return -1;
+        }
+        int n = Math.min(len, window.remaining());
+        window.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public boolean ready() {
+        return !closed && (leftover >= 0 || staging.hasRemaining()
+                || (window != null && window.hasRemaining()) || nextWindowStart < end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            window = null;
+            if (ownsChannel) {
+                channel.close();
+            }
+        }
+    }
+}
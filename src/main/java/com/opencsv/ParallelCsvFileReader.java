@@ -0,0 +1,537 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads a CSV file on several threads at once.
+ * <p>{@link CSVReader} splits its input into records on a single thread, so
+ * no matter how many cores there are, reading is never faster than one of
+ * them. This reader takes advantage of the fact that a file, unlike a
+ * {@link java.io.Reader}, can be read anywhere: it cuts the file into chunks
+ * of roughly equal size and parses all of them at the same time.</p>
+ * <p>A chunk may only begin where a record begins. To find such places, the
+ * file is first scanned in parallel for quotation characters. Since every
+ * quotation character opens or closes a quoted field, the number of
+ * quotation characters before any position tells whether that position is
+ * inside a quoted field, and the first line break after the nominal start of
+ * a chunk that is not inside a quoted field marks the actual start. Escaped
+ * quotation characters are not counted. This is exact for well-formed input,
+ * but escape characters used outside of quoted fields can mislead it. A
+ * chunk that is found to end inside a quoted field is reported as an
+ * unterminated quoted field, just as {@link CSVReader} would report one at
+ * the end of its input.</p>
+ * <p>Records can be returned in the order of the file, or in whatever order
+ * the chunks are finished, which keeps all threads busy even if some chunks
+ * take longer than others. Records from the same chunk are always returned
+ * in order. Only a limited number of chunks are parsed ahead of the caller,
+ * so memory use does not depend on the size of the file.</p>
+ * <p>Only {@link CSVParser} is supported, and
+ * only character sets in which the special characters are single bytes that
+ * cannot be part of another character, such as UTF-8, US-ASCII and
+ * ISO-8859-1. Records are split exactly as by a {@link CSVReader} with the
+ * {@link CSVReaderBuilder#withStreamingTokenizer(boolean) streaming tokenizer}
+ * and no multi-line limit. Line numbers count line feeds. UTF-8 and
+ * US-ASCII files are split on the undecoded bytes, as with
+ * {@link CSVReaderBuilder#withByteLevelTokenizer(boolean)}.</p>
+ * <p>Use {@link ParallelCsvFileReaderBuilder} to create instances. This
+ * class is not thread-safe; only the parsing happens on other threads.</p>
+ *
+ * @since 5.0
+ */
+public class ParallelCsvFileReader implements Closeable, Iterable<String[]> {
+
+    /** The default nominal size of a chunk in bytes. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    /** How many bytes to map at once while looking for the start of a chunk. */
+    private static final int SCAN_WINDOW_SIZE = 1 << 16;
+
+    private final FileChannel channel;
+    private final Charset charset;
+    private final ICSVParser parser;
+    private final boolean keepCR;
+    private final int skipLines;
+    private final int chunkSize;
+    private final boolean ordered;
+    private final Locale errorLocale;
+    private final ExecutorService executor;
+    /** The maximum number of chunks parsed ahead of the caller. */
+    private final int chunksAhead;
+
+    private final byte quote;
+    private final byte escape;
+    private final boolean hasQuote;
+    private final boolean hasEscape;
+
+    /** The positions at which chunks start, plus the size of the file; null until the file has been split. */
+    private long[] boundaries = null;
+    /** The number of lines before each chunk. */
+    private long[] linesBefore = null;
+    private int chunksSubmitted = 0;
+    private int chunksTaken = 0;
+    private final Deque<Future<List<String[]>>> inOrder = new ArrayDeque<>();
+    private CompletionService<List<String[]>> completion;
+    private Iterator<String[]> current = Collections.emptyIterator();
+    private long recordsRead = 0;
+
+    /**
+     * Opens a file for reading.
+     * <p>This constructor intentionally has package access so only the
+     * builder can use it.</p>
+     *
+     * @param path        The file
+     * @param charset     The encoding of the file
+     * @param parser      The parser whose settings are to be used
+     * @param keepCR      True to keep carriage returns in data read, false otherwise
+     * @param skipLines   The number of lines to skip at the beginning of the file
+     * @param parallelism The number of threads
+     * @param chunkSize   The nominal size of a chunk in bytes
+     * @param ordered     True to return records in the order of the file
+     * @param errorLocale The locale for error messages. If null, the default locale is used.
+     * @throws IOException If the file cannot be opened
+     * @throws IllegalArgumentException If the parser or the character set is
+     *   not supported
+     */
+    ParallelCsvFileReader(Path path, Charset charset, ICSVParser parser, boolean keepCR, int skipLines,
+                          int parallelism, int chunkSize, boolean ordered, Locale errorLocale) throws IOException {
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        if (!StreamingTokenizer.supports(parser)) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, this.errorLocale).getString("parallel.parser.unsupported"),
+                    parser.getClass().getName()));
+        }
+        char escapeChar = parser instanceof CSVParser ? ((CSVParser) parser).getEscape() : ICSVParser.NULL_CHARACTER;
+        char quoteChar = parser instanceof CSVParser && ((CSVParser) parser).isIgnoreQuotations() ?
+                ICSVParser.NULL_CHARACTER : parser.getQuotechar();
+        if (!isSingleByte(charset, parser.getSeparator(), quoteChar, escapeChar, '\n', '\r')) {
+            throw new IllegalArgumentException(String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, this.errorLocale).getString("parallel.charset.unsupported"),
+                    charset.name()));
+        }
+        this.quote = (byte) quoteChar;
+        this.escape = (byte) escapeChar;
+        this.hasQuote = quoteChar != ICSVParser.NULL_CHARACTER;
+        this.hasEscape = escapeChar != ICSVParser.NULL_CHARACTER;
+        this.charset = charset;
+        this.parser = parser;
+        this.keepCR = keepCR;
+        this.skipLines = Math.max(0, skipLines);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.ordered = ordered;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        int threads = Math.max(1, parallelism);
+        this.chunksAhead = threads * 2;
+        this.executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Determines whether the given characters can be found in a file by
+     * looking at single bytes.
+     *
+     * @param charset The encoding of the file
+     * @param chars   The characters to look for
+     * @return Whether every character is encoded as the byte of the same
+     *   value, and that byte is never part of another character
+     */
+    private static boolean isSingleByte(Charset charset, char... chars) {
+        if (!StandardCharsets.UTF_8.equals(charset) && charset.newEncoder().maxBytesPerChar() != 1.0f) {
+            return false;
+        }
+        for (char c : chars) {
+            if (c == ICSVParser.NULL_CHARACTER) {
+                continue;
+            }
+            byte[] encoded = String.valueOf(c).getBytes(charset);
+            if (c >= 0x80 || encoded.length != 1 || encoded[0] != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return The next record, or null if there is no more input
+     * @throws IOException If bad things happen during the read
+     */
+    public String[] readNext() throws IOException {
+        if (boundaries == null) {
+            split();
+            submitChunks();
+        }
+        while (!current.hasNext()) {
+            if (chunksTaken == boundaries.length - 1) {
+                return null;
+            }
+            current = takeChunk().iterator();
+            submitChunks();
+        }
+        recordsRead++;
+        return current.next();
+    }
+
+    /**
+     * @return The number of records returned so far
+     */
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    @Override
+    public Iterator<String[]> iterator() {
+        return new Iterator<String[]>() {
+            private String[] nextLine = null;
+
+            @Override
+            public boolean hasNext() {
+                if (nextLine == null) {
+                    try {
+                        nextLine = readNext();
+                    } catch (IOException e) {
+                        NoSuchElementException nse = new NoSuchElementException(e.getLocalizedMessage());
+                        nse.initCause(e);
+                        throw nse;
+                    }
+                }
+                return nextLine != null;
+            }
+
+            @Override
+            public String[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String[] result = nextLine;
+                nextLine = null;
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Stops all parsing and closes the file.
+     *
+     * @throws IOException If the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        channel.close();
+    }
+
+    /**
+     * Divides the file into chunks that begin at the beginning of a record.
+     *
+     * @throws IOException If the file cannot be read
+     */
+    private void split() throws IOException {
+        final long size = channel.size();
+
+        // The skipped lines are not part of any chunk, and quotation
+        // characters in them must not count.
+        long[] skipped = skipLines(size);
+        final long dataStart = skipped[0];
+        final int ranges = (int) Math.max(1, (size - dataStart + chunkSize - 1) / chunkSize);
+
+        // Count quotation characters and line feeds in all ranges at once.
+        // The last range does not matter, since no chunk starts after it.
+        List<Future<long[]>> counts = new ArrayList<>(ranges);
+        for (int i = 0; i < ranges - 1; i++) {
+            final long start = dataStart + (long) i * chunkSize;
+            final long end = Math.min(size, start + chunkSize);
+            counts.add(executor.submit(() -> countRange(start, end)));
+        }
+
+        List<Long> starts = new ArrayList<>();
+        List<Long> lines = new ArrayList<>();
+        starts.add(dataStart);
+        lines.add(skipped[1]);
+        long quotesBefore = 0;
+        long lineFeedsBefore = skipped[1];
+        for (int i = 1; i < ranges; i++) {
+            long[] count = get(counts.get(i - 1));
+            quotesBefore += count[0];
+            lineFeedsBefore += count[1];
+            long nominal = dataStart + (long) i * chunkSize;
+            if (nominal < starts.get(starts.size() - 1)) {
+                // The previous chunk already extends beyond this point.
+                continue;
+            }
+            long[] found = findRecordStart(nominal, (quotesBefore & 1) == 1, size);
+            if (found[0] >= size) {
+                break;
+            }
+            if (found[0] > starts.get(starts.size() - 1)) {
+                starts.add(found[0]);
+                lines.add(lineFeedsBefore + found[1]);
+            }
+        }
+
+        boundaries = new long[starts.size() + 1];
+        linesBefore = new long[starts.size()];
+        for (int i = 0; i < starts.size(); i++) {
+            boundaries[i] = starts.get(i);
+            linesBefore[i] = lines.get(i);
+        }
+        boundaries[starts.size()] = size;
+        if (!ordered) {
+            completion = new ExecutorCompletionService<>(executor);
+        }
+    }
+
+    /**
+     * Skips the configured number of lines at the beginning of the file
+     * without interpreting them, just as
+     * {@link StreamingTokenizer#skipLine()} does.
+     *
+     * @param size The size of the file
+     * @return The position after the last line skipped and the number of
+     *   lines skipped
+     * @throws IOException If the file cannot be read
+     */
+    private long[] skipLines(long size) throws IOException {
+        long skipped = 0;
+        long pos = 0;
+        while (skipped < skipLines && pos < size) {
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(SCAN_WINDOW_SIZE, size - pos));
+            while (skipped < skipLines && bytes.hasRemaining()) {
+                byte b = bytes.get();
+                pos++;
+                if (b == '\n' || (b == '\r' && !keepCR)) {
+                    if (b == '\r' && pos < size && byteAt(pos) == '\n') {
+                        pos++;
+                        if (bytes.hasRemaining()) {
+                            bytes.get();
+                        }
+                    }
+                    skipped++;
+                }
+            }
+            if (pos >= size && skipped < skipLines) {
+                // The last line need not end in a line break.
+                skipped++;
+            }
+        }
+        return new long[]{pos, skipped};
+    }
+
+    private byte byteAt(long position) throws IOException {
+        ByteBuffer single = ByteBuffer.allocate(1);
+        return channel.read(single, position) == 1 ? single.get(0) : -1;
+    }
+
+    /**
+     * Counts the quotation characters that are not escaped and the line
+     * feeds in a range of the file.
+     *
+     * @param start The position of the first byte of the range
+     * @param end   The position after the last byte of the range
+     * @return The number of quotation characters and the number of line feeds
+     * @throws IOException If the file cannot be read
+     */
+    private long[] countRange(long start, long end) throws IOException {
+        ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        long quotes = 0;
+        long lineFeeds = 0;
+        int escapeRun = escapeRunBefore(start);
+        while (bytes.hasRemaining()) {
+            byte b = bytes.get();
+            if (hasEscape && b == escape) {
+                escapeRun++;
+                continue;
+            }
+            if (hasQuote && b == quote && (escapeRun & 1) == 0) {
+                quotes++;
+            } else if (b == '\n') {
+                lineFeeds++;
+            }
+            escapeRun = 0;
+        }
+        return new long[]{quotes, lineFeeds};
+    }
+
+    /**
+     * Finds the first record that begins at or after the given position.
+     *
+     * @param position The position at which to start looking
+     * @param inQuotes Whether the position is inside a quoted field
+     * @param size     The size of the file
+     * @return The position at which the record begins, or the size of the
+     *   file if there is none, and the number of line feeds skipped
+     * @throws IOException If the file cannot be read
+     */
+    private long[] findRecordStart(long position, boolean inQuotes, long size) throws IOException {
+        int escapeRun = escapeRunBefore(position);
+        long lineFeeds = 0;
+        long pos = position;
+        while (pos < size) {
+            ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(SCAN_WINDOW_SIZE, size - pos));
+            while (bytes.hasRemaining()) {
+                byte b = bytes.get();
+                pos++;
+                if (hasEscape && b == escape) {
+                    escapeRun++;
+                    continue;
+                }
+                if (hasQuote && b == quote && (escapeRun & 1) == 0) {
+                    inQuotes = !inQuotes;
+                } else if (b == '\n') {
+                    lineFeeds++;
+                    if (!inQuotes) {
+                        return new long[]{pos, lineFeeds};
+                    }
+                }
+                escapeRun = 0;
+            }
+        }
+        return new long[]{size, lineFeeds};
+    }
+
+    /**
+     * Counts the escape characters immediately before a position, since they
+     * decide whether a quotation character at the position is escaped.
+     *
+     * @param position A position in the file
+     * @return The number of consecutive escape characters before the position
+     * @throws IOException If the file cannot be read
+     */
+    private int escapeRunBefore(long position) throws IOException {
+        if (!hasEscape) {
+            return 0;
+        }
+        ByteBuffer single = ByteBuffer.allocate(1);
+        int run = 0;
+        for (long pos = position - 1; pos >= 0; pos--) {
+            single.clear();
+            if (channel.read(single, pos) != 1 || single.get(0) != escape) {
+                break;
+            }
+            run++;
+        }
+        return run;
+    }
+
+    /**
+     * Keeps the configured number of chunks in progress.
+     */
+    private void submitChunks() {
+        while (chunksSubmitted < boundaries.length - 1 && chunksSubmitted - chunksTaken < chunksAhead) {
+            final int index = chunksSubmitted++;
+            if (ordered) {
+                inOrder.add(executor.submit(() -> parseChunk(index)));
+            } else {
+                completion.submit(() -> parseChunk(index));
+            }
+        }
+    }
+
+    /**
+     * Waits for the next chunk to be returned.
+     *
+     * @return The records of the chunk
+     * @throws IOException If the chunk could not be parsed
+     */
+    private List<String[]> takeChunk() throws IOException {
+        Future<List<String[]>> next;
+        if (ordered) {
+            next = inOrder.remove();
+        } else {
+            try {
+                next = completion.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getLocalizedMessage());
+            }
+        }
+        chunksTaken++;
+        return get(next);
+    }
+
+    /**
+     * Parses one chunk. Runs on one of the worker threads.
+     *
+     * @param index The index of the chunk
+     * @return The records of the chunk
+     * @throws IOException If the chunk could not be read or ends in the
+     *   middle of a quoted field
+     */
+    private List<String[]> parseChunk(int index) throws IOException {
+        MappedFileReader chunk = new MappedFileReader(channel, boundaries[index], boundaries[index + 1], charset,
+                MappedFileReader.DEFAULT_WINDOW_SIZE);
+        StreamingTokenizer tokenizer = ByteBufferTokenizer.supports(parser, charset) ?
+                new ByteBufferTokenizer(chunk.asInputStream(), charset, parser, keepCR, 0,
+                        ByteBufferTokenizer.DEFAULT_BUFFER_SIZE) :
+                new CharBufferTokenizer(chunk, parser, keepCR, 0, CharBufferTokenizer.DEFAULT_BUFFER_SIZE);
+        long line = linesBefore[index];
+        List<String[]> records = new ArrayList<>();
+        CsvRecord record = new CsvRecord();
+        while (tokenizer.readRecord(record)) {
+            if (tokenizer.isUnterminated()) {
+                throw CSVReader.unterminatedQuote(tokenizer.getPendingText(), line + 1, errorLocale);
+            }
+            line += tokenizer.getLinesInRecord();
+            records.add(record.toArray());
+        }
+        return records;
+    }
+
+    /**
+     * Waits for a task and unwraps its exceptions.
+     *
+     * @param future The task
+     * @param <T>    The type of the result
+     * @return The result of the task
+     * @throws IOException If the task failed with an IOException or was
+     *   interrupted
+     */
+    private static <T> T get(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getLocalizedMessage());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.opencsv;
+
+import org.apache.commons.lang3.ObjectUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Builder for creating a {@link ParallelCsvFileReader}.
+ * <p>Example code for using this class:<br><br>
+ * <code>
+ * try (ParallelCsvFileReader reader =<br>
+ * new ParallelCsvFileReaderBuilder(Paths.get("big.csv"))<br>
+ * .withSkipLines(1)<br>
+ * .withOrderedResults(false)<br>
+ * .build()) {<br>
+ * for (String[] record : reader) { ... }<br>
+ * }
+ * </code></p>
+ *
+ * @see ParallelCsvFileReader
+ * @since 5.0
+ */
+public class ParallelCsvFileReaderBuilder {
+    private final Path path;
+    private Charset charset = StandardCharsets.UTF_8;
+    private ICSVParser icsvParser = null;
+    private boolean keepCR = false;
+    private int skipLines = CSVReader.DEFAULT_SKIP_LINES;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int chunkSize = ParallelCsvFileReader.DEFAULT_CHUNK_SIZE;
+    private boolean ordered = true;
+    private Locale errorLocale = Locale.getDefault();
+
+    /**
+     * Sets the file to be read.
+     *
+     * @param path The file to be read
+     */
+    public ParallelCsvFileReaderBuilder(final Path path) {
+        if (path == null) {
+            throw new IllegalArgumentException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME).getString("reader.null"));
+        }
+        this.path = path;
+    }
+
+    /**
+     * Sets the encoding of the file.
+     * The default is UTF-8.
+     *
+     * @param charset The encoding of the file
+     * @return {@code this}
+     */
+    public ParallelCsvFileReaderBuilder withCharset(final Charset charset) {
+        this.charset = ObjectUtils.defaultIfNull(charset, StandardCharsets.UTF_8);
+        return this;
+    }
+
+    /**
+     * Sets the parser whose settings are used to split the input.
+     * Only {@link CSVParser} is supported. The
+     * default is a {@link CSVParser} with default settings.
+     *
+     * @param icsvParser The parser
+     * @return {@code this}
+     */
+    public ParallelCsvFileReaderBuilder withCSVParser(final ICSVParser icsvParser) {
+        this.icsvParser = icsvParser;
+        return this;
+    }
+
+    /**
+     * Sets if the reader will keep or discard carriage returns.
+     *
+     * @param keepCR True to keep carriage returns, false to discard.
+     * @return {@code this}
+     */
+    public ParallelCsvFileReaderBuilder withKeepCarriageReturn(final boolean keepCR) {
+        this.keepCR = keepCR;
+        return this;
+    }
+
+    /**
+     * Sets the number of lines to skip at the beginning of the file.
+     *
+     * @param skipLines The number of lines to skip
+     * @return {@code this}
+     */
+    public ParallelCsvFileReaderBuilder withSkipLines(final int skipLines) {
+        this.skipLines = skipLines <= 0 ? 0 : skipLines;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads that parse the file.
+     * The default is the number of available processors.
+     *
+     * @param parallelism The number of threads
+     * @return {@code this}
+     */
+    public ParallelCsvFileReaderBuilder withParallelism(final int parallelism) {
+        this.parallelism = parallelism <= 0 ? 1 : parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the size of the chunks the file is split into.
+     * Actual chunks are slightly larger, since they are extended to the end
+     * of the record in which they would end. The default is
+     * {@link ParallelCsvFileReader#DEFAULT_CHUNK_SIZE}.
+     *
+     * @param chunkSize The nominal size of a chunk in bytes
+     * @return {@code this}
+     */
+    public ParallelCsvFileReaderBuilder withChunkSize(final int chunkSize) {
+        this.chunkSize = chunkSize <= 0 ? 1 : chunkSize;
+        return this;
+    }
+
+    /**
+     * Sets whether records are returned in the order of the file.
+     * If not, the records of each chunk are returned as soon as the chunk has
+     * been parsed. The default is true.
+     *
+     * @param ordered Whether to keep the order of the file
+     * @return {@code this}
+     */
+    public ParallelCsvFileReaderBuilder withOrderedResults(final boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Sets the locale for all error messages.
+     *
+     * @param errorLocale Locale for error messages
+     * @return {@code this}
+     */
+    public ParallelCsvFileReaderBuilder withErrorLocale(final Locale errorLocale) {
+        this.errorLocale = ObjectUtils.defaultIfNull(errorLocale, Locale.getDefault());
+        return this;
+    }
+
+    /**
+     * Opens the file.
+     *
+     * @return The reader
+     * @throws IOException If the file cannot be opened
+     * @throws IllegalArgumentException If the parser or the character set
+     *   cannot be used to read files in parallel
+     */
+    public ParallelCsvFileReader build() throws IOException {
+        ICSVParser parser = ObjectUtils.defaultIfNull(icsvParser,
+                new CSVParserBuilder().withErrorLocale(errorLocale).build());
+        return new ParallelCsvFileReader(path, charset, parser, keepCR, skipLines, parallelism, chunkSize,
+                ordered, errorLocale);
+    }
+}
@@ -0,0 +1,229 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+
+/**
+ * The parts shared by the tokenizers that split input into records and
+ * fields in one pass over a reusable buffer.
+ * <p>Subclasses own the input window and the state machine that runs over
+ * it, since that is where the type of the buffer matters. This class holds
+ * the configuration copied from the parser and the record being filled, and
+ * decides which fields are kept and which of them are null.</p>
+ * <p>The rules for quotes, escape characters, strict quotes, ignored leading
+ * whitespace and ignored quotations follow {@link CSVParser}. The rules for
+ * line breaks follow {@link CSVReader}: without
+ * {@link CSVReaderBuilder#withKeepCarriageReturn(boolean) keepCR}, "\n", "\r"
+ * and "\r\n" all end a line and a line break inside a quoted field is
+ * returned as "\n"; with keepCR, only "\n" ends a line and carriage returns
+ * are data.</p>
+ *
+ * @see CharBufferTokenizer
+ * @see ByteBufferTokenizer
+ * @since 5.0
+ */
+abstract class StreamingTokenizer {
+
+    /**
+     * CSVParser does not consider a quotation character within the first
+     * three characters of a line to be embedded in a field. Neither do we.
+     */
+    static final int BEGINNING_OF_LINE = 3;
+
+    final char separator;
+    final char quotechar;
+    final char escape;
+    final boolean hasQuotechar;
+    final boolean hasEscape;
+    final boolean strictQuotes;
+    final boolean ignoreLeadingWhiteSpace;
+    final boolean ignoreQuotations;
+    final boolean keepCR;
+    private final CSVReaderNullFieldIndicator nullFieldIndicator;
+    final int multilineLimit;
+
+    // The current record
+    CsvRecord record;
+    /** The columns to be kept, or null for all columns. */
+    private ColumnProjection projection;
+    /** The index of the column of the field being read. */
+    private int column;
+    /** Whether the field being read is kept. */
+    boolean copying = true;
+    int linesInRecord = 0;
+    boolean unterminated = false;
+    boolean multilineLimitBroken = false;
+
+    /**
+     * Copies the configuration of the given parser.
+     *
+     * @param parser         The parser whose configuration is to be copied.
+     *                       This must be a {@link CSVParser}.
+     * @param keepCR         Whether carriage returns are data
+     * @param multilineLimit The maximum number of lines in one record. Less
+     *                       than one means no limit.
+     * @throws IllegalArgumentException If the parser is of another type
+     */
+    StreamingTokenizer(ICSVParser parser, boolean keepCR, int multilineLimit) {
+        this.separator = parser.getSeparator();
+        this.quotechar = parser.getQuotechar();
+        this.nullFieldIndicator = parser.nullFieldIndicator();
+        if (!supports(parser)) {
+            throw new IllegalArgumentException(parser.getClass().getName());
+        }
+        CSVParser csvParser = (CSVParser) parser;
+        this.escape = csvParser.getEscape();
+        this.strictQuotes = csvParser.isStrictQuotes();
+        this.ignoreLeadingWhiteSpace = csvParser.isIgnoreLeadingWhiteSpace();
+        this.ignoreQuotations = csvParser.isIgnoreQuotations();
+        this.projection = csvParser.getColumnProjection();
+        this.hasQuotechar = quotechar != ICSVParser.NULL_CHARACTER;
+        this.hasEscape = escape != ICSVParser.NULL_CHARACTER;
+        this.keepCR = keepCR;
+        this.multilineLimit = multilineLimit;
+    }
+
+    /**
+     * Determines whether a tokenizer can reproduce the rules of the given
+     * parser.
+     * <p>{@link RFC4180Parser} is not supported. It treats quotation
+     * characters that do not begin a field, and fields with text after the
+     * closing quotation character, in ways this state machine does not
+     * reproduce.</p>
+     *
+     * @param parser The parser in question
+     * @return Whether a tokenizer can be created for the parser
+     */
+    static boolean supports(ICSVParser parser) {
+        return parser instanceof CSVParser;
+    }
+
+    /**
+     * Reads the next record.
+     * <p>If the input ends inside a quoted field, the record read so far is
+     * kept and {@link #isUnterminated()} returns true. If the record exceeds
+     * the multi-line limit, reading stops at the offending line break and
+     * {@link #isMultilineLimitBroken()} returns true.</p>
+     *
+     * @param target The record to be filled. Its previous contents are
+     *               discarded.
+     * @return False if there is no more input, true otherwise
+     * @throws IOException If reading from the underlying input fails
+     */
+    abstract boolean readRecord(CsvRecord target) throws IOException;
+
+    /**
+     * Skips one physical line without interpreting it.
+     *
+     * @return False if there was no more input to skip, true otherwise
+     * @throws IOException If reading from the underlying input fails
+     */
+    abstract boolean skipLine() throws IOException;
+
+    /**
+     * Makes the given record the one being filled and resets the state of
+     * the last record.
+     *
+     * @param target The record to be filled
+     */
+    void startRecord(CsvRecord target) {
+        record = target;
+        column = 0;
+        if (projection == null) {
+            record.clear();
+            copying = true;
+        } else {
+            record.clear(projection.size());
+            copying = projection.includes(0);
+        }
+        linesInRecord = 0;
+        unterminated = false;
+        multilineLimitBroken = false;
+    }
+
+    /**
+     * @return The number of physical lines the last record spanned
+     */
+    int getLinesInRecord() {
+        return linesInRecord;
+    }
+
+    /**
+     * @return Whether the input ended inside a quoted field of the last record
+     */
+    boolean isUnterminated() {
+        return unterminated;
+    }
+
+    /**
+     * @return Whether the last record was cut short because it has more
+     *   lines than allowed
+     */
+    boolean isMultilineLimitBroken() {
+        return multilineLimitBroken;
+    }
+
+    /**
+     * @return The contents of the field being read when the last record
+     *   that could not be completed, this is the partial quoted field, as it
+     *   would be returned by {@link ICSVParser#getPendingText()}.
+     */
+    String getPendingText() {
+        return record == null ? StringUtils.EMPTY : record.getCurrentFieldText();
+    }
+
+    /**
+     * Restricts the records read to a subset of columns. Fields of other
+     * columns are scanned, but never copied.
+     *
+     * @param projection The columns to be kept, or null for all columns
+     */
+    void setProjection(ColumnProjection projection) {
+        this.projection = projection;
+    }
+
+    /**
+     * @return Whether the records read are restricted to a subset of columns
+     */
+    boolean hasProjection() {
+        return projection != null;
+    }
+
+    boolean isLineBreak(int c) {
+        return c == '\n' || (c == '\r' && !keepCR);
+    }
+
+    void append(char c) {
+        if (copying) {
+            record.append(c);
+        }
+    }
+
+    void endField(boolean fromQuotedField) {
+        if (projection == null) {
+            record.endField(record.isCurrentFieldEmpty() && isEmptyNull(fromQuotedField));
+        } else {
+            int position = projection.positionOf(column);
+            if (position >= 0) {
+                record.endField(position, record.isCurrentFieldEmpty() && isEmptyNull(fromQuotedField));
+            }
+            column++;
+            copying = projection.includes(column);
+        }
+    }
+
+    private boolean isEmptyNull(boolean fromQuotedField) {
+        switch (nullFieldIndicator) {
+            case BOTH:
+                return true;
+            case EMPTY_SEPARATORS:
+                return !fromQuotedField;
+            case EMPTY_QUOTES:
+                return fromQuotedField;
+            default:
+                return false;
+        }
+    }
+}
@@ -84,6 +84,21 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
 
     private Method setterMethod;
 
+    /** Calls {@link #getterMethod} without reflection, if possible. */
+    private PropertyAccessor getterAccessor;
+
+    /** Calls {@link #setterMethod} without reflection, if possible. */
+    private PropertyAccessor setterAccessor;
+
+    /**
+     * Reads and writes {@link #field} without reflection if there is no
+     * getter or setter.
+     */
+    private PropertyAccessor fieldAccessor;
+
+    /** The field {@link #fieldAccessor} was created for. */
+    private Field accessorField;
+
     /**
      * Default nullary constructor, so derived classes aren't forced to create
      * a constructor identical to this one.
@@ -109,6 +124,7 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
         this.converter = converter;
         determineGetterInformation();
         determineSetterInformation();
+        determineFieldAccessor();
     }
 
     @Override
@@ -116,6 +132,7 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
         this.field = field;
         determineGetterInformation();
         determineSetterInformation();
+        determineFieldAccessor();
     }
 
     @Override
@@ -145,14 +162,84 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
     public final void setFieldValue(T bean, String value, String header)
             throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
             CsvConstraintViolationException {
+        if (!assignPrimitive(bean, value)) {
+            assignValueToField(bean, verifyAndConvert(bean.getClass(), value), header);
+        }
+    }
+
+    /**
+     * Converts and assigns a value without boxing it, if this kind of bean
+     * field and its converter support that.
+     * The result must be exactly the same as that of
+     * {@link #verifyAndConvert(Class, String)} followed by
+     * {@link #assignValueToField(Object, Object, String)}.
+     *
+     * @param bean  The bean in which the field is located
+     * @param value The value from the CSV input
+     * @return Whether the value has been assigned. If not, it is converted
+     *   and assigned as usual.
+     * @throws CsvRequiredFieldEmptyException If the field is required and
+     *   the value is blank
+     * @throws CsvDataTypeMismatchException If the value cannot be converted
+     * @since 5.0
+     */
+    boolean assignPrimitive(T bean, String value)
+            throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        return false;
+    }
+
+    /**
+     * @param bean The bean in which the field is located
+     * @return The accessor through which
+     *   {@link #assignValueToField(Object, Object, String)} would write a
+     *   primitive value to the bean, or null if that would not be through an
+     *   accessor that can take primitive values
+     * @since 5.0
+     */
+    PropertyAccessor primitiveWriter(T bean) {
+        Method setter = getWriteMethodSilently(bean);
+        if (setter != null) {
+            return setter == this.setterMethod && setterAccessor != null
+                    && setterAccessor.canWritePrimitive(bean) ? setterAccessor : null;
+        }
+        return field == accessorField && fieldAccessor != null
+                && fieldAccessor.canWritePrimitive(bean) ? fieldAccessor : null;
+    }
+
+    /**
+     * Verifies that a required value is present and converts it.
+     *
+     * @param beanType The type of the bean the value is meant for
+     * @param value    The value from the CSV input
+     * @return The converted value
+     * @throws CsvRequiredFieldEmptyException If the field is required and
+     *   the value is blank
+     * @throws CsvDataTypeMismatchException If the value cannot be converted
+     * @throws CsvConstraintViolationException If the value violates a
+     *   constraint
+     * @since 5.0
+     */
+    Object verifyAndConvert(Class<?> beanType, String value)
+            throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
+            CsvConstraintViolationException {
+        verifyRequired(beanType, value);
+        return convert(value);
+    }
+
+    /**
+     * @param beanType The type of the bean the value is meant for
+     * @param value    The value from the CSV input
+     * @throws CsvRequiredFieldEmptyException If the field is required and
+     *   the value is blank
+     * @since 5.0
+     */
+    void verifyRequired(Class<?> beanType, String value) throws CsvRequiredFieldEmptyException {
         if (required && StringUtils.isBlank(value)) {
             throw new CsvRequiredFieldEmptyException(
-                    bean.getClass(), field,
+                    beanType, field,
                     String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("required.field.empty"),
                             field.getName()));
         }
-
-        assignValueToField(bean, convert(value), header);
     }
 
     @Override
@@ -162,7 +249,13 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
 
         Method getterMethod = getReadMethodSilently(bean);
         try {
-            o = getterMethod != null ? getterMethod.invoke(bean) : readWithoutGetter(bean);
+            if (getterMethod == null) {
+                o = readWithoutGetter(bean);
+            } else if (getterMethod == this.getterMethod && getterAccessor != null && getterAccessor.canRead(bean)) {
+                o = getterAccessor.get(bean);
+            } else {
+                o = getterMethod.invoke(bean);
+            }
         } catch (IllegalAccessException | InvocationTargetException e) {
             // Can't happen, because we've already established that the
             // method is public through the use of getMethod().
@@ -214,11 +307,13 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
         getterName = "get" + Character.toUpperCase(field.getName().charAt(0))
                 + field.getName().substring(1);
 
+        getterMethod = null;
         try {
             getterMethod = field.getDeclaringClass().getMethod(getterName);
         } catch (NoSuchMethodException e) {
 
         }
+        getterAccessor = PropertyAccessor.forGetter(getterMethod);
     }
 
     /**
@@ -261,11 +356,23 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
         setterName = "set" + Character.toUpperCase(field.getName().charAt(0))
                 + field.getName().substring(1);
 
+        setterMethod = null;
         try {
             setterMethod = field.getDeclaringClass().getMethod(setterName, field.getType());
         } catch (NoSuchMethodException e) {
 
         }
+        setterAccessor = PropertyAccessor.forSetter(setterMethod);
+    }
+
+    /**
+     * Only fields that lack a getter or a setter are opened up for direct
+     * access, and only if that is possible.
+     */
+    private void determineFieldAccessor() {
+        accessorField = field;
+        fieldAccessor = getterMethod == null || setterMethod == null
+                ? PropertyAccessor.forField(field) : null;
     }
 
     /**
@@ -325,7 +432,11 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
             Method setterMethod = getWriteMethodSilently(bean);
             if (setterMethod != null) {
                 try {
-                    setterMethod.invoke(bean, obj);
+                    if (setterMethod == this.setterMethod && setterAccessor != null && setterAccessor.canWrite(bean, obj)) {
+                        setterAccessor.set(bean, obj);
+                    } else {
+                        setterMethod.invoke(bean, obj);
+                    }
                 } catch (IllegalAccessException e) {
                     // Can't happen, because we've already established that the
                     // method is public through the use of getMethod().
@@ -356,11 +467,16 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
      */
     protected void writeWithoutSetter(T bean, Object obj) throws CsvDataTypeMismatchException {
         try {
-            FieldUtils.writeField(field, bean, obj, true);
-        } catch (IllegalAccessException e2) {
+            if (field == accessorField && fieldAccessor != null && fieldAccessor.canWrite(bean, obj)) {
+                fieldAccessor.set(bean, obj);
+            } else {
+                FieldUtils.writeField(field, bean, obj, true);
+            }
+        } catch (IllegalAccessException | InvocationTargetException e2) {
             // The Apache Commons Lang Javadoc claims this can be thrown
             // if the field is final, but it's not true if we override
-            // accessibility. This is never thrown.
+            // accessibility. This is never thrown. Neither is an exception
+            // from the accessor, which only writes values of the right type.
         } catch (IllegalArgumentException e2) {
             CsvDataTypeMismatchException csve =
                     new CsvDataTypeMismatchException(obj, field.getType());
@@ -382,9 +498,13 @@ abstract public class AbstractBeanField<T, I> implements BeanField<T, I> {
         Object o = null;
 
         try {
-            o = FieldUtils.readField(field, bean, true);
-        } catch (IllegalAccessException | IllegalArgumentException e) {
-            // Neither exception can ever be thrown.
+            if (field == accessorField && fieldAccessor != null && fieldAccessor.canRead(bean)) {
+                o = fieldAccessor.get(bean);
+            } else {
+                o = FieldUtils.readField(field, bean, true);
+            }
+        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+            // None of these exceptions can ever be thrown.
         }
 
         return o;
@@ -19,8 +19,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import org.apache.commons.lang3.ObjectUtils;
 
 /**
@@ -54,6 +57,18 @@ abstract public class AbstractFieldMap<I, K extends Comparable<K>, C extends Com
      */
     protected final List<C> complexMapList = new ArrayList<>();
     
+    /**
+     * The result of {@link #get(Comparable)} for every key that has been
+     * looked up, including keys that are not mapped at all.
+     * <p>Matching a key against the complex mappings means trying every
+     * regular expression or range until one matches, and the same headers or
+     * column positions are looked up over and over. Anything that changes
+     * which field a key maps to must call {@link #clearResolvedKeys()}.</p>
+     * 
+     * @since 5.0
+     */
+    private final ConcurrentMap<K, Optional<BeanField<T, K>>> resolvedKeys = new ConcurrentHashMap<>();
+    
     /**
      * Initializes this {@link FieldMap}.
      * 
@@ -65,6 +80,23 @@ abstract public class AbstractFieldMap<I, K extends Comparable<K>, C extends Com
     
     @Override
     public BeanField<T, K> get(final K key) {
+        Optional<BeanField<T, K>> resolved = resolvedKeys.get(key);
+        if(resolved == null) {
+            resolved = Optional.ofNullable(resolve(key));
+            resolvedKeys.putIfAbsent(key, resolved);
+        }
+        return resolved.orElse(null);
+    }
+    
+    /**
+     * Looks up the field for a key without consulting the keys already
+     * resolved.
+     * 
+     * @param key The key to look up
+     * @return The field the key maps to, or null if there is none
+     * @since 5.0
+     */
+    private BeanField<T, K> resolve(final K key) {
         BeanField<T, K> f = simpleMap.get(key);
         if(f == null) {
             f = complexMapList.stream()
@@ -79,9 +111,20 @@ abstract public class AbstractFieldMap<I, K extends Comparable<K>, C extends Com
     
     @Override
     public BeanField<T, K> put(final K key, final BeanField<T, K> value) {
+        clearResolvedKeys();
         return simpleMap.put(key, value);
     }
     
+    /**
+     * Forgets every key resolved so far. Must be called by subclasses
+     * whenever they change the mappings.
+     * 
+     * @since 5.0
+     */
+    protected void clearResolvedKeys() {
+        resolvedKeys.clear();
+    }
+    
     @Override
     public Collection<BeanField<T, K>> values() {
         final List<BeanField<T, K>> l = new ArrayList<>(simpleMap.size() + complexMapList.size());
@@ -51,6 +51,28 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     /** Locale for error messages. */
     protected Locale errorLocale = Locale.getDefault();
 
+    /**
+     * The bean field, header and multivalued field index of every column in
+     * {@link #headerIndex}, so they need not be looked up for every cell.
+     * Null until they are first needed.
+     */
+    private volatile ResolvedColumns resolvedColumns = null;
+
+    /** The factory for new beans, if one has been set. */
+    private BeanFactory<? extends T> beanFactory = null;
+
+    /**
+     * Calls the nullary constructor of {@link #type}, if it has a public one.
+     * Looked up when the type is set.
+     */
+    private BeanFactory<? extends T> nullaryConstructor = null;
+
+    /**
+     * The constructor of {@link #type} annotated with {@link CsvConstructor},
+     * if there is one. Looked up when the type is set.
+     */
+    private BeanConstructor<? extends T> annotatedConstructor = null;
+
     /**
      * For {@link BeanField#indexAndSplitMultivaluedField(java.lang.Object, java.lang.Object)}
      * it is necessary to determine which index to pass in.
@@ -118,9 +140,31 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         if(type == null) {
             throw new IllegalStateException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("type.unset"));
         }
+        if(beanFactory != null) {
+            return beanFactory.createBean();
+        }
+        if(nullaryConstructor != null) {
+            return nullaryConstructor.createBean();
+        }
+        
+        // Fails exactly as before for types that cannot be instantiated
         return type.newInstance();
     }
 
+    /**
+     * Sets the factory for the beans to be populated.
+     * <p>Without a factory, beans are created through the constructor of the
+     * type of the bean annotated with {@link CsvConstructor}, if there is
+     * one, and through its nullary constructor otherwise.</p>
+     *
+     * @param beanFactory The factory for new beans, or null to create them
+     *   through a constructor again
+     * @since 5.0
+     */
+    public void setBeanFactory(BeanFactory<? extends T> beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
     /**
      * Gets the name (or position number) of the header for the given column
      * number.
@@ -180,15 +224,117 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         return type;
     }
 
+    /**
+     * Returns the bean field, header and multivalued field index of every
+     * column, as determined by {@link #findField(int)},
+     * {@link #findHeader(int)} and
+     * {@link #chooseMultivaluedFieldIndexFromHeaderIndex(int)}.
+     * <p>They are resolved once and then reused until {@link #headerIndex}
+     * or the {@link #getFieldMap() field map} is replaced or changes, or
+     * until {@link #clearResolvedColumns()} is called.</p>
+     *
+     * @return The columns, resolved
+     */
+    ResolvedColumns resolveColumns() {
+        ResolvedColumns columns = resolvedColumns;
+        if (columns == null || !columns.isCurrent()) {
+            columns = new ResolvedColumns();
+            resolvedColumns = columns;
+        }
+        return columns;
+    }
+
+    /**
+     * Forgets the bean fields, headers and multivalued field indices
+     * resolved for all columns.
+     * <p>Changes to {@link #headerIndex} and replacing the field map are
+     * noticed automatically. Subclasses must call this method when anything
+     * else that {@link #findField(int)}, {@link #findHeader(int)} or
+     * {@link #chooseMultivaluedFieldIndexFromHeaderIndex(int)} depend on
+     * changes.</p>
+     *
+     * @since 5.0
+     */
+    protected void clearResolvedColumns() {
+        resolvedColumns = null;
+    }
+
     @Override
     public T populateNewBean(String[] line)
             throws InstantiationException, IllegalAccessException,
             CsvRequiredFieldEmptyException, CsvDataTypeMismatchException,
             CsvConstraintViolationException {
         verifyLineLength(line.length);
+        ResolvedColumns columns = resolveColumns();
+        BeanConstructor<? extends T> constructor = beanFactory == null ? annotatedConstructor : null;
+        if (constructor != null) {
+            return populateThroughConstructor(constructor, columns, line);
+        }
         T bean = createBean();
+        
+        // Columns joined into a map are converted in order with all others,
+        // but each map is only filled in once all of them are converted
+        Object[] joinedValues = columns.hasJoinedColumns() ? new Object[line.length] : null;
         for (int col = 0; col < line.length; col++) {
+            BeanFieldJoin<T, ?> joinedField = columns.joinedField(col);
+            if (joinedField != null) {
+                joinedValues[col] = joinedField.verifyAndConvert(bean.getClass(), line[col]);
+            } else {
                 setFieldValue(bean, line[col], col);
+            }
+        }
+        if (joinedValues != null) {
+            columns.assignJoinedValues(bean, joinedValues, line.length, false);
+        }
+        return bean;
+    }
+
+    /**
+     * Populates a new bean through the constructor annotated with
+     * {@link CsvConstructor}.
+     * The columns of fields the constructor takes are converted first, in
+     * order, and passed to the constructor. All other columns are then
+     * assigned to the new bean as usual.
+     *
+     * @param constructor The constructor
+     * @param columns     The resolved columns
+     * @param line        The line of input
+     * @return The new bean
+     */
+    @SuppressWarnings("unchecked")
+    private T populateThroughConstructor(BeanConstructor<? extends T> constructor, ResolvedColumns columns, String[] line)
+            throws InstantiationException, CsvRequiredFieldEmptyException,
+            CsvDataTypeMismatchException, CsvConstraintViolationException {
+        Object[] arguments = constructor.newArguments();
+        Object[] joinedValues = columns.hasJoinedColumns() ? new Object[line.length] : null;
+        for (int col = 0; col < line.length; col++) {
+            BeanFieldJoin<T, ?> joinedField = columns.joinedField(col);
+            if (joinedField != null) {
+                joinedValues[col] = joinedField.verifyAndConvert(type, line[col]);
+            } else {
+                int parameter = columns.parameter(col);
+                if (parameter >= 0) {
+                    Object value = ((AbstractBeanField<T, K>) columns.field(col)).verifyAndConvert(type, line[col]);
+                    
+                    // As with setters, a missing value leaves the default
+                    if (value != null) {
+                        arguments[parameter] = value;
+                    }
+                }
+            }
+        }
+        if (joinedValues != null) {
+            columns.joinArguments(arguments, joinedValues, line.length);
+        }
+        
+        T bean = constructor.newInstance(arguments);
+        for (int col = 0; col < line.length; col++) {
+            if (columns.joinedField(col) == null && columns.parameter(col) < 0) {
+                setFieldValue(bean, line[col], col);
+            }
+        }
+        if (joinedValues != null) {
+            columns.assignJoinedValues(bean, joinedValues, line.length, true);
         }
         return bean;
     }
@@ -201,7 +347,10 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     @Override
     public void setType(Class<? extends T> type) throws CsvBadConverterException {
         this.type = type;
+        nullaryConstructor = type != null ? BeanConstructor.forNullaryConstructor(type) : null;
+        annotatedConstructor = type != null ? BeanConstructor.forAnnotatedConstructor(type, errorLocale) : null;
         loadFieldMap();
+        clearResolvedColumns();
     }
     
     /**
@@ -260,12 +409,30 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
     protected void setFieldValue(T bean, String value, int column)
             throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
             CsvConstraintViolationException {
-        BeanField<T, K> beanField = findField(column);
+        ResolvedColumns columns = resolveColumns();
+        BeanField<T, K> beanField = columns.field(column);
         if (beanField != null) {
-            beanField.setFieldValue(bean, value, findHeader(column));
+            beanField.setFieldValue(bean, value, columns.header(column));
         }
     }
     
+    /**
+     * @return Whether a subclass overrides
+     *   {@link #setFieldValue(Object, String, int)}, which must then be
+     *   called for every column
+     */
+    private boolean overridesSetFieldValue() {
+        for (Class<?> c = getClass(); c != AbstractMappingStrategy.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("setFieldValue", Object.class, String.class, int.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Look further up
+            }
+        }
+        return false;
+    }
+
     @Override
     public String[] transmuteBean(T bean) throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
         int numColumns = headerIndex.findMaxIndex()+1;
@@ -278,12 +445,13 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         BeanField<T, K> firstBeanField, subsequentBeanField;
         K firstIndex, subsequentIndex;
         List<String> contents = new ArrayList<>(numColumns > 0 ? numColumns : 0);
+        ResolvedColumns columns = resolveColumns();
         
         for(int i = 0; i < numColumns;) {
             
             // Determine the first value
-            firstBeanField = findField(i);
-            firstIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
+            firstBeanField = columns.field(i);
+            firstIndex = columns.index(i);
             String[] fields = firstBeanField != null
                     ? firstBeanField.write(bean, firstIndex)
                     : ArrayUtils.EMPTY_STRING_ARRAY;
@@ -304,8 +472,8 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
                 // than we have columns of the correct type to cover them
                 int j = 1;
                 int displacedIndex = i+j;
-                subsequentBeanField = findField(displacedIndex);
-                subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(displacedIndex);
+                subsequentBeanField = columns.field(displacedIndex);
+                subsequentIndex = columns.index(displacedIndex);
                 while(j < fields.length
                         && displacedIndex < numColumns
                         && Objects.equals(firstBeanField, subsequentBeanField)
@@ -315,8 +483,8 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
                     
                     // Prepare for the next loop through
                     displacedIndex = i + (++j);
-                    subsequentBeanField = findField(displacedIndex);
-                    subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(displacedIndex);
+                    subsequentBeanField = columns.field(displacedIndex);
+                    subsequentIndex = columns.index(displacedIndex);
                 }
                 
                 i = displacedIndex; // Advance the index
@@ -324,14 +492,14 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
                 // And here's where we fill in any fields that are missing to
                 // cover the number of columns of the same type
                 if(i < numColumns) {
-                    subsequentBeanField = findField(i);
-                    subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
+                    subsequentBeanField = columns.field(i);
+                    subsequentIndex = columns.index(i);
                     while(Objects.equals(firstBeanField, subsequentBeanField)
                             && Objects.equals(firstIndex, subsequentIndex)
                             && i < numColumns) {
                         contents.add(StringUtils.EMPTY);
-                        subsequentBeanField = findField(++i);
-                        subsequentIndex = chooseMultivaluedFieldIndexFromHeaderIndex(i);
+                        subsequentBeanField = columns.field(++i);
+                        subsequentIndex = columns.index(i);
                     }
                 }
             }
@@ -339,6 +507,211 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         return contents;
     }
     
+    /**
+     * The bean fields, headers and multivalued field indices of all columns
+     * in {@link #headerIndex} at one point in time. Columns beyond the header
+     * are looked up when they are asked for, as before.
+     * <p>Instances are immutable once constructed, so they can be shared by
+     * the threads that populate or transmute beans.</p>
+     */
+    final class ResolvedColumns {
+        private final int headerModificationCount;
+        private final FieldMap<I, K, ? extends C, T> fieldMap;
+        private final BeanField<T, K>[] fields;
+        private final String[] headers;
+        private final Object[] indices;
+
+        /**
+         * The field of every column whose field is a {@link BeanFieldJoin}
+         * filled with all of its columns at once, and null for all other
+         * columns. Null if there are no such columns.
+         * <p>These are the built-in {@link BeanFieldJoin}s, as long as
+         * {@link #setFieldValue(Object, String, int)} is not overridden, and
+         * every {@link BeanFieldJoin} passed to the annotated
+         * constructor.</p>
+         */
+        private final BeanFieldJoin<T, ?>[] joinedFields;
+
+        /** The columns of every {@link BeanFieldJoin}. */
+        private final List<JoinedColumns> joinedColumns;
+
+        /**
+         * The constructor of the bean type annotated with
+         * {@link CsvConstructor}, as it was when the columns were resolved,
+         * or null.
+         */
+        private final BeanConstructor<? extends T> constructor;
+
+        /**
+         * The position of the field of every column among the parameters of
+         * {@link #constructor}, or -1. Null if there is no constructor.
+         */
+        private final int[] parameters;
+
+        @SuppressWarnings("unchecked")
+        private ResolvedColumns() {
+            headerModificationCount = headerIndex.getModificationCount();
+            fieldMap = getFieldMap();
+            int numColumns = headerIndex.findMaxIndex() + 1;
+            fields = (BeanField<T, K>[]) new BeanField<?, ?>[numColumns];
+            headers = new String[numColumns];
+            indices = new Object[numColumns];
+            constructor = annotatedConstructor;
+            parameters = constructor != null ? new int[numColumns] : null;
+            boolean bulkJoin = !overridesSetFieldValue();
+            Map<BeanFieldJoin<T, ?>, List<Integer>> columnsByJoinedField = new LinkedHashMap<>();
+            for (int col = 0; col < numColumns; col++) {
+                fields[col] = findField(col);
+                headers[col] = findHeader(col);
+                indices[col] = chooseMultivaluedFieldIndexFromHeaderIndex(col);
+                if (parameters != null) {
+                    parameters[col] = constructor.parameterIndex(fields[col]);
+                }
+                
+                // A map passed to the constructor can only be filled at once.
+                // Otherwise, subclasses that override setFieldValue() or
+                // assignValueToField() must see every column.
+                if (fields[col] instanceof BeanFieldJoin
+                        && (bulkJoin && isBuiltInJoin(fields[col]) || parameters != null && parameters[col] >= 0)) {
+                    columnsByJoinedField.computeIfAbsent(
+                            (BeanFieldJoin<T, ?>) fields[col], f -> new ArrayList<>()).add(col);
+                }
+            }
+
+            if (columnsByJoinedField.isEmpty()) {
+                joinedFields = null;
+                joinedColumns = Collections.emptyList();
+            } else {
+                joinedFields = (BeanFieldJoin<T, ?>[]) new BeanFieldJoin<?, ?>[numColumns];
+                joinedColumns = new ArrayList<>(columnsByJoinedField.size());
+                columnsByJoinedField.forEach((field, cols) -> {
+                    int[] c = new int[cols.size()];
+                    Set<String> keys = new HashSet<>();
+                    for (int i = 0; i < c.length; i++) {
+                        c[i] = cols.get(i);
+                        joinedFields[c[i]] = field;
+                        keys.add(headers[c[i]]);
+                    }
+                    joinedColumns.add(new JoinedColumns(field, c, keys.size(),
+                            constructor != null ? constructor.parameterIndex(field) : -1));
+                });
+            }
+        }
+
+        private boolean isBuiltInJoin(BeanField<T, K> field) {
+            return field.getClass() == BeanFieldJoinStringIndex.class
+                    || field.getClass() == BeanFieldJoinIntegerIndex.class;
+        }
+
+        private boolean isCurrent() {
+            return headerModificationCount == headerIndex.getModificationCount()
+                    && fieldMap == getFieldMap();
+        }
+
+        BeanField<T, K> field(int col) {
+            return col < fields.length ? fields[col] : findField(col);
+        }
+
+        String header(int col) {
+            return col < headers.length ? headers[col] : findHeader(col);
+        }
+
+        @SuppressWarnings("unchecked")
+        K index(int col) {
+            return col < indices.length ? (K) indices[col] : chooseMultivaluedFieldIndexFromHeaderIndex(col);
+        }
+
+        boolean hasJoinedColumns() {
+            return joinedFields != null;
+        }
+
+        /**
+         * @param col The column
+         * @return The {@link BeanFieldJoin} the column is joined into, or
+         *   null if it is not joined into one or lies beyond the header. The
+         *   latter are assigned one at a time, as before.
+         */
+        BeanFieldJoin<T, ?> joinedField(int col) {
+            return joinedFields != null && col < joinedFields.length ? joinedFields[col] : null;
+        }
+
+        /**
+         * @param col The column
+         * @return The position of the field of the column among the
+         *   parameters of the annotated constructor, or -1 if it is
+         *   not one of them
+         */
+        int parameter(int col) {
+            if (parameters == null) {
+                return -1;
+            }
+            if (col < parameters.length) {
+                return parameters[col];
+            }
+            
+            // Joined columns beyond the header are assigned one at a time
+            BeanField<T, K> field = findField(col);
+            return field instanceof BeanFieldJoin ? -1 : constructor.parameterIndex(field);
+        }
+
+        /**
+         * Assigns the values of all columns that are joined into a
+         * {@link BeanFieldJoin}, one field at a time.
+         *
+         * @param bean   The bean being populated
+         * @param values The converted values of the joined columns, by column
+         * @param length The number of columns in the line
+         * @param skipParameters Whether fields that have been passed to the
+         *   annotated constructor are to be skipped
+         * @throws CsvDataTypeMismatchException If a map cannot be assigned
+         */
+        void assignJoinedValues(T bean, Object[] values, int length, boolean skipParameters)
+                throws CsvDataTypeMismatchException {
+            for (JoinedColumns j : joinedColumns) {
+                if (!skipParameters || j.parameter < 0) {
+                    j.field.assignValuesToField(bean, j.columns, headers, values, length, j.keys);
+                }
+            }
+        }
+
+        /**
+         * Puts the values of all columns that are joined into a
+         * {@link BeanFieldJoin} taken by the annotated constructor
+         * into new maps, and these into the arguments for the constructor.
+         *
+         * @param arguments The arguments for the constructor
+         * @param values    The converted values of the joined columns, by
+         *                  column
+         * @param length    The number of columns in the line
+         */
+        void joinArguments(Object[] arguments, Object[] values, int length) {
+            for (JoinedColumns j : joinedColumns) {
+                if (j.parameter >= 0) {
+                    Object map = j.field.joinValues(null, null, j.columns, headers, values, length, j.keys);
+                    if (map != null) {
+                        arguments[j.parameter] = map;
+                    }
+                }
+            }
+        }
+    }
+
+    /** A {@link BeanFieldJoin} and the columns joined into it. */
+    private final class JoinedColumns {
+        private final BeanFieldJoin<T, ?> field;
+        private final int[] columns;
+        private final int keys;
+        /** The position of the field among the constructor parameters, or -1. */
+        private final int parameter;
+
+        private JoinedColumns(BeanFieldJoin<T, ?> field, int[] columns, int keys, int parameter) {
+            this.field = field;
+            this.columns = columns;
+            this.keys = keys;
+            this.parameter = parameter;
+        }
+    }
+
     /**
      * Given the information provided, determines the appropriate built-in
      * converter to be passed in to the {@link BeanField} being created.
@@ -378,7 +751,11 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
         // Perhaps a date instead
         else if (field.isAnnotationPresent(CsvDate.class)) {
             String formatString = field.getAnnotation(CsvDate.class).value();
-            converter = new ConverterDate(elementType, locale, errorLocale, formatString);
+            if (ConverterTemporal.isSupported(elementType)) {
+                converter = new ConverterTemporal(elementType, locale, errorLocale, formatString);
+            } else {
+                converter = new ConverterDate(elementType, locale, errorLocale, formatString);
+            }
         }
 
         // Or a number
@@ -387,9 +764,13 @@ abstract public class AbstractMappingStrategy<I, K extends Comparable<K>, C exte
             converter = new ConverterNumber(elementType, locale, errorLocale, formatString);
         }
 
-        // Otherwise it must be a primitive
+        // Otherwise it must be a primitive. Without a locale, the common
+        // types are converted without the detour through BeanUtils.
         else {
-            converter = new ConverterPrimitiveTypes(elementType, locale, errorLocale);
+            converter = StringUtils.isEmpty(locale) ? PrimitiveConverters.forType(elementType, errorLocale) : null;
+            if (converter == null) {
+                converter = new ConverterPrimitiveTypes(elementType, locale, errorLocale);
+            }
         }
         return converter;
     }
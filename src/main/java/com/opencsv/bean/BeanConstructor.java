@@ -0,0 +1,241 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import com.opencsv.ICSVParser;
+import com.opencsv.exceptions.CsvBadConverterException;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ResourceBundle;
+
+/**
+ * Creates beans of one type through one of its constructors, which is looked
+ * up when the type of a mapping strategy is set, instead of through
+ * {@link Class#newInstance()} for every bean.
+ * <p>{@link #forNullaryConstructor(Class)} creates a {@link BeanFactory}
+ * for the public nullary constructor of a bean type. As with
+ * {@link PropertyAccessor}, {@link LambdaMetafactory} generates a class that
+ * calls the constructor directly if it can, and a {@link MethodHandle} is
+ * used otherwise.</p>
+ * <p>{@link #forAnnotatedConstructor(Class, Locale)} supports immutable
+ * beans through the constructor annotated with {@link CsvConstructor}, which
+ * names the field each parameter takes. The values converted from one line
+ * of input are collected and passed to that constructor at once.</p>
+ *
+ * @param <T> The type of the beans created
+ * @since 5.0
+ */
+final class BeanConstructor<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * The factory for the nullary constructor of every type, created only
+     * once per type, however many mapping strategies use it.
+     */
+    private static final ClassValue<Optional<BeanFactory<?>>> NULLARY_CONSTRUCTORS =
+            new ClassValue<Optional<BeanFactory<?>>>() {
+                @Override
+                protected Optional<BeanFactory<?>> computeValue(Class<?> type) {
+                    return Optional.ofNullable(createNullaryFactory(type));
+                }
+            };
+
+    /** The constructor, taking all of its arguments as one array. */
+    private final MethodHandle constructor;
+
+    /** The position of every field among the parameters. */
+    private final Map<Field, Integer> parameters;
+
+    /** The arguments used for fields without a value. */
+    private final Object[] defaults;
+
+    private BeanConstructor(MethodHandle constructor, Map<Field, Integer> parameters, Object[] defaults) {
+        this.constructor = constructor;
+        this.parameters = parameters;
+        this.defaults = defaults;
+    }
+
+    /**
+     * Creates a factory that calls the nullary constructor of a type.
+     *
+     * @param type The type of bean to create
+     * @param <T>  The type of bean to create
+     * @return The factory, or null if the type has no public nullary
+     *   constructor or no factory can be created for it
+     */
+    @SuppressWarnings("unchecked")
+    static <T> BeanFactory<T> forNullaryConstructor(Class<T> type) {
+        return (BeanFactory<T>) NULLARY_CONSTRUCTORS.get(type).orElse(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> BeanFactory<T> createNullaryFactory(Class<T> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        try {
+            MethodHandle handle = LOOKUP.unreflectConstructor(type.getConstructor());
+            if (PropertyAccessor.isVisible(type)) {
+                try {
+                    CallSite site = LambdaMetafactory.metafactory(LOOKUP, "createBean",
+                            MethodType.methodType(BeanFactory.class),
+                            MethodType.methodType(Object.class), handle,
+                            MethodType.methodType(type));
+                    return (BeanFactory) site.getTarget().invokeExact();
+                } catch (LambdaConversionException e) {
+                    // Use the method handle
+                }
+            }
+            MethodHandle generic = handle.asType(MethodType.methodType(Object.class));
+            return () -> (T) invoke(generic, null);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the constructor of a type annotated with {@link CsvConstructor}.
+     *
+     * @param type        The type of bean to create
+     * @param errorLocale The locale for error messages
+     * @param <T>         The type of bean to create
+     * @return The constructor, or null if no constructor is annotated
+     * @throws CsvBadConverterException If more than one constructor is
+     *   annotated, or the fields named in the annotation do not match the
+     *   parameters of the constructor
+     */
+    static <T> BeanConstructor<T> forAnnotatedConstructor(Class<T> type, Locale errorLocale)
+            throws CsvBadConverterException {
+        Constructor<?> annotated = null;
+        for (Constructor<?> c : type.getDeclaredConstructors()) {
+            if (c.isAnnotationPresent(CsvConstructor.class)) {
+                if (annotated != null) {
+                    throw invalidConstructor(type, errorLocale, null);
+                }
+                annotated = c;
+            }
+        }
+        if (annotated == null) {
+            return null;
+        }
+
+        String[] names = annotated.getAnnotation(CsvConstructor.class).value();
+        Class<?>[] parameterTypes = annotated.getParameterTypes();
+        if (names.length != parameterTypes.length) {
+            throw invalidConstructor(type, errorLocale, null);
+        }
+        Map<Field, Integer> parameters = new HashMap<>();
+        Object[] defaults = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            Field f = FieldUtils.getField(type, names[i], true);
+            if (f == null || Modifier.isStatic(f.getModifiers())
+                    || !ClassUtils.isAssignable(f.getType(), parameterTypes[i], true)
+                    || parameters.put(f, i) != null) {
+                throw invalidConstructor(type, errorLocale, null);
+            }
+            if (parameterTypes[i].isPrimitive()) {
+                defaults[i] = Array.get(Array.newInstance(parameterTypes[i], 1), 0);
+            }
+        }
+
+        try {
+            annotated.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflectConstructor(annotated)
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            return new BeanConstructor<>(handle, parameters, defaults);
+        } catch (IllegalAccessException | SecurityException e) {
+            throw invalidConstructor(type, errorLocale, e);
+        }
+    }
+
+    private static CsvBadConverterException invalidConstructor(Class<?> type, Locale errorLocale, Exception cause) {
+        CsvBadConverterException csve = new CsvBadConverterException(BeanConstructor.class,
+                String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                        .getString("constructor.invalid"), type.getName()));
+        if (cause != null) {
+            csve.initCause(cause);
+        }
+        return csve;
+    }
+
+    /**
+     * @param field A bean field, possibly null
+     * @return The position of the field among the parameters of the
+     *   constructor, or -1 if it is not one of them or cannot be converted
+     *   on its own
+     */
+    int parameterIndex(BeanField<?, ?> field) {
+        Integer i = field instanceof AbstractBeanField ? parameters.get(field.getField()) : null;
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * @return The arguments for a bean none of whose fields have a value, to
+     *   be filled in and passed to {@link #newInstance(Object[])}
+     */
+    Object[] newArguments() {
+        return defaults.clone();
+    }
+
+    /**
+     * Creates a new bean.
+     *
+     * @param arguments The values of all fields, as positioned by
+     *   {@link #parameterIndex(BeanField)}
+     * @return The new bean
+     * @throws InstantiationException If the constructor throws a checked
+     *   exception
+     */
+    @SuppressWarnings("unchecked")
+    T newInstance(Object[] arguments) throws InstantiationException {
+        return (T) invoke(constructor, arguments);
+    }
+
+    /**
+     * Calls a constructor, reporting what it throws as
+     * {@link Class#newInstance()} would, except that checked exceptions are
+     * wrapped.
+     */
+    private static Object invoke(MethodHandle constructor, Object[] arguments) throws InstantiationException {
+        try {
+            if (arguments == null) {
+                return (Object) constructor.invokeExact();
+            }
+            return (Object) constructor.invokeExact(arguments);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            InstantiationException ie = new InstantiationException(e.getLocalizedMessage());
+            ie.initCause(e);
+            throw ie;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+/**
+ * Creates the beans that a {@link MappingStrategy} populates from input.
+ * <p>By default, an {@link AbstractMappingStrategy} creates beans through
+ * the nullary constructor of the bean type. A factory can be set with
+ * {@link AbstractMappingStrategy#setBeanFactory(BeanFactory)} instead, for
+ * example a method reference to a constructor or a factory method that is
+ * not nullary or not public, or that hands out beans from a dependency
+ * injection container.</p>
+ * <p>Factories <em>must</em> be thread-safe, since beans may be created by
+ * several threads at once.</p>
+ *
+ * @param <T> The type of the beans created
+ * @since 5.0
+ */
+@FunctionalInterface
+public interface BeanFactory<T> {
+
+    /**
+     * Creates a new bean to be populated.
+     *
+     * @return A new bean. Never null.
+     * @throws InstantiationException If the bean cannot be created
+     * @throws IllegalAccessException If the bean cannot be created for
+     *   lack of access
+     */
+    T createBean() throws InstantiationException, IllegalAccessException;
+}
@@ -50,6 +50,15 @@ abstract public class BeanFieldJoin<T, I> extends BeanFieldSingleValue<T, I> {
      */
     private final Class<? extends MultiValuedMap> mapType;
     
+    /**
+     * The nullary constructor of {@link #mapType}, or null if it has none.
+     * In that case the map cannot be instantiated, which is reported when a
+     * map is first needed.
+     * 
+     * @since 5.0
+     */
+    private final Constructor<? extends MultiValuedMap> mapConstructor;
+    
     /**
      * Creates a new instance.
      * 
@@ -123,6 +132,15 @@ abstract public class BeanFieldJoin<T, I> extends BeanFieldSingleValue<T, I> {
                                     errorLocale).getString("unassignable.multivaluedmap.type"),
                             mapType.getName(), field.getType().getName()));
         }
+        
+        Constructor<? extends MultiValuedMap> c;
+        try {
+            c = this.mapType.getConstructor();
+        }
+        catch(NoSuchMethodException e) {
+            c = null;
+        }
+        mapConstructor = c;
     }
     
     /**
@@ -158,29 +176,145 @@ abstract public class BeanFieldJoin<T, I> extends BeanFieldSingleValue<T, I> {
         MultiValuedMap<I,Object> currentValue = (MultiValuedMap<I,Object>) getFieldValue(bean);
         try {
             if(currentValue == null) {
-                Constructor<? extends MultiValuedMap> c = mapType.getConstructor();
-                currentValue = c.newInstance();
+                currentValue = newMap(bean, 0, 0);
             }
             putNewValue(currentValue, header, obj);
             super.assignValueToField(bean, currentValue, header);
-        } catch (IllegalAccessException | InvocationTargetException | ClassCastException e) {
+        } catch (ClassCastException e) {
             CsvBeanIntrospectionException csve =
                     new CsvBeanIntrospectionException(bean, field,
                             e.getLocalizedMessage());
             csve.initCause(e);
             throw csve;
-        } catch(InstantiationException | NoSuchMethodException e) {
-            CsvBadConverterException csve = new CsvBadConverterException(
-                    BeanFieldJoin.class,
-                    String.format(
-                            ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
-                                    .getString("map.cannot.be.instantiated"),
-                            mapType.getName()));
+        }
+    }
+    
+    /**
+     * Assigns the values of all columns of one line that are joined into this
+     * field to the bean at once.
+     * The result is the same as assigning them one after the other with
+     * {@link #assignValueToField(Object, Object, String)}, but the map is
+     * read from the bean, instantiated if necessary and written back to the
+     * bean only once, and a new map is sized for all of the values.
+     * 
+     * @param bean The bean in which the field is located
+     * @param columns The columns joined into this field in ascending order
+     * @param headers The headers of all columns of the line, by column
+     * @param values The converted values of all columns of the line, by
+     *   column
+     * @param length The number of columns in the line. Columns in
+     *   {@code columns} at or beyond this are ignored.
+     * @param keys The number of distinct headers of {@code columns}, used to
+     *   size a new map
+     * @throws CsvDataTypeMismatchException If the map cannot be assigned to
+     *   the field
+     * @since 5.0
+     */
+    void assignValuesToField(T bean, int[] columns, String[] headers, Object[] values, int length, int keys)
+            throws CsvDataTypeMismatchException {
+        @SuppressWarnings("unchecked")
+        MultiValuedMap<I,Object> currentValue = (MultiValuedMap<I,Object>) getFieldValue(bean);
+        try {
+            MultiValuedMap<I,Object> map = joinValues(bean, currentValue, columns, headers, values, length, keys);
+            if(map != null) {
+                super.assignValueToField(bean, map, headers[columns[0]]);
+            }
+        } catch (ClassCastException e) {
+            CsvBeanIntrospectionException csve =
+                    new CsvBeanIntrospectionException(bean, field,
+                            e.getLocalizedMessage());
             csve.initCause(e);
             throw csve;
         }
     }
     
+    /**
+     * Puts the values of all columns of one line that are joined into this
+     * field into a map.
+     * 
+     * @param bean The bean the map is meant for, or null if it does not
+     *   exist yet
+     * @param currentValue The map to put the values in, or null if a new
+     *   map is to be created
+     * @param columns The columns joined into this field in ascending order
+     * @param headers The headers of all columns of the line, by column
+     * @param values The converted values of all columns of the line, by
+     *   column
+     * @param length The number of columns in the line. Columns in
+     *   {@code columns} at or beyond this are ignored.
+     * @param keys The number of distinct headers of {@code columns}, used to
+     *   size a new map
+     * @return The map, or null if none of {@code columns} are in the line
+     * @since 5.0
+     */
+    MultiValuedMap<I,Object> joinValues(T bean, MultiValuedMap<I,Object> currentValue,
+            int[] columns, String[] headers, Object[] values, int length, int keys) {
+        int count = 0;
+        while(count < columns.length && columns[count] < length) {
+            count++;
+        }
+        if(count == 0) {
+            return null;
+        }
+        
+        if(currentValue == null) {
+            currentValue = newMap(bean, keys, (count + keys - 1) / keys);
+        }
+        for(int i = 0; i < count; i++) {
+            putNewValue(currentValue, headers[columns[i]], values[columns[i]]);
+        }
+        return currentValue;
+    }
+    
+    /**
+     * Instantiates a new, empty map for the field.
+     * 
+     * @param bean The bean the map is meant for, or null if it does not
+     *   exist yet
+     * @param keys The number of keys expected, or zero if unknown
+     * @param valuesPerKey The number of values expected for every key, or
+     *   zero if unknown
+     * @return A new map of type {@link #mapType}
+     * @throws CsvBadConverterException If the map cannot be instantiated
+     * @since 5.0
+     */
+    @SuppressWarnings("unchecked")
+    private MultiValuedMap<I,Object> newMap(T bean, int keys, int valuesPerKey) {
+        // The default implementations can be sized up front
+        if(keys > 0) {
+            int mapCapacity = keys * 4 / 3 + 1;
+            if(ArrayListValuedHashMap.class.equals(mapType)) {
+                return new ArrayListValuedHashMap<>(mapCapacity, valuesPerKey);
+            }
+            if(HashSetValuedHashMap.class.equals(mapType)) {
+                return new HashSetValuedHashMap<>(mapCapacity, valuesPerKey * 4 / 3 + 1);
+            }
+        }
+        
+        Exception cause = null;
+        if(mapConstructor != null) {
+            try {
+                return mapConstructor.newInstance();
+            } catch(IllegalAccessException | InvocationTargetException e) {
+                CsvBeanIntrospectionException csve =
+                        new CsvBeanIntrospectionException(bean, field,
+                                e.getLocalizedMessage());
+                csve.initCause(e);
+                throw csve;
+            } catch(InstantiationException e) {
+                cause = e;
+            }
+        }
+        CsvBadConverterException csve = new CsvBadConverterException(
+                BeanFieldJoin.class,
+                String.format(
+                        ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                .getString("map.cannot.be.instantiated"),
+                        mapType.getName()));
+        csve.initCause(cause);
+        throw csve;
+    }
+    
     /**
      * @return An array of all objects in the
      *   {@link org.apache.commons.collections4.MultiValuedMap} addressed by
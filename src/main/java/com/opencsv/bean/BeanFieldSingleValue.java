@@ -18,10 +18,13 @@ package com.opencsv.bean;
 import com.opencsv.ICSVParser;
 import com.opencsv.exceptions.CsvBadConverterException;
 import com.opencsv.exceptions.CsvConstraintViolationException;
+import com.opencsv.exceptions.CsvBeanIntrospectionException;
 import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import org.apache.commons.lang3.StringUtils;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.regex.Matcher;
@@ -49,6 +52,16 @@ public class BeanFieldSingleValue<T, I> extends AbstractBeanField<T, I> {
      */
     protected final String writeFormat;
     
+    /**
+     * The converter, if values can be assigned to the field without boxing
+     * them. This is the case for {@code int}, {@code long} and
+     * {@code double} fields converted by {@link PrimitiveConverters}, as long
+     * as this class is not extended. Otherwise null.
+     * 
+     * @since 5.0
+     */
+    private final CsvConverter primitiveConverter;
+    
     /**
      * Simply calls the same constructor in the base class.
      * @param field A {@link java.lang.reflect.Field} object.
@@ -71,6 +84,57 @@ public class BeanFieldSingleValue<T, I> extends AbstractBeanField<T, I> {
 
         // Verify that the format string works as expected
         OpencsvUtils.verifyFormatString(this.writeFormat, BeanFieldSingleValue.class, this.errorLocale);
+        
+        // Derived classes may convert or assign differently
+        Class<?> type = field.getType();
+        this.primitiveConverter = getClass() == BeanFieldSingleValue.class
+                && (type == Integer.TYPE && converter instanceof PrimitiveConverters.IntCsvConverter
+                || type == Long.TYPE && converter instanceof PrimitiveConverters.LongCsvConverter
+                || type == Double.TYPE && converter instanceof PrimitiveConverters.DoubleCsvConverter)
+                ? converter : null;
+    }
+    
+    /**
+     * Converts and assigns {@code int}, {@code long} and {@code double}
+     * values without boxing them, if the converter and the way the field is
+     * written allow it.
+     */
+    // The rest of the Javadoc is inherited
+    @Override
+    boolean assignPrimitive(T bean, String value)
+            throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException {
+        if(primitiveConverter == null) {
+            return false;
+        }
+        PropertyAccessor writer = primitiveWriter(bean);
+        if(writer == null) {
+            return false;
+        }
+        verifyRequired(bean.getClass(), value);
+        value = applyCapture(value);
+        
+        // Blank input converts to null, which is never assigned
+        if(StringUtils.isBlank(value)) {
+            return true;
+        }
+        try {
+            if(primitiveConverter instanceof PrimitiveConverters.IntCsvConverter) {
+                writer.setInt(bean, ((PrimitiveConverters.IntCsvConverter) primitiveConverter).convertToInt(value));
+            }
+            else if(primitiveConverter instanceof PrimitiveConverters.LongCsvConverter) {
+                writer.setLong(bean, ((PrimitiveConverters.LongCsvConverter) primitiveConverter).convertToLong(value));
+            }
+            else {
+                writer.setDouble(bean, ((PrimitiveConverters.DoubleCsvConverter) primitiveConverter).convertToDouble(value));
+            }
+        } catch (InvocationTargetException e) {
+            CsvBeanIntrospectionException csve =
+                    new CsvBeanIntrospectionException(bean, field,
+                            e.getLocalizedMessage());
+            csve.initCause(e);
+            throw csve;
+        }
+        return true;
     }
 
     /**
@@ -80,17 +144,27 @@ public class BeanFieldSingleValue<T, I> extends AbstractBeanField<T, I> {
     // The rest of the Javadoc is inherited
     @Override
     protected Object convert(String value) throws CsvDataTypeMismatchException, CsvConstraintViolationException {
+        value = applyCapture(value);
+        if(converter != null) {
+            return converter.convertToRead(value);
+        }
+        throw new CsvBadConverterException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("no.converter.specified"));
+    }
+    
+    /**
+     * @param value The input
+     * @return The part of the input captured by {@link #capture}, or the
+     *   input itself if there is no capture expression or it does not match
+     */
+    private String applyCapture(String value) {
         if(capture != null) {
             Matcher m = capture.matcher(value);
             if(m.matches()) {
-                value = m.group(1);
+                return m.group(1);
             }
             // Otherwise value remains intentionally unchanged
         }
-        if(converter != null) {
-            return converter.convertToRead(value);
-        }
-        throw new CsvBadConverterException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("no.converter.specified"));
+        return value;
     }
     
     /**
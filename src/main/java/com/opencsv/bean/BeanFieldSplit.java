@@ -26,8 +26,11 @@ import org.apache.commons.collections4.bag.HashBag;
 import org.apache.commons.collections4.bag.TreeBag;
 import org.apache.commons.lang3.StringUtils;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.function.IntFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -45,6 +48,29 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
     private final String writeDelimiter, writeFormat;
     private final Class<? extends Collection> collectionType;
     
+    /**
+     * Creates the collection for one value, given the number of elements it
+     * will hold.
+     * 
+     * @since 5.0
+     */
+    private final IntFunction<Collection<Object>> collectionFactory;
+    
+    /**
+     * The character {@link #splitOn} consists of, if it matches nothing but
+     * this one character, otherwise -1.
+     * 
+     * @since 5.0
+     */
+    private final int splitCharacter;
+    
+    /**
+     * Whether {@link #splitOn} is {@code \s+}, the default.
+     * 
+     * @since 5.0
+     */
+    private final boolean splitOnWhitespace;
+    
     /**
      * The only valid constructor.
      * 
@@ -142,6 +168,103 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
                                     this.errorLocale).getString("unassignable.collection.type"),
                             collectionType.getName(), field.getType().getName()));
         }
+        
+        // Avoid the regular expression engine for the most common delimiters
+        this.splitCharacter = literalCharacter(splitOn);
+        this.splitOnWhitespace = "\\s+".equals(splitOn);
+        this.collectionFactory = collectionFactory(this.collectionType);
+    }
+    
+    /**
+     * Determines whether a regular expression matches exactly one character
+     * and nothing else.
+     * 
+     * @param regex The regular expression
+     * @return The character matched, or -1 if the expression is not a single,
+     *   possibly escaped, literal character
+     * @since 5.0
+     */
+    private static int literalCharacter(String regex) {
+        char c;
+        if(regex.length() == 1) {
+            c = regex.charAt(0);
+            if(".$|()[{^?*+\\".indexOf(c) != -1) {
+                return -1;
+            }
+        }
+        else if(regex.length() == 2 && regex.charAt(0) == '\\') {
+            c = regex.charAt(1);
+            if(Character.isLetterOrDigit(c)) {
+                return -1;
+            }
+        }
+        else {
+            return -1;
+        }
+        return Character.isSurrogate(c) ? -1 : c;
+    }
+    
+    /**
+     * Finds the fastest way to create a collection of the given type.
+     * The standard implementations are created directly and, where they
+     * support it, with enough room for all elements. Anything else is
+     * created through its nullary constructor, which is looked up only once.
+     * 
+     * @param type The type of collection to create
+     * @return A function creating an empty collection with room for the
+     *   given number of elements
+     * @since 5.0
+     */
+    @SuppressWarnings("unchecked")
+    private IntFunction<Collection<Object>> collectionFactory(Class<? extends Collection> type) {
+        if(ArrayList.class.equals(type)) {
+            return ArrayList::new;
+        }
+        if(HashSet.class.equals(type)) {
+            return n -> new HashSet<>(n * 4 / 3 + 1);
+        }
+        if(LinkedHashSet.class.equals(type)) {
+            return n -> new LinkedHashSet<>(n * 4 / 3 + 1);
+        }
+        if(ArrayDeque.class.equals(type)) {
+            return ArrayDeque::new;
+        }
+        if(TreeSet.class.equals(type)) {
+            return n -> new TreeSet<>();
+        }
+        if(HashBag.class.equals(type)) {
+            return n -> new HashBag<>();
+        }
+        if(TreeBag.class.equals(type)) {
+            return n -> new TreeBag<>();
+        }
+        
+        Constructor<? extends Collection> c;
+        try {
+            c = type.getConstructor();
+        }
+        catch(NoSuchMethodException e) {
+            c = null;
+        }
+        final Constructor<? extends Collection> constructor = c;
+        return n -> {
+            try {
+                if(constructor == null) {
+                    throw new InstantiationException();
+                }
+                return constructor.newInstance();
+            }
+            catch(InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
+                        String.format(
+                                ResourceBundle
+                                        .getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
+                                        .getString("collection.cannot.be.instantiated"),
+                                type.getCanonicalName()));
+                csve.initCause(e);
+                throw csve;
+            }
+        };
     }
 
     /**
@@ -156,25 +279,14 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
     // The rest of the Javadoc is inherited
     @Override
     protected Object convert(String value) throws CsvDataTypeMismatchException, CsvConstraintViolationException {
-        Collection<Object> collection;
-        try {
-            collection = collectionType.newInstance();
-        }
-        catch(InstantiationException | IllegalAccessException e) {
-            CsvBeanIntrospectionException csve = new CsvBeanIntrospectionException(
-                    String.format(
-                            ResourceBundle
-                                    .getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
-                                    .getString("collection.cannot.be.instantiated"),
-                            collectionType.getCanonicalName()));
-            csve.initCause(e);
-            throw csve;
-        }
+        List<String> splitValues = split(value);
+        Collection<Object> collection = collectionFactory.apply(splitValues.size());
         
-        String[] splitValues = splitOn.split(value);
+        // One matcher does for all elements
+        Matcher m = null;
         for(String s : splitValues) {
             if(capture != null) {
-                Matcher m = capture.matcher(s);
+                m = m == null ? capture.matcher(s) : m.reset(s);
                 if(m.matches()) {
                     s = m.group(1);
                 }
@@ -184,6 +296,61 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
         }
         return collection;
     }
+    
+    /**
+     * Splits the input exactly as {@link Pattern#split(CharSequence)} with
+     * {@link #splitOn} would, but without the regular expression engine if
+     * the delimiter is a single character or whitespace.
+     * 
+     * @param value The input to be split
+     * @return The elements of the input
+     * @since 5.0
+     */
+    private List<String> split(String value) {
+        if(splitCharacter == -1 && !splitOnWhitespace) {
+            return Arrays.asList(splitOn.split(value));
+        }
+        
+        List<String> elements = null;
+        int start = 0, i = 0, length = value.length();
+        while(i < length) {
+            if(isDelimiter(value.charAt(i))) {
+                if(elements == null) {
+                    elements = new ArrayList<>();
+                }
+                elements.add(value.substring(start, i));
+                i++;
+                if(splitOnWhitespace) {
+                    while(i < length && isDelimiter(value.charAt(i))) {
+                        i++;
+                    }
+                }
+                start = i;
+            }
+            else {
+                i++;
+            }
+        }
+        if(elements == null) {
+            return Collections.singletonList(value);
+        }
+        elements.add(value.substring(start));
+        
+        // Trailing empty strings are not included, as with Pattern.split()
+        int size = elements.size();
+        while(size > 0 && elements.get(size-1).isEmpty()) {
+            size--;
+        }
+        return elements.subList(0, size);
+    }
+    
+    private boolean isDelimiter(char c) {
+        if(splitOnWhitespace) {
+            // The characters matched by \s
+            return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+        }
+        return c == splitCharacter;
+    }
 
     /**
      * Manages converting a collection of values into a single string.
@@ -196,17 +363,25 @@ public class BeanFieldSplit<T, I> extends AbstractBeanField<T, I> {
         String retval = StringUtils.EMPTY;
         if(value != null) {
             @SuppressWarnings("unchecked") Collection<Object> collection = (Collection<Object>) value;
-            String[] convertedValue = new String[collection.size()];
-            int i = 0;
+            boolean formatted = StringUtils.isNotEmpty(this.writeFormat);
+            StringBuilder sb = new StringBuilder();
+            boolean first = true;
             for(Object o : collection) {
-                convertedValue[i] = converter.convertToWrite(o);
-                if(StringUtils.isNotEmpty(this.writeFormat)
-                        && StringUtils.isNotEmpty(convertedValue[i])) {
-                    convertedValue[i] = String.format(this.writeFormat, convertedValue[i]);
+                if(!first && writeDelimiter != null) {
+                    sb.append(writeDelimiter);
+                }
+                first = false;
+                
+                // Null elements are written as empty strings, as StringUtils.join() does
+                String convertedValue = converter.convertToWrite(o);
+                if(formatted && StringUtils.isNotEmpty(convertedValue)) {
+                    convertedValue = String.format(this.writeFormat, convertedValue);
+                }
+                if(convertedValue != null) {
+                    sb.append(convertedValue);
                 }
-                i++;
             }
-            retval = StringUtils.join(convertedValue, writeDelimiter); // String.join() make null into "null"
+            retval = sb.toString();
         }
         return retval;
     }
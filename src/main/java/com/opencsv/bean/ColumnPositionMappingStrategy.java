@@ -86,6 +86,8 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
                 }
             }
         }
+        clearResolvedColumns();
+        resolveColumns();
     }
 
     /**
@@ -124,6 +126,7 @@ public class ColumnPositionMappingStrategy<T> extends AbstractMappingStrategy<St
 
         // Create the mapping for input column index to output column index.
         Arrays.sort(columnIndexForWriting, writeOrder);
+        clearResolvedColumns();
         return ArrayUtils.EMPTY_STRING_ARRAY;
     }
 
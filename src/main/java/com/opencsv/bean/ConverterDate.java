@@ -41,10 +41,11 @@ public class ConverterDate extends AbstractCsvConverter {
     private static final String CSVDATE_NOT_DATE = "csvdate.not.date";
     /**
      * The formatter for all inputs to and from date representations.
-     * <em>It is absolutely critical that access to this member variable is always
-     * synchronized!</em>
+     * {@link SimpleDateFormat} is not thread-safe, so every thread works on
+     * its own copy. This keeps parallel conversions from waiting for each
+     * other.
      */
-    private final SimpleDateFormat sdf;
+    private final ThreadLocal<SimpleDateFormat> sdf;
 
     /**
      * @param type         The type of the field being populated
@@ -56,11 +57,13 @@ public class ConverterDate extends AbstractCsvConverter {
      */
     public ConverterDate(Class<?> type, String locale, Locale errorLocale, String formatString) {
         super(type, locale, errorLocale);
+        final SimpleDateFormat prototype;
         if (this.locale != null) {
-            sdf = new SimpleDateFormat(formatString, this.locale);
+            prototype = new SimpleDateFormat(formatString, this.locale);
         } else {
-            sdf = new SimpleDateFormat(formatString);
+            prototype = new SimpleDateFormat(formatString);
         }
+        sdf = ThreadLocal.withInitial(() -> (SimpleDateFormat) prototype.clone());
     }
     
     /**
@@ -88,9 +91,7 @@ public class ConverterDate extends AbstractCsvConverter {
         if(value instanceof String) {
             Date d;
             try {
-                synchronized (sdf) {
-                    d = sdf.parse((String)value);
-                }
+                d = sdf.get().parse((String)value);
 
                 o = fieldType.getConstructor(Long.TYPE).newInstance(d.getTime());
             }
@@ -108,11 +109,7 @@ public class ConverterDate extends AbstractCsvConverter {
             }
         }
         else if(Date.class.isAssignableFrom(value.getClass())) {
-            String s;
-            synchronized (sdf) {
-                s = sdf.format((Date)value);
-            }
-            o = fieldType.cast(s);
+            o = fieldType.cast(sdf.get().format((Date)value));
         }
         else {
             throw new CsvDataTypeMismatchException(value, fieldType,
@@ -149,10 +146,7 @@ public class ConverterDate extends AbstractCsvConverter {
             // Parse input
             Date d;
             try {
-                synchronized (sdf) {
-                    d = sdf.parse((String)value);
-                }
-
+                d = sdf.get().parse((String)value);
             } catch (ParseException e) {
                 CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(value, fieldType);
                 csve.initCause(e);
@@ -196,11 +190,7 @@ public class ConverterDate extends AbstractCsvConverter {
                 throw new CsvDataTypeMismatchException(value, fieldType,
                         ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString(CSVDATE_NOT_DATE));
             }
-            String s;
-            synchronized (sdf) {
-                s = sdf.format(c.getTime());
-            }
-            o = fieldType.cast(s);
+            o = fieldType.cast(sdf.get().format(c.getTime()));
         }
 
         return o;
@@ -38,7 +38,18 @@ import java.util.ResourceBundle;
  */
 public class ConverterNumber extends AbstractCsvConverter {
 
-    private final DecimalFormat df;
+    /**
+     * The formatter for all inputs to and from numbers.
+     * {@link DecimalFormat} is not thread-safe, so every thread works on its
+     * own copy. This keeps parallel conversions from waiting for each other.
+     */
+    private final ThreadLocal<DecimalFormat> df;
+
+    /**
+     * The formatter all copies in {@link #df} are made from. It is never
+     * used for conversion and never changed after construction.
+     */
+    private final DecimalFormat prototype;
 
     /**
      * @param type    The class of the type of the data being processed
@@ -77,10 +88,10 @@ public class ConverterNumber extends AbstractCsvConverter {
                             this.errorLocale)
                             .getString("numberformat.not.decimalformat"));
         }
-        df = (DecimalFormat) nf;
+        prototype = (DecimalFormat) nf;
 
         try {
-            df.applyLocalizedPattern(formatString);
+            prototype.applyLocalizedPattern(formatString);
         } catch (IllegalArgumentException e) {
             CsvBadConverterException csve = new CsvBadConverterException(
                     ConverterNumber.class,
@@ -96,17 +107,16 @@ public class ConverterNumber extends AbstractCsvConverter {
         // Account for BigDecimal and BigInteger, which require special
         // processing
         if(this.type == BigInteger.class || this.type == BigDecimal.class) {
-            df.setParseBigDecimal(true);
+            prototype.setParseBigDecimal(true);
         }
+        df = ThreadLocal.withInitial(() -> (DecimalFormat) prototype.clone());
     }
 
     @Override
     public Object convertToRead(String value) throws CsvDataTypeMismatchException {
         Number n;
         try {
-            synchronized (df) {
-                n = df.parse(value);
-            }
+            n = df.get().parse(value);
         }
         catch(ParseException e) {
             CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
@@ -114,7 +124,7 @@ public class ConverterNumber extends AbstractCsvConverter {
                     String.format(ResourceBundle.getBundle(
                             ICSVParser.DEFAULT_BUNDLE_NAME,
                             errorLocale)
-                            .getString("unparsable.number"), value, df.toPattern()));
+                            .getString("unparsable.number"), value, prototype.toPattern()));
             csve.initCause(e);
             throw csve;
         }
@@ -154,8 +164,6 @@ public class ConverterNumber extends AbstractCsvConverter {
     // The rest of the Javadoc is inherited.
     @Override
     public String convertToWrite(Object value) {
-        synchronized (df) {
-            return value != null ? df.format(value) : null;
-        }
+        return value != null ? df.get().format(value) : null;
     }
 }
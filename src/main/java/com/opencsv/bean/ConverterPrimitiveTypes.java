@@ -39,8 +39,8 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
      * types when a specific locale is not required.
      * <p>Either this or {@link #localeConverter} should be used, and the other
      * should always be {@code null}.</p>
-     * <p><em>It is absolutely critical that access to this member variable is
-     * always synchronized!</em></p>
+     * <p>This member variable is shared by all threads and must not be
+     * changed after construction. Conversion itself keeps no state in it.</p>
      */
     protected final ConvertUtilsBean converter;
 
@@ -49,8 +49,8 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
      * types when a specific locale is required.
      * <p>Either this or {@link #converter} should be used, and the other
      * should always be {@code null}.</p>
-     * <p><em>It is absolutely critical that access to this member variable is
-     * always synchronized!</em></p>
+     * <p>This member variable is shared by all threads and must not be
+     * changed after construction. Conversion itself keeps no state in it.</p>
      */
     protected final LocaleConvertUtilsBean localeConverter;
 
@@ -70,6 +70,9 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
         else {
             localeConverter = new LocaleConvertUtilsBean();
             localeConverter.setDefaultLocale(this.locale);
+            // The converters for a locale are created on first use. Do that
+            // now, so that conversion only ever reads from localeConverter.
+            localeConverter.lookup(String.class, this.locale);
             converter = null;
         }
     }
@@ -82,14 +85,10 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
         if (StringUtils.isNotBlank(value) || (value != null && type.equals(String.class))) {
             try {
                 if(converter != null) {
-                    synchronized (converter) {
-                        o = converter.convert(value, type);
-                    }
+                    o = converter.convert(value, type);
                 }
                 else {
-                    synchronized (localeConverter) {
-                        o = localeConverter.convert(value, type);
-                    }
+                    o = localeConverter.convert(value, type);
                 }
             } catch (ConversionException e) {
                 CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(
@@ -121,14 +120,10 @@ public class ConverterPrimitiveTypes extends AbstractCsvConverter {
         if(value != null) {
             try {
                 if(converter != null) {
-                    synchronized (converter) {
-                        result = converter.convert(value);
-                    }
+                    result = converter.convert(value);
                 }
                 else {
-                    synchronized (localeConverter) {
-                        result = localeConverter.convert(value);
-                    }
+                    result = localeConverter.convert(value);
                 }
             }
             catch(ConversionException e) {
@@ -0,0 +1,469 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import com.opencsv.ICSVParser;
+import com.opencsv.exceptions.CsvBadConverterException;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.time.temporal.TemporalQuery;
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * This class converts an input to one of the date and time types of
+ * {@code java.time}.
+ * <p>The following types are supported:
+ * <ul><li>{@link java.time.LocalDate}</li>
+ * <li>{@link java.time.LocalDateTime}</li>
+ * <li>{@link java.time.LocalTime}</li>
+ * <li>{@link java.time.Instant}</li>
+ * <li>{@link java.time.OffsetDateTime}</li>
+ * <li>{@link java.time.ZonedDateTime}</li></ul></p>
+ * <p>The format string from {@link CsvDate#value()} is compiled once into an
+ * immutable {@link DateTimeFormatter}, so one instance of this class can be
+ * used by any number of threads at once. If the format string contains no
+ * time zone or offset, {@link Instant}, {@link OffsetDateTime} and
+ * {@link ZonedDateTime} are read and {@link Instant} is written in the
+ * default time zone, as {@link ConverterDate} does.</p>
+ * <p>Format strings made up only of fixed-width numbers and literals, such as
+ * {@code yyyy-MM-dd'T'HH:mm:ss.SSSXXX} or the default
+ * {@code yyyyMMdd'T'HHmmss}, are additionally read by a small hand-written
+ * parser that does not need the general formatter. Input that parser does not
+ * accept is handed to the formatter, so the result is always the same.</p>
+ *
+ * @since 5.0
+ * @see com.opencsv.bean.CsvDate
+ */
+public class ConverterTemporal extends AbstractCsvConverter {
+
+    private static final String CSVDATE_NOT_DATE = "csvdate.not.date";
+
+    /** The formatter for reading and for writing everything but instants. */
+    private final DateTimeFormatter formatter;
+
+    /** {@link #formatter} with the default time zone, for writing instants. */
+    private final DateTimeFormatter zonedFormatter;
+
+    /** Builds a value of {@link #type} from what the formatter parsed. */
+    private final TemporalQuery<?> query;
+
+    /** The time zone used if the input does not carry one. */
+    private final ZoneId zone;
+
+    /** The fast path for reading, or null if the pattern has none. */
+    private final FixedWidthPattern fixedWidth;
+
+    /**
+     * @param type         The type of the field being populated
+     * @param locale       If not null or empty, specifies the locale used for
+     *                     converting locale-specific data types
+     * @param errorLocale  The locale to use for error messages
+     * @param formatString The string to use for formatting the date. See
+     *                     {@link com.opencsv.bean.CsvDate#value()}
+     * @throws CsvBadConverterException If the type is not supported or the
+     *   format string is not valid
+     */
+    public ConverterTemporal(Class<?> type, String locale, Locale errorLocale, String formatString)
+            throws CsvBadConverterException {
+        super(type, locale, errorLocale);
+        if (!isSupported(type)) {
+            throw new CsvBadConverterException(ConverterTemporal.class,
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, this.errorLocale)
+                            .getString(CSVDATE_NOT_DATE));
+        }
+        try {
+            formatter = DateTimeFormatter.ofPattern(formatString,
+                    ObjectUtils.defaultIfNull(this.locale, Locale.getDefault(Locale.Category.FORMAT)));
+        } catch (IllegalArgumentException e) {
+            CsvBadConverterException csve = new CsvBadConverterException(
+                    ConverterTemporal.class,
+                    String.format(ResourceBundle.getBundle(
+                            ICSVParser.DEFAULT_BUNDLE_NAME,
+                            this.errorLocale)
+                            .getString("invalid.date.pattern"),
+                            formatString));
+            csve.initCause(e);
+            throw csve;
+        }
+        zone = ZoneId.systemDefault();
+        zonedFormatter = formatter.withZone(zone);
+        if (type == LocalDate.class) {
+            query = LocalDate::from;
+        } else if (type == LocalDateTime.class) {
+            query = LocalDateTime::from;
+        } else if (type == LocalTime.class) {
+            query = LocalTime::from;
+        } else if (type == Instant.class) {
+            query = t -> atParsedOrDefaultZone(t).toInstant();
+        } else if (type == OffsetDateTime.class) {
+            query = t -> atParsedOrDefaultZone(t).toOffsetDateTime();
+        } else {
+            query = this::atParsedOrDefaultZone;
+        }
+        fixedWidth = FixedWidthPattern.compile(formatString, type);
+    }
+
+    /**
+     * @param type A field type
+     * @return Whether this converter can convert to and from the type
+     */
+    static boolean isSupported(Class<?> type) {
+        return type == LocalDate.class || type == LocalDateTime.class
+                || type == LocalTime.class || type == Instant.class
+                || type == OffsetDateTime.class || type == ZonedDateTime.class;
+    }
+
+    /**
+     * Places what the formatter parsed in the time zone or offset it parsed,
+     * or in {@link #zone} if the format string contains neither.
+     * <p>{@link DateTimeFormatter#withZone(ZoneId)} is not used for this
+     * because its zone replaces a parsed offset.</p>
+     *
+     * @param t The parsed date and time
+     * @return The date and time with a time zone
+     */
+    private ZonedDateTime atParsedOrDefaultZone(TemporalAccessor t) {
+        return t.query(TemporalQueries.zone()) != null
+                ? ZonedDateTime.from(t)
+                : LocalDateTime.from(t).atZone(zone);
+    }
+
+    @Override
+    public Object convertToRead(String value) throws CsvDataTypeMismatchException {
+        if (StringUtils.isBlank(value)) {
+            return null;
+        }
+        if (fixedWidth != null) {
+            Object o = fixedWidth.parse(value, type, zone);
+            if (o != null) {
+                return o;
+            }
+        }
+        try {
+            return formatter.parse(value, query);
+        } catch (DateTimeException e) {
+            CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(value, type);
+            csve.initCause(e);
+            throw csve;
+        }
+    }
+
+    /**
+     * This method converts the encapsulated date and time type to a string,
+     * respecting any locales and conversion patterns that have been set
+     * through opencsv annotations.
+     *
+     * @param value The object containing a date and/or time of one of the
+     *   supported types
+     * @return A string representation of the value
+     * @throws CsvDataTypeMismatchException If the value is not a date or time,
+     *   or lacks information the format string requires
+     */
+    @Override
+    public String convertToWrite(Object value) throws CsvDataTypeMismatchException {
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof TemporalAccessor)) {
+            throw new CsvDataTypeMismatchException(value, String.class,
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString(CSVDATE_NOT_DATE));
+        }
+        try {
+            return (value instanceof Instant ? zonedFormatter : formatter).format((TemporalAccessor) value);
+        } catch (DateTimeException e) {
+            CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(value, String.class);
+            csve.initCause(e);
+            throw csve;
+        }
+    }
+
+    /**
+     * A format string that consists only of fixed-width numeric fields and
+     * literals, optionally followed by an ISO 8601 offset.
+     * <p>Such input can be read by checking the literals and adding up
+     * digits at known positions. Anything unexpected makes
+     * {@link #parse(String, Class, ZoneId)} return null, and the caller falls
+     * back to the formatter.</p>
+     */
+    private static final class FixedWidthPattern {
+
+        private static final int YEAR = 0, MONTH = 1, DAY = 2, HOUR = 3,
+                MINUTE = 4, SECOND = 5, FRACTION = 6, FIELD_COUNT = 7;
+
+        /** The literal characters at their positions, or 0 for digits. */
+        private final char[] template;
+        private final int[] offsets = new int[FIELD_COUNT];
+        private final int[] widths = new int[FIELD_COUNT];
+        /** Whether the year is a year of era, which must not be 0. */
+        private boolean yearOfEra;
+        /** The number of letters X at the end of the pattern, or 0. */
+        private int offsetLetters;
+
+        private FixedWidthPattern(int length) {
+            template = new char[length];
+        }
+
+        /**
+         * @param pattern A format string for {@link DateTimeFormatter}
+         * @param type    The type to be read
+         * @return The compiled pattern, or null if it cannot be read by this
+         *   class
+         */
+        static FixedWidthPattern compile(String pattern, Class<?> type) {
+            StringBuilder template = new StringBuilder();
+            int[] offsets = new int[FIELD_COUNT];
+            int[] widths = new int[FIELD_COUNT];
+            boolean yearOfEra = false;
+            int offsetLetters = 0;
+            int i = 0;
+            while (i < pattern.length()) {
+                char c = pattern.charAt(i);
+                if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                    int n = 1;
+                    while (i + n < pattern.length() && pattern.charAt(i + n) == c) {
+                        n++;
+                    }
+                    if (c == 'X') {
+                        if (n > 3 || i + n != pattern.length()) {
+                            return null;
+                        }
+                        offsetLetters = n;
+                    } else {
+                        int field = field(c, n);
+                        if (field < 0 || widths[field] != 0) {
+                            return null;
+                        }
+                        yearOfEra |= c == 'y';
+                        offsets[field] = template.length();
+                        widths[field] = n;
+                        for (int j = 0; j < n; j++) {
+                            template.append('\0');
+                        }
+                    }
+                    i += n;
+                } else if (c == '\'') {
+                    int end = i + 1;
+                    if (end < pattern.length() && pattern.charAt(end) == '\'') {
+                        template.append('\'');
+                        i += 2;
+                        continue;
+                    }
+                    while (end < pattern.length() && pattern.charAt(end) != '\'') {
+                        end++;
+                    }
+                    // Unterminated, or with an escaped quote inside
+                    if (end == pattern.length()
+                            || (end + 1 < pattern.length() && pattern.charAt(end + 1) == '\'')) {
+                        return null;
+                    }
+                    template.append(pattern, i + 1, end);
+                    i = end + 1;
+                } else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                    return null;
+                } else {
+                    template.append(c);
+                    i++;
+                }
+            }
+
+            boolean date = widths[YEAR] > 0 && widths[MONTH] > 0 && widths[DAY] > 0;
+            boolean time = widths[HOUR] > 0 && widths[MINUTE] > 0 && widths[SECOND] > 0;
+            boolean partial = !date && (widths[YEAR] > 0 || widths[MONTH] > 0 || widths[DAY] > 0)
+                    || !time && (widths[HOUR] > 0 || widths[MINUTE] > 0 || widths[SECOND] > 0 || widths[FRACTION] > 0);
+            boolean usable = type == LocalDate.class ? date
+                    : type == LocalTime.class ? time
+                    : date && time;
+            if (partial || !usable) {
+                return null;
+            }
+
+            FixedWidthPattern p = new FixedWidthPattern(template.length());
+            template.getChars(0, template.length(), p.template, 0);
+            System.arraycopy(offsets, 0, p.offsets, 0, FIELD_COUNT);
+            System.arraycopy(widths, 0, p.widths, 0, FIELD_COUNT);
+            p.yearOfEra = yearOfEra;
+            p.offsetLetters = offsetLetters;
+            return p;
+        }
+
+        /**
+         * @param letter A pattern letter
+         * @param count  How often it is repeated
+         * @return The field the letters stand for, or -1 if they are not a
+         *   fixed-width number this class understands
+         */
+        private static int field(char letter, int count) {
+            switch (letter) {
+                case 'y':
+                case 'u':
+                    return count == 4 ? YEAR : -1;
+                case 'M':
+                    return count == 2 ? MONTH : -1;
+                case 'd':
+                    return count == 2 ? DAY : -1;
+                case 'H':
+                    return count == 2 ? HOUR : -1;
+                case 'm':
+                    return count == 2 ? MINUTE : -1;
+                case 's':
+                    return count == 2 ? SECOND : -1;
+                case 'S':
+                    return count <= 9 ? FRACTION : -1;
+                default:
+                    return -1;
+            }
+        }
+
+        /**
+         * @param s     The input
+         * @param type  The type to be read
+         * @param zone  The time zone to use if the input has no offset
+         * @return The value, or null if the input does not fit the pattern
+         *   exactly or is out of range
+         */
+        Object parse(String s, Class<?> type, ZoneId zone) {
+            final int length = template.length;
+            if (s.length() < length || (offsetLetters == 0 && s.length() != length)) {
+                return null;
+            }
+            for (int i = 0; i < length; i++) {
+                char t = template[i];
+                char c = s.charAt(i);
+                if (t == '\0' ? c < '0' || c > '9' : c != t) {
+                    return null;
+                }
+            }
+            int[] values = new int[FIELD_COUNT];
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                int v = 0;
+                for (int i = offsets[field], end = i + widths[field]; i < end; i++) {
+                    v = v * 10 + s.charAt(i) - '0';
+                }
+                values[field] = v;
+            }
+            for (int i = widths[FRACTION]; i < 9; i++) {
+                values[FRACTION] *= 10;
+            }
+            if (yearOfEra && values[YEAR] == 0) {
+                return null;
+            }
+
+            ZoneOffset offset = null;
+            if (offsetLetters > 0) {
+                offset = parseOffset(s, length);
+                if (offset == null) {
+                    return null;
+                }
+            }
+
+            try {
+                // Everything in the input is checked, even if the type does
+                // not need it, just as the formatter does
+                LocalDate d = widths[YEAR] > 0 ? LocalDate.of(values[YEAR], values[MONTH], values[DAY]) : null;
+                LocalTime t = widths[HOUR] > 0 ? LocalTime.of(values[HOUR], values[MINUTE], values[SECOND], values[FRACTION]) : null;
+                if (type == LocalDate.class) {
+                    return d;
+                }
+                if (type == LocalTime.class) {
+                    return t;
+                }
+                LocalDateTime dt = LocalDateTime.of(d, t);
+                if (type == LocalDateTime.class) {
+                    return dt;
+                }
+                ZonedDateTime zdt = offset != null ? ZonedDateTime.of(dt, offset) : dt.atZone(zone);
+                if (type == Instant.class) {
+                    return zdt.toInstant();
+                }
+                if (type == OffsetDateTime.class) {
+                    return zdt.toOffsetDateTime();
+                }
+                return zdt;
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        /**
+         * Reads an offset as written by one to three letters X: {@code Z},
+         * or a sign followed by hours and, depending on the number of
+         * letters, minutes with or without a colon.
+         */
+        private ZoneOffset parseOffset(String s, int start) {
+            int remaining = s.length() - start;
+            if (remaining == 1 && s.charAt(start) == 'Z') {
+                return ZoneOffset.UTC;
+            }
+            boolean withMinutes;
+            switch (offsetLetters) {
+                case 1:
+                    withMinutes = remaining == 5;
+                    if (remaining != 3 && !withMinutes) {
+                        return null;
+                    }
+                    break;
+                case 2:
+                    withMinutes = true;
+                    if (remaining != 5) {
+                        return null;
+                    }
+                    break;
+                default:
+                    withMinutes = true;
+                    if (remaining != 6 || s.charAt(start + 3) != ':') {
+                        return null;
+                    }
+            }
+            char sign = s.charAt(start);
+            if (sign != '+' && sign != '-') {
+                return null;
+            }
+            int hours = twoDigits(s, start + 1);
+            int minutes = withMinutes ? twoDigits(s, s.length() - 2) : 0;
+            if (hours < 0 || minutes < 0) {
+                return null;
+            }
+            try {
+                return sign == '+'
+                        ? ZoneOffset.ofHoursMinutes(hours, minutes)
+                        : ZoneOffset.ofHoursMinutes(-hours, -minutes);
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        private static int twoDigits(String s, int i) {
+            char a = s.charAt(i), b = s.charAt(i + 1);
+            if (a < '0' || a > '9' || b < '0' || b > '9') {
+                return -1;
+            }
+            return (a - '0') * 10 + b - '0';
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks the constructor through which beans are to be created, which allows
+ * the population of immutable beans.
+ * <p>Each parameter of the constructor receives the value of one bean field,
+ * named in {@link #value()}. The values of those fields are converted from
+ * each line of input and passed to the constructor at once. Bean fields that
+ * are not named are assigned after the bean has been created, as usual.</p>
+ * <p>At most one constructor of a bean type may carry this annotation.
+ * Without it, beans are created through the nullary constructor. A
+ * {@link BeanFactory} set on the mapping strategy takes precedence over
+ * both.</p>
+ *
+ * @since 5.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.CONSTRUCTOR)
+public @interface CsvConstructor {
+
+    /**
+     * The names of the bean fields passed to the constructor, in the order
+     * of its parameters. Each parameter must be able to take the type of its
+     * field.
+     *
+     * @return The names of the fields taken by the constructor
+     */
+    String[] value();
+}
@@ -27,6 +27,12 @@ import java.lang.annotation.*;
  * <li>{@link java.sql.Date}</li>
  * <li>{@link java.sql.Time}</li>
  * <li>{@link java.sql.Timestamp}</li>
+ * <li>{@link java.time.LocalDate} (since 5.0)</li>
+ * <li>{@link java.time.LocalDateTime} (since 5.0)</li>
+ * <li>{@link java.time.LocalTime} (since 5.0)</li>
+ * <li>{@link java.time.Instant} (since 5.0)</li>
+ * <li>{@link java.time.OffsetDateTime} (since 5.0)</li>
+ * <li>{@link java.time.ZonedDateTime} (since 5.0)</li>
  * </ul>
  * This annotation must be used with either {@link com.opencsv.bean.CsvBindByName}
  * or {@link com.opencsv.bean.CsvBindByPosition}, otherwise it is ignored.
@@ -42,7 +48,9 @@ public @interface CsvDate {
     /**
      * A time format string.
      * This must be a string understood by
-     * {@link java.text.SimpleDateFormat#SimpleDateFormat(java.lang.String)}.
+     * {@link java.text.SimpleDateFormat#SimpleDateFormat(java.lang.String)},
+     * or, for the types of {@code java.time}, by
+     * {@link java.time.format.DateTimeFormatter#ofPattern(java.lang.String)}.
      * The default value conforms with
      * <a href="https://en.wikipedia.org/wiki/ISO_8601">ISO 8601</a> and is
      * {@code "yyyyMMdd'T'HHmmss"}. Locale information, if specified, is gleaned
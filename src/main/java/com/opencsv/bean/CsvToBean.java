@@ -26,8 +26,10 @@ import org.apache.commons.lang3.ObjectUtils;
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Converts CSV data to objects.
@@ -79,6 +81,18 @@ public class CsvToBean<T> implements Iterable<T> {
     /** The errorLocale for error messages. */
     private Locale errorLocale = Locale.getDefault();
 
+    /**
+     * The executor provided by the user to run conversions on, or null if
+     * a pool is to be created for every call to {@link #stream()}.
+     */
+    private ExecutorService executorService = null;
+
+    /** The number of threads in a pool created by {@link #stream()}. */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /** The number of lines converted together by one task. */
+    private int batchSize = LineExecutor.DEFAULT_BATCH_SIZE;
+
     /**
      * All verifiers that should be run on beans after creation but before
      * returning them to the caller.
@@ -91,15 +105,6 @@ public class CsvToBean<T> implements Iterable<T> {
     public CsvToBean() {
     }
 
-    private void submitAllBeans() throws IOException, InterruptedException {
-        while (null != (line = csvReader.readNext())) {
-            lineProcessed = csvReader.getLinesRead();
-            executor.submitLine(lineProcessed, mappingStrategy, filter,
-                    verifiers, line, throwExceptions);
-        }
-        executor.complete();
-    }
-    
     /**
      * Parses the input based on parameters already set through other methods.
      * @return A list of populated beans based on the input
@@ -118,6 +123,16 @@ public class CsvToBean<T> implements Iterable<T> {
      * {@link #parse()} because it avoids the intermediate storage of the
      * results in a {@link java.util.List}. If you plan on further processing
      * the results as a {@link java.util.stream.Stream}, use this method.
+     * <p>The input is read as the stream is consumed. No more than a fixed
+     * number of lines are converted in parallel ahead of the consumer, so
+     * the memory needed does not depend on the size of the input. Beans are
+     * handed to the consumer as soon as they are ready and, if order is
+     * preserved, all beans before them have been handed on. For the same
+     * reason, errors in the input surface while the stream is consumed, and
+     * exceptions captured instead of thrown are available through
+     * {@link #getCapturedExceptions()} once it has been consumed.</p>
+     * <p>Closing the stream before it has been consumed stops the threads
+     * converting the input.</p>
      *
      * @return A stream of populated beans based on the input
      * @throws IllegalStateException If either MappingStrategy or CSVReader is
@@ -127,34 +142,11 @@ public class CsvToBean<T> implements Iterable<T> {
      */
     public Stream<T> stream() throws IllegalStateException {
         prepareToReadInput();
-        executor = new LineExecutor<>(orderedResults);
-        executor.prepare();
-
-        // Parse through each line of the file
-        try {
-            submitAllBeans();
-        } catch(RejectedExecutionException e) {
-            // An exception in one of the bean creation threads prompted the
-            // executor service to shutdown before we were done.
-            if(executor.getTerminalException() instanceof CsvException) {
-                CsvException csve = (CsvException)executor.getTerminalException();
-                throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error.linenumber"),
-                        csve.getLineNumber(), String.join(",", csve.getLine())), csve);
-            }
-            throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error"), executor.getTerminalException());
-        } catch (CsvMalformedLineException cmle) {
-            // Exception during parsing. Always unrecoverable.
-            executor.shutdownNow();
-            throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error.full"),
-                    cmle.getLineNumber(), cmle.getContext()), cmle);
-        } catch (Exception e) {
-            // Exception during parsing. Always unrecoverable.
-            executor.shutdownNow();
-            throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error.full"),
-                    lineProcessed, Arrays.toString(line)), e);
-        }
-        
-        return executor.resultStream();
+        LineExecutor<T> lineExecutor = new LineExecutor<>(orderedResults, executorService, parallelism, batchSize);
+        lineExecutor.prepare();
+        executor = lineExecutor;
+        return StreamSupport.stream(new CsvToBeanSpliterator(lineExecutor), false)
+                .onClose(lineExecutor::shutdownNow);
     }
 
     /**
@@ -223,6 +215,53 @@ public class CsvToBean<T> implements Iterable<T> {
     public void setOrderedResults(boolean orderedResults) {
         this.orderedResults = orderedResults;
     }
+
+    /**
+     * Sets the executor on which beans are created in parallel.
+     * <p>By default, a new pool of threads is created for every call to {@link #parse()} or {@link #stream()}
+     * and discarded afterwards. Passing in an executor instead allows one pool
+     * to be shared by many imports, or the use of a
+     * {@link java.util.concurrent.ForkJoinPool} or of virtual threads. The
+     * executor is never shut down by opencsv.</p>
+     * <p>Errors are handled just as with the default pool.</p>
+     *
+     * @param executor The executor to use, or null for a new pool of
+     *   threads for every call to {@link #parse()} or {@link #stream()}
+     * @since 5.0
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executorService = executor;
+    }
+
+    /**
+     * Sets the number of threads in the pool created for every call to {@link #parse()} or {@link #stream()}.
+     * Ignored if an executor has been set with
+     * {@link #setExecutor(ExecutorService)}.
+     * The default is the number of processors available.
+     *
+     * @param parallelism The number of threads. Values less than one are
+     *   taken to be one.
+     * @since 5.0
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism <= 0 ? 1 : parallelism;
+    }
+
+    /**
+     * Sets the number of lines converted together by one task.
+     * The default is {@value com.opencsv.bean.concurrent.LineExecutor#DEFAULT_BATCH_SIZE}.
+     * <p>Handing every line to another thread on its own costs about as
+     * much as converting it if the beans are small. Larger batches spread
+     * this cost over more lines. Up to about 1024 lines, but at least
+     * two batches per thread, are in flight at once.</p>
+     *
+     * @param batchSize The number of lines per task. Values less than one
+     *   are taken to be one.
+     * @since 5.0
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize <= 0 ? 1 : batchSize;
+    }
     
     /**
      * Sets the locale for error messages.
@@ -287,6 +326,90 @@ public class CsvToBean<T> implements Iterable<T> {
         return new CsvToBeanIterator();
     }
     
+    /**
+     * A private inner class for implementing a spliterator for the input data
+     * that is converted in parallel.
+     * <p>Every time a bean is requested and none are left from the last
+     * batch, lines are read and submitted until the executor has no more
+     * room, then the results of the next batch are taken.</p>
+     */
+    private class CsvToBeanSpliterator extends Spliterators.AbstractSpliterator<T> {
+        private final LineExecutor<T> lineExecutor;
+        private boolean inputExhausted = false;
+
+        /** Beans taken from the executor, but not yet handed on. */
+        private final ArrayDeque<T> beans = new ArrayDeque<>();
+
+        CsvToBeanSpliterator(LineExecutor<T> lineExecutor) {
+            super(Long.MAX_VALUE, Spliterator.NONNULL
+                    | (orderedResults ? Spliterator.ORDERED : 0));
+            this.lineExecutor = lineExecutor;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            T bean = nextBean();
+            if(bean == null) {
+                return false;
+            }
+            action.accept(bean);
+            return true;
+        }
+
+        private T nextBean() {
+            try {
+                while(beans.isEmpty()) {
+                    while(!inputExhausted && lineExecutor.hasRoom()) {
+                        line = csvReader.readNext();
+                        if(line == null) {
+                            inputExhausted = true;
+                        }
+                        else {
+                            lineProcessed = csvReader.getLinesRead();
+                            lineExecutor.submitLine(lineProcessed, mappingStrategy,
+                                    filter, verifiers, line, throwExceptions);
+                        }
+                    }
+                    if(inputExhausted && lineExecutor.hasRoom()) {
+                        lineExecutor.flush();
+                    }
+                    if(!lineExecutor.hasPendingResults()) {
+                        lineExecutor.shutdown();
+                        return null;
+                    }
+                    lineExecutor.takeResults(beans);
+                }
+                return beans.poll();
+            } catch(RejectedExecutionException e) {
+                // An exception in one of the bean creation threads prompted the
+                // executor service to shutdown before we were done.
+                lineExecutor.shutdownNow();
+                if(lineExecutor.getTerminalException() instanceof CsvException) {
+                    CsvException csve = (CsvException)lineExecutor.getTerminalException();
+                    throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error.linenumber"),
+                            csve.getLineNumber(), String.join(",", csve.getLine())), csve);
+                }
+                throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error"), lineExecutor.getTerminalException());
+            } catch (CsvMalformedLineException cmle) {
+                // Exception during parsing. Always unrecoverable.
+                lineExecutor.shutdownNow();
+                throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error.full"),
+                        cmle.getLineNumber(), cmle.getContext()), cmle);
+            } catch (InterruptedException e) {
+                // Waiting for results was interrupted. The caller decides
+                // what that means, so the interrupt must not be lost.
+                Thread.currentThread().interrupt();
+                lineExecutor.shutdownNow();
+                throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error"), e);
+            } catch (Exception e) {
+                // Exception during parsing. Always unrecoverable.
+                lineExecutor.shutdownNow();
+                throw new RuntimeException(String.format(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("parsing.error.full"),
+                        lineProcessed, Arrays.toString(line)), e);
+            }
+        }
+    }
+
     /**
      * A private inner class for implementing an iterator for the input data.
      */
@@ -16,6 +16,7 @@
 package com.opencsv.bean;
 
 import com.opencsv.*;
+import com.opencsv.bean.concurrent.LineExecutor;
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
 import org.apache.commons.lang3.ObjectUtils;
 
@@ -24,6 +25,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This class makes it possible to bypass all the intermediate steps and classes
@@ -108,6 +110,15 @@ public class CsvToBeanBuilder<T> {
    
    /** @see com.opencsv.bean.CsvToBean#orderedResults */
    private boolean orderedResults = true;
+
+   /** @see com.opencsv.bean.CsvToBean#setExecutor(ExecutorService) */
+   private ExecutorService executor = null;
+
+   /** @see com.opencsv.bean.CsvToBean#setParallelism(int) */
+   private int parallelism = Runtime.getRuntime().availableProcessors();
+
+   /** @see com.opencsv.bean.CsvToBean#setBatchSize(int) */
+   private int batchSize = LineExecutor.DEFAULT_BATCH_SIZE;
    
    /** @see com.opencsv.bean.CsvToBean#errorLocale */
    private Locale errorLocale = Locale.getDefault();
@@ -172,6 +183,9 @@ public class CsvToBeanBuilder<T> {
         // Set variables in CsvToBean itself
         bean.setThrowExceptions(throwExceptions);
         bean.setOrderedResults(orderedResults);
+        bean.setExecutor(executor);
+        bean.setParallelism(parallelism);
+        bean.setBatchSize(batchSize);
         if(filter != null) { bean.setFilter(filter); }
         bean.setVerifiers(verifiers);
         
@@ -416,6 +430,47 @@ public class CsvToBeanBuilder<T> {
         this.orderedResults = orderedResults;
         return this;
     }
+
+    /**
+     * Sets the executor on which beans are created in parallel.
+     *
+     * @param executor The executor to use. It is never shut down by opencsv.
+     *   If null, a new pool of threads is created for every call to {@link CsvToBean#parse()} or {@link CsvToBean#stream()}.
+     * @return {@code this}
+     * @see CsvToBean#setExecutor(java.util.concurrent.ExecutorService)
+     * @since 5.0
+     */
+    public CsvToBeanBuilder<T> withExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads in the pool created for every call to {@link CsvToBean#parse()} or {@link CsvToBean#stream()}.
+     * Ignored if an executor has been set.
+     *
+     * @param parallelism The number of threads
+     * @return {@code this}
+     * @see CsvToBean#setParallelism(int)
+     * @since 5.0
+     */
+    public CsvToBeanBuilder<T> withParallelism(int parallelism) {
+        this.parallelism = parallelism <= 0 ? 1 : parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the number of lines converted together by one task.
+     *
+     * @param batchSize The number of lines per task
+     * @return {@code this}
+     * @see CsvToBean#setBatchSize(int)
+     * @since 5.0
+     */
+    public CsvToBeanBuilder<T> withBatchSize(int batchSize) {
+        this.batchSize = batchSize <= 0 ? 1 : batchSize;
+        return this;
+    }
     
     /**
      * Sets the locale for all error messages.
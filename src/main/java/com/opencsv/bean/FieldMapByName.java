@@ -53,6 +53,7 @@ public class FieldMapByName<T> extends AbstractFieldMap<String, String, RegexToB
     @Override
     public void putComplex(final String key, final BeanField<T, String> value) {
         complexMapList.add(new RegexToBeanField<>(key, value, errorLocale));
+        clearResolvedKeys();
     }
     
     /**
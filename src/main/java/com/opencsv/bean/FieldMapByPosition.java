@@ -127,6 +127,7 @@ public class FieldMapByPosition<T> extends AbstractFieldMap<String, Integer, Pos
     @Override
     public void putComplex(final String rangeDefinition, final BeanField<T, Integer> field) {
         complexMapList.add(new PositionToBeanField<>(rangeDefinition, maxIndex, field, errorLocale));
+        clearResolvedKeys();
     }
     
     /**
@@ -144,6 +145,7 @@ public class FieldMapByPosition<T> extends AbstractFieldMap<String, Integer, Pos
         
         // Attenuate all ranges that end past the last index down to the last index
         complexMapList.forEach(p -> p.attenuateRanges(maxIndex));
+        clearResolvedKeys();
     }
 
     @Override
@@ -97,6 +97,9 @@ public class HeaderColumnNameMappingStrategy<T> extends AbstractMappingStrategy<
             e.setLine(header);
             throw e;
         }
+
+        // Look up the bean fields of all columns once, not for every line
+        resolveColumns();
     }
     
     @Override
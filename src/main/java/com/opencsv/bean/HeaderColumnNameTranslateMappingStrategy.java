@@ -70,6 +70,7 @@ public class HeaderColumnNameTranslateMappingStrategy<T> extends HeaderColumnNam
         if(getType() != null) {
             loadFieldMap();
         }
+        clearResolvedColumns();
     }
 
     @Override
@@ -40,6 +40,9 @@ public class HeaderIndex {
      * positions.
      */
     private MultiValuedMap<String, Integer> headerToPosition = new ArrayListValuedHashMap<>();
+
+    /** Counts changes, so users of the index can tell it has changed. */
+    private int modificationCount = 0;
     
     /** Useless but explicit nullary constructor to make the style checker happy. */
     public HeaderIndex(){}
@@ -48,6 +51,7 @@ public class HeaderIndex {
      * Empties the entire mapping.
      */
     public void clear() {
+        modificationCount++;
         positionToHeader = new String[0];
         headerToPosition.clear();
     }
@@ -75,6 +79,7 @@ public class HeaderIndex {
      *   expected in the CSV input
      */
     public void initializeHeaderIndex(String[] header) {
+        modificationCount++;
         positionToHeader = header != null ? ArrayUtils.clone(header): new String[0];
         headerToPosition.clear();
         int i = 0;
@@ -127,6 +132,14 @@ public class HeaderIndex {
         return ArrayUtils.clone(positionToHeader);
     }
     
+    /**
+     * @return A number that changes whenever the mapping changes
+     * @since 5.0
+     */
+    int getModificationCount() {
+        return modificationCount;
+    }
+
     /**
      * @return The length of the current mapping, including all fields unmapped
      */
@@ -141,6 +154,7 @@ public class HeaderIndex {
      * @param v The header to be associated with the column position
      */
     public void put(int k, String v) {
+        modificationCount++;
         if(k >= positionToHeader.length) {
             positionToHeader = Arrays.copyOf(positionToHeader, k+1);
             positionToHeader[k] = v;
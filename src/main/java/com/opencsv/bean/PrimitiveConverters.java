@@ -0,0 +1,313 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import com.opencsv.ICSVParser;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import org.apache.commons.beanutils.ConversionException;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+/**
+ * Converters for the primitive types, their wrappers and {@link String} that
+ * do not need a locale.
+ * <p>{@link ConverterPrimitiveTypes} hands every value to Apache Commons
+ * BeanUtils, which looks up a converter by type and goes through several
+ * layers of generic code before it finally calls, for example,
+ * {@code new Integer(String)}. The converters here call the equivalent
+ * method of the JDK directly. They accept and reject exactly the same input
+ * as BeanUtils does without a locale:
+ * <ul><li>Numbers are trimmed and parsed by the JDK.</li>
+ * <li>Booleans are compared ignoring case to "true", "yes", "y", "on", "1"
+ * and "false", "no", "n", "off", "0".</li>
+ * <li>Characters are the first character of the input.</li>
+ * <li>Strings are taken as they are.</li></ul>
+ * Writing uses {@link Object#toString()}, as BeanUtils does. Errors are
+ * reported with a {@link ConversionException} as the cause, also as
+ * before.</p>
+ * <p>The converters for {@code int}, {@code long} and {@code double} can
+ * also return the primitive value itself, so that fields of these types can
+ * be populated without boxing every value.</p>
+ *
+ * @since 5.0
+ */
+final class PrimitiveConverters {
+
+    private static final String[] TRUE_STRINGS = {"true", "yes", "y", "on", "1"};
+    private static final String[] FALSE_STRINGS = {"false", "no", "n", "off", "0"};
+
+    private PrimitiveConverters() {}
+
+    /** A converter that can read {@code int} values without boxing them. */
+    interface IntCsvConverter extends CsvConverter {
+        /**
+         * @param value The input, not blank
+         * @return The converted value
+         * @throws CsvDataTypeMismatchException If the input cannot be
+         *   converted
+         */
+        int convertToInt(String value) throws CsvDataTypeMismatchException;
+    }
+
+    /** A converter that can read {@code long} values without boxing them. */
+    interface LongCsvConverter extends CsvConverter {
+        /**
+         * @param value The input, not blank
+         * @return The converted value
+         * @throws CsvDataTypeMismatchException If the input cannot be
+         *   converted
+         */
+        long convertToLong(String value) throws CsvDataTypeMismatchException;
+    }
+
+    /** A converter that can read {@code double} values without boxing them. */
+    interface DoubleCsvConverter extends CsvConverter {
+        /**
+         * @param value The input, not blank
+         * @return The converted value
+         * @throws CsvDataTypeMismatchException If the input cannot be
+         *   converted
+         */
+        double convertToDouble(String value) throws CsvDataTypeMismatchException;
+    }
+
+    /**
+     * @param type        The type of the field being populated
+     * @param errorLocale The locale to use for error messages
+     * @return A converter for the type, or null if there is none here and
+     *   {@link ConverterPrimitiveTypes} must be used
+     */
+    static CsvConverter forType(Class<?> type, Locale errorLocale) {
+        if (type == Integer.TYPE || type == Integer.class) {
+            return new IntegerConverter(type, errorLocale);
+        }
+        if (type == Long.TYPE || type == Long.class) {
+            return new LongConverter(type, errorLocale);
+        }
+        if (type == Double.TYPE || type == Double.class) {
+            return new DoubleConverter(type, errorLocale);
+        }
+        if (type == Float.TYPE || type == Float.class) {
+            return new FloatConverter(type, errorLocale);
+        }
+        if (type == Short.TYPE || type == Short.class) {
+            return new ShortConverter(type, errorLocale);
+        }
+        if (type == Byte.TYPE || type == Byte.class) {
+            return new ByteConverter(type, errorLocale);
+        }
+        if (type == Boolean.TYPE || type == Boolean.class) {
+            return new BooleanConverter(type, errorLocale);
+        }
+        if (type == Character.TYPE || type == Character.class) {
+            return new CharacterConverter(type, errorLocale);
+        }
+        if (type == String.class) {
+            return new StringConverter(errorLocale);
+        }
+        return null;
+    }
+
+    /**
+     * The common part of all converters in this class: blank input is null,
+     * output is {@link Object#toString()}, and errors are reported like
+     * {@link ConverterPrimitiveTypes} reports them.
+     */
+    private abstract static class PrimitiveConverter extends AbstractCsvConverter {
+
+        PrimitiveConverter(Class<?> type, Locale errorLocale) {
+            super(type, null, errorLocale);
+        }
+
+        @Override
+        public Object convertToRead(String value) throws CsvDataTypeMismatchException {
+            if (StringUtils.isBlank(value)) {
+                return null;
+            }
+            try {
+                return parse(value);
+            } catch (IllegalArgumentException e) {
+                throw mismatch(value, e);
+            }
+        }
+
+        /**
+         * @param value The input, not blank
+         * @return The converted value
+         * @throws CsvDataTypeMismatchException If the input cannot be
+         *   converted
+         */
+        abstract Object parse(String value) throws CsvDataTypeMismatchException;
+
+        CsvDataTypeMismatchException mismatch(String value, Throwable cause) {
+            String message = String.format(
+                    ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale).getString("conversion.impossible"),
+                    value, type.getCanonicalName());
+            CsvDataTypeMismatchException csve = new CsvDataTypeMismatchException(value, type, message);
+            csve.initCause(new ConversionException(message, cause));
+            return csve;
+        }
+
+        @Override
+        public String convertToWrite(Object value) {
+            return value != null ? value.toString() : null;
+        }
+    }
+
+    private static final class IntegerConverter extends PrimitiveConverter implements IntCsvConverter {
+        IntegerConverter(Class<?> type, Locale errorLocale) {
+            super(type, errorLocale);
+        }
+
+        @Override
+        Object parse(String value) {
+            return Integer.valueOf(value.trim());
+        }
+
+        @Override
+        public int convertToInt(String value) throws CsvDataTypeMismatchException {
+            try {
+                return Integer.parseInt(value.trim());
+            } catch (NumberFormatException e) {
+                throw mismatch(value, e);
+            }
+        }
+    }
+
+    private static final class LongConverter extends PrimitiveConverter implements LongCsvConverter {
+        LongConverter(Class<?> type, Locale errorLocale) {
+            super(type, errorLocale);
+        }
+
+        @Override
+        Object parse(String value) {
+            return Long.valueOf(value.trim());
+        }
+
+        @Override
+        public long convertToLong(String value) throws CsvDataTypeMismatchException {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                throw mismatch(value, e);
+            }
+        }
+    }
+
+    private static final class DoubleConverter extends PrimitiveConverter implements DoubleCsvConverter {
+        DoubleConverter(Class<?> type, Locale errorLocale) {
+            super(type, errorLocale);
+        }
+
+        @Override
+        Object parse(String value) {
+            return Double.valueOf(value.trim());
+        }
+
+        @Override
+        public double convertToDouble(String value) throws CsvDataTypeMismatchException {
+            try {
+                return Double.parseDouble(value.trim());
+            } catch (NumberFormatException e) {
+                throw mismatch(value, e);
+            }
+        }
+    }
+
+    private static final class FloatConverter extends PrimitiveConverter {
+        FloatConverter(Class<?> type, Locale errorLocale) {
+            super(type, errorLocale);
+        }
+
+        @Override
+        Object parse(String value) {
+            return Float.valueOf(value.trim());
+        }
+    }
+
+    private static final class ShortConverter extends PrimitiveConverter {
+        ShortConverter(Class<?> type, Locale errorLocale) {
+            super(type, errorLocale);
+        }
+
+        @Override
+        Object parse(String value) {
+            return Short.valueOf(value.trim());
+        }
+    }
+
+    private static final class ByteConverter extends PrimitiveConverter {
+        ByteConverter(Class<?> type, Locale errorLocale) {
+            super(type, errorLocale);
+        }
+
+        @Override
+        Object parse(String value) {
+            return Byte.valueOf(value.trim());
+        }
+    }
+
+    private static final class BooleanConverter extends PrimitiveConverter {
+        BooleanConverter(Class<?> type, Locale errorLocale) {
+            super(type, errorLocale);
+        }
+
+        @Override
+        Object parse(String value) throws CsvDataTypeMismatchException {
+            // BeanUtils uses the default locale here, too
+            String lower = value.toLowerCase();
+            for (String s : TRUE_STRINGS) {
+                if (s.equals(lower)) {
+                    return Boolean.TRUE;
+                }
+            }
+            for (String s : FALSE_STRINGS) {
+                if (s.equals(lower)) {
+                    return Boolean.FALSE;
+                }
+            }
+            throw mismatch(value, null);
+        }
+    }
+
+    private static final class CharacterConverter extends PrimitiveConverter {
+        CharacterConverter(Class<?> type, Locale errorLocale) {
+            super(type, errorLocale);
+        }
+
+        @Override
+        Object parse(String value) {
+            return value.charAt(0);
+        }
+    }
+
+    /** Strings are not converted at all, and not even blanks are null. */
+    private static final class StringConverter extends PrimitiveConverter {
+        StringConverter(Locale errorLocale) {
+            super(String.class, errorLocale);
+        }
+
+        @Override
+        public Object convertToRead(String value) {
+            return value;
+        }
+
+        @Override
+        Object parse(String value) {
+            return value;
+        }
+    }
+}
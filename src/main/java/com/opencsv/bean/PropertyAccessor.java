@@ -0,0 +1,430 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads or writes one property of a bean without going through
+ * {@link Method#invoke(Object, Object...)} or
+ * {@link Field#set(Object, Object)} on every call.
+ * <p>The accessor is resolved when {@link AbstractBeanField} learns
+ * which field it represents. For public getters and setters,
+ * {@link LambdaMetafactory} generates a small class that calls the method
+ * directly, just like a method reference in source code would. Where that is
+ * not possible, for example for fields without accessor methods or for bean
+ * classes that cannot be seen from the class loader of opencsv, a
+ * {@link MethodHandle} is used instead. Where not even that is possible, no
+ * accessor is created and the caller keeps using reflection.</p>
+ * <p>An accessor only takes beans of the class that declares the property
+ * and values of exactly its type (or the wrapper of its primitive type).
+ * Callers check this with {@link #canRead(Object)} and
+ * {@link #canWrite(Object, Object)} and use reflection for everything else,
+ * so that mistakes are reported exactly as before.</p>
+ * <p>Properties of type {@code int}, {@code long} and {@code double} can
+ * also be written without boxing the value, see
+ * {@link #canWritePrimitive(Object)}.</p>
+ * <p>Accessors are immutable, so they are created only once per getter,
+ * setter or field and shared by all mapping strategies. Otherwise every new
+ * strategy would generate and load new classes.</p>
+ *
+ * @since 5.0
+ */
+final class PropertyAccessor {
+
+    /** Generated getter. */
+    @FunctionalInterface
+    interface Getter {
+        Object get(Object bean) throws Throwable;
+    }
+
+    /** Generated setter. */
+    @FunctionalInterface
+    interface Setter {
+        void set(Object bean, Object value) throws Throwable;
+    }
+
+    /** Generated setter for {@code int} properties. */
+    @FunctionalInterface
+    interface IntSetter {
+        void set(Object bean, int value) throws Throwable;
+    }
+
+    /** Generated setter for {@code long} properties. */
+    @FunctionalInterface
+    interface LongSetter {
+        void set(Object bean, long value) throws Throwable;
+    }
+
+    /** Generated setter for {@code double} properties. */
+    @FunctionalInterface
+    interface DoubleSetter {
+        void set(Object bean, double value) throws Throwable;
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** The accessors created so far for the members of one class. */
+    private static final class Accessors {
+        final ConcurrentMap<Method, Optional<PropertyAccessor>> getters = new ConcurrentHashMap<>();
+        final ConcurrentMap<Method, Optional<PropertyAccessor>> setters = new ConcurrentHashMap<>();
+        final ConcurrentMap<Field, Optional<PropertyAccessor>> fields = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The accessors for the members of every class, stored with the declaring
+     * class so they do not keep it from being unloaded.
+     */
+    private static final ClassValue<Accessors> ACCESSORS = new ClassValue<Accessors>() {
+        @Override
+        protected Accessors computeValue(Class<?> type) {
+            return new Accessors();
+        }
+    };
+
+    private final Class<?> beanType;
+    private final Class<?> valueType;
+    private final Getter getter;
+    private final Setter setter;
+
+    /**
+     * An {@link IntSetter}, {@link LongSetter} or {@link DoubleSetter} for
+     * properties of these types, so values need not be boxed. Otherwise null.
+     */
+    private final Object primitiveSetter;
+
+    private PropertyAccessor(Class<?> beanType, Class<?> valueType, Getter getter, Setter setter,
+                             Object primitiveSetter) {
+        this.beanType = beanType;
+        this.valueType = ClassUtils.primitiveToWrapper(valueType);
+        this.getter = getter;
+        this.setter = setter;
+        this.primitiveSetter = primitiveSetter;
+    }
+
+    /**
+     * Creates an accessor that calls a getter.
+     *
+     * @param method A public getter without parameters
+     * @return The accessor, or null if none can be created
+     */
+    static PropertyAccessor forGetter(Method method) {
+        if (method == null || Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+        return ACCESSORS.get(method.getDeclaringClass()).getters
+                .computeIfAbsent(method, m -> Optional.ofNullable(createGetter(m)))
+                .orElse(null);
+    }
+
+    private static PropertyAccessor createGetter(Method method) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+            Class<?> beanType = method.getDeclaringClass();
+            Class<?> valueType = method.getReturnType();
+            Getter getter = null;
+            if (isVisible(beanType) && isVisible(valueType)) {
+                try {
+                    CallSite site = LambdaMetafactory.metafactory(LOOKUP, "get",
+                            MethodType.methodType(Getter.class),
+                            MethodType.methodType(Object.class, Object.class), handle,
+                            MethodType.methodType(ClassUtils.primitiveToWrapper(valueType), beanType));
+                    getter = (Getter) site.getTarget().invokeExact();
+                } catch (LambdaConversionException e) {
+                    // Use the method handle
+                }
+            }
+            if (getter == null) {
+                MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+                getter = bean -> (Object) generic.invokeExact(bean);
+            }
+            return new PropertyAccessor(beanType, valueType, getter, null, null);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates an accessor that calls a setter.
+     *
+     * @param method A public setter with one parameter
+     * @return The accessor, or null if none can be created
+     */
+    static PropertyAccessor forSetter(Method method) {
+        if (method == null || Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+        return ACCESSORS.get(method.getDeclaringClass()).setters
+                .computeIfAbsent(method, m -> Optional.ofNullable(createSetter(m)))
+                .orElse(null);
+    }
+
+    private static PropertyAccessor createSetter(Method method) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+            Class<?> beanType = method.getDeclaringClass();
+            Class<?> valueType = method.getParameterTypes()[0];
+            Setter setter = null;
+            if (isVisible(beanType) && isVisible(valueType)) {
+                try {
+                    CallSite site = LambdaMetafactory.metafactory(LOOKUP, "set",
+                            MethodType.methodType(Setter.class),
+                            MethodType.methodType(void.class, Object.class, Object.class), handle,
+                            MethodType.methodType(void.class, beanType, ClassUtils.primitiveToWrapper(valueType)));
+                    setter = (Setter) site.getTarget().invokeExact();
+                } catch (LambdaConversionException e) {
+                    // Use the method handle
+                }
+            }
+            if (setter == null) {
+                MethodHandle generic = handle.asType(MethodType.methodType(void.class, Object.class, Object.class));
+                setter = (bean, value) -> {
+                    generic.invokeExact(bean, value);
+                };
+            }
+            return new PropertyAccessor(beanType, valueType, null, setter,
+                    primitiveSetter(handle, beanType, valueType, isVisible(beanType)));
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates an accessor that reads and, unless it is final, writes a field
+     * directly.
+     *
+     * @param field Any non-static field
+     * @return The accessor, or null if none can be created
+     */
+    static PropertyAccessor forField(Field field) {
+        if (field == null || Modifier.isStatic(field.getModifiers())) {
+            return null;
+        }
+        return ACCESSORS.get(field.getDeclaringClass()).fields
+                .computeIfAbsent(field, f -> Optional.ofNullable(createFieldAccessor(f)))
+                .orElse(null);
+    }
+
+    private static PropertyAccessor createFieldAccessor(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandle get = LOOKUP.unreflectGetter(field)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            Getter getter = bean -> (Object) get.invokeExact(bean);
+            Setter setter = null;
+            Object primitiveSetter = null;
+            if (!Modifier.isFinal(field.getModifiers())) {
+                MethodHandle set = LOOKUP.unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+                setter = (bean, value) -> {
+                    set.invokeExact(bean, value);
+                };
+                primitiveSetter = primitiveSetter(LOOKUP.unreflectSetter(field),
+                        field.getDeclaringClass(), field.getType(), false);
+            }
+            return new PropertyAccessor(field.getDeclaringClass(), field.getType(), getter, setter, primitiveSetter);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a setter that takes a value of a primitive type without boxing
+     * it.
+     *
+     * @param handle    A handle for the setter method or field
+     * @param beanType  The type of the bean
+     * @param valueType The type of the property
+     * @param generate  Whether a class may be generated to call the handle,
+     *                  instead of calling the handle itself
+     * @return An {@link IntSetter}, {@link LongSetter} or
+     *   {@link DoubleSetter}, or null if the property is of another type
+     */
+    private static Object primitiveSetter(MethodHandle handle, Class<?> beanType, Class<?> valueType, boolean generate)
+            throws Throwable {
+        Class<?> setterType;
+        if (valueType == int.class) {
+            setterType = IntSetter.class;
+        } else if (valueType == long.class) {
+            setterType = LongSetter.class;
+        } else if (valueType == double.class) {
+            setterType = DoubleSetter.class;
+        } else {
+            return null;
+        }
+        MethodType erased = MethodType.methodType(void.class, Object.class, valueType);
+        if (generate) {
+            try {
+                CallSite site = LambdaMetafactory.metafactory(LOOKUP, "set",
+                        MethodType.methodType(setterType), erased, handle,
+                        MethodType.methodType(void.class, beanType, valueType));
+                return site.getTarget().invoke();
+            } catch (LambdaConversionException e) {
+                // Use the method handle
+            }
+        }
+        MethodHandle generic = handle.asType(erased);
+        if (valueType == int.class) {
+            return (IntSetter) (bean, value) -> {
+                generic.invokeExact(bean, value);
+            };
+        }
+        if (valueType == long.class) {
+            return (LongSetter) (bean, value) -> {
+                generic.invokeExact(bean, value);
+            };
+        }
+        return (DoubleSetter) (bean, value) -> {
+            generic.invokeExact(bean, value);
+        };
+    }
+
+    /**
+     * The generated class is defined in the class loader of opencsv and
+     * refers to the bean class and the property type by name, so they must
+     * be visible from there.
+     */
+    static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, PropertyAccessor.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param bean The bean to be read
+     * @return Whether {@link #get(Object)} may be called for the bean
+     */
+    boolean canRead(Object bean) {
+        return getter != null && beanType.isInstance(bean);
+    }
+
+    /**
+     * @param bean  The bean to be written
+     * @param value The value to be assigned
+     * @return Whether {@link #set(Object, Object)} may be called for the bean
+     *   and the value
+     */
+    boolean canWrite(Object bean, Object value) {
+        return setter != null && beanType.isInstance(bean) && valueType.isInstance(value);
+    }
+
+    /**
+     * @param bean The bean to be written
+     * @return Whether {@link #setInt(Object, int)},
+     *   {@link #setLong(Object, long)} or
+     *   {@link #setDouble(Object, double)}, whichever matches the type of the
+     *   property, may be called for the bean
+     */
+    boolean canWritePrimitive(Object bean) {
+        return primitiveSetter != null && beanType.isInstance(bean);
+    }
+
+    /**
+     * Reads the property. Only call this if {@link #canRead(Object)} is true.
+     *
+     * @param bean The bean to be read
+     * @return The value of the property
+     * @throws InvocationTargetException If the getter throws anything
+     */
+    Object get(Object bean) throws InvocationTargetException {
+        try {
+            return getter.get(bean);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Writes the property. Only call this if
+     * {@link #canWrite(Object, Object)} is true.
+     *
+     * @param bean  The bean to be written
+     * @param value The value to be assigned
+     * @throws InvocationTargetException If the setter throws anything
+     */
+    void set(Object bean, Object value) throws InvocationTargetException {
+        try {
+            setter.set(bean, value);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Writes an {@code int} property. Only call this if
+     * {@link #canWritePrimitive(Object)} is true.
+     *
+     * @param bean  The bean to be written
+     * @param value The value to be assigned
+     * @throws InvocationTargetException If the setter throws anything
+     */
+    void setInt(Object bean, int value) throws InvocationTargetException {
+        try {
+            ((IntSetter) primitiveSetter).set(bean, value);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Writes a {@code long} property. Only call this if
+     * {@link #canWritePrimitive(Object)} is true.
+     *
+     * @param bean  The bean to be written
+     * @param value The value to be assigned
+     * @throws InvocationTargetException If the setter throws anything
+     */
+    void setLong(Object bean, long value) throws InvocationTargetException {
+        try {
+            ((LongSetter) primitiveSetter).set(bean, value);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Writes a {@code double} property. Only call this if
+     * {@link #canWritePrimitive(Object)} is true.
+     *
+     * @param bean  The bean to be written
+     * @param value The value to be assigned
+     * @throws InvocationTargetException If the setter throws anything
+     */
+    void setDouble(Object bean, double value) throws InvocationTargetException {
+        try {
+            ((DoubleSetter) primitiveSetter).set(bean, value);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+}
@@ -63,6 +63,9 @@ public class StatefulBeanToCsv<T> {
     private List<CsvException> capturedExceptions = new ArrayList<>();
     private boolean orderedResults = true;
     private BeanExecutor<T> executor = null;
+    private ExecutorService executorService = null;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int batchSize = BeanExecutor.DEFAULT_BATCH_SIZE;
     private Locale errorLocale = Locale.getDefault();
     private boolean applyQuotesToAll;
 
@@ -214,13 +217,32 @@ public class StatefulBeanToCsv<T> {
     }
 
     private void submitAllLines(Iterator<T> beans) throws InterruptedException {
+        List<String[]> lines = new ArrayList<>();
         while (beans.hasNext()) {
+            if (!executor.hasRoom()) {
+                writeNextResults(lines);
+            }
             T bean = beans.next();
             if (bean != null) {
                 executor.submitBean(++lineNumber, mappingStrategy, bean, throwExceptions);
             }
         }
-        executor.complete();
+        if (!executor.hasRoom()) {
+            writeNextResults(lines);
+        }
+        executor.flush();
+        while (executor.hasPendingResults()) {
+            writeNextResults(lines);
+        }
+        executor.shutdown();
+    }
+
+    private void writeNextResults(List<String[]> lines) throws InterruptedException {
+        executor.takeResults(lines);
+        for (String[] line : lines) {
+            csvwriter.writeNext(line, applyQuotesToAll);
+        }
+        lines.clear();
     }
 
     /**
@@ -244,6 +266,12 @@ public class StatefulBeanToCsv<T> {
     /**
      * Writes an iterator of beans out to the {@link java.io.Writer} provided to the
      * constructor.
+     * <p>The beans are converted in parallel, and every line is written as
+     * soon as it and, if order is preserved, all lines before it are ready.
+     * No more than a fixed number of beans are converted ahead of the
+     * output, so the memory needed does not depend on the number of beans.
+     * If an error stops the conversion, the lines that were ready up to that
+     * point have already been written.</p>
      *
      * @param iBeans An iterator of beans to be written to a CSV destination
      * @throws CsvDataTypeMismatchException   If a field of the beans is annotated improperly or an unsupported
@@ -264,7 +292,7 @@ public class StatefulBeanToCsv<T> {
             beforeFirstWrite(firstBean);
         }
 
-        executor = new BeanExecutor<>(orderedResults);
+        executor = new BeanExecutor<>(orderedResults, executorService, parallelism, batchSize);
         executor.prepare();
 
         // Process the beans
@@ -273,6 +301,7 @@ public class StatefulBeanToCsv<T> {
         } catch (RejectedExecutionException e) {
             // An exception in one of the bean writing threads prompted the
             // executor service to shutdown before we were done.
+            executor.shutdownNow();
             if (executor.getTerminalException() instanceof RuntimeException) {
                 throw (RuntimeException) executor.getTerminalException();
             }
@@ -295,10 +324,9 @@ public class StatefulBeanToCsv<T> {
             }
             throw new RuntimeException(ResourceBundle.getBundle(ICSVParser.DEFAULT_BUNDLE_NAME, errorLocale)
                     .getString("error.writing.beans"), e);
+        } finally {
+            capturedExceptions.addAll(executor.getCapturedExceptions());
         }
-
-        capturedExceptions.addAll(executor.getCapturedExceptions());
-        executor.resultStream().forEach(l -> csvwriter.writeNext(l, applyQuotesToAll));
     }
 
     /**
@@ -318,6 +346,53 @@ public class StatefulBeanToCsv<T> {
         this.orderedResults = orderedResults;
     }
 
+    /**
+     * Sets the executor on which beans are converted to lines in parallel.
+     * <p>By default, a new pool of threads is created for every call to {@link #write(Iterator)}
+     * and discarded afterwards. Passing in an executor instead allows one pool
+     * to be shared by many exports, or the use of a
+     * {@link java.util.concurrent.ForkJoinPool} or of virtual threads. The
+     * executor is never shut down by opencsv.</p>
+     * <p>Errors are handled just as with the default pool.</p>
+     *
+     * @param executor The executor to use, or null for a new pool of
+     *   threads for every call to {@link #write(Iterator)}
+     * @since 5.0
+     */
+    public void setExecutor(ExecutorService executor) {
+        this.executorService = executor;
+    }
+
+    /**
+     * Sets the number of threads in the pool created for every call to {@link #write(Iterator)}.
+     * Ignored if an executor has been set with
+     * {@link #setExecutor(ExecutorService)}.
+     * The default is the number of processors available.
+     *
+     * @param parallelism The number of threads. Values less than one are
+     *   taken to be one.
+     * @since 5.0
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism <= 0 ? 1 : parallelism;
+    }
+
+    /**
+     * Sets the number of beans converted together by one task.
+     * The default is {@value com.opencsv.bean.concurrent.BeanExecutor#DEFAULT_BATCH_SIZE}.
+     * <p>Handing every bean to another thread on its own costs about as
+     * much as converting it if the beans are small. Larger batches spread
+     * this cost over more beans. Up to about 1024 beans, but at least
+     * two batches per thread, are in flight at once.</p>
+     *
+     * @param batchSize The number of beans per task. Values less than one
+     *   are taken to be one.
+     * @since 5.0
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize <= 0 ? 1 : batchSize;
+    }
+
     /**
      * @return Whether or not exceptions are thrown. If they are not thrown,
      * they are captured and returned later via {@link #getCapturedExceptions()}.
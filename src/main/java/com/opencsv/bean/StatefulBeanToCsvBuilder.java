@@ -18,11 +18,13 @@ package com.opencsv.bean;
 import com.opencsv.CSVWriter;
 import com.opencsv.ICSVParser;
 import com.opencsv.ICSVWriter;
+import com.opencsv.bean.concurrent.BeanExecutor;
 import org.apache.commons.lang3.ObjectUtils;
 
 import java.io.Writer;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
 
 /**
  * This is a builder for StatefulBeanToCsv, allowing one to set all parameters
@@ -43,6 +45,9 @@ public class StatefulBeanToCsvBuilder<T> {
     private final ICSVWriter csvWriter;
     private boolean throwExceptions = true;
     private boolean orderedResults = true;
+    private ExecutorService executor = null;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int batchSize = BeanExecutor.DEFAULT_BATCH_SIZE;
     private Locale errorLocale = Locale.getDefault();
     private boolean applyQuotesToAll = true;
     
@@ -158,6 +163,47 @@ public class StatefulBeanToCsvBuilder<T> {
         this.orderedResults = orderedResults;
         return this;
     }
+
+    /**
+     * Sets the executor on which beans are converted to lines in parallel.
+     *
+     * @param executor The executor to use. It is never shut down by opencsv.
+     *   If null, a new pool of threads is created for every call to {@link StatefulBeanToCsv#write(java.util.Iterator)}.
+     * @return this
+     * @see StatefulBeanToCsv#setExecutor(java.util.concurrent.ExecutorService)
+     * @since 5.0
+     */
+    public StatefulBeanToCsvBuilder<T> withExecutor(ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the number of threads in the pool created for every call to {@link StatefulBeanToCsv#write(java.util.Iterator)}.
+     * Ignored if an executor has been set.
+     *
+     * @param parallelism The number of threads
+     * @return this
+     * @see StatefulBeanToCsv#setParallelism(int)
+     * @since 5.0
+     */
+    public StatefulBeanToCsvBuilder<T> withParallelism(int parallelism) {
+        this.parallelism = parallelism <= 0 ? 1 : parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the number of beans converted together by one task.
+     *
+     * @param batchSize The number of beans per task
+     * @return this
+     * @see StatefulBeanToCsv#setBatchSize(int)
+     * @since 5.0
+     */
+    public StatefulBeanToCsvBuilder<T> withBatchSize(int batchSize) {
+        this.batchSize = batchSize <= 0 ? 1 : batchSize;
+        return this;
+    }
     
     /**
      * Sets the locale to be used for all error messages.
@@ -201,6 +247,9 @@ public class StatefulBeanToCsvBuilder<T> {
         }
 
         sbtcsv.setOrderedResults(orderedResults);
+        sbtcsv.setExecutor(executor);
+        sbtcsv.setParallelism(parallelism);
+        sbtcsv.setBatchSize(batchSize);
         sbtcsv.setErrorLocale(errorLocale);
         return sbtcsv;
     }
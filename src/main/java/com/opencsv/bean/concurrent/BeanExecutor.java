@@ -2,6 +2,8 @@ package com.opencsv.bean.concurrent;
 
 import com.opencsv.bean.MappingStrategy;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * A specific derivative of {@link IntolerantThreadPoolExecutor} intended for
  * submitting beans to be converted to {@link java.lang.String}s for writing.
@@ -10,7 +12,10 @@ import com.opencsv.bean.MappingStrategy;
  * @author Andrew Rucker Jones
  * @since 5.0
  */
-public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<String[]> {
+public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<T, String[]> {
+
+    private MappingStrategy<T> mappingStrategy;
+    private boolean throwExceptions;
 
     /**
      * The only constructor available for this class.
@@ -18,8 +23,25 @@ public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<String[]> {
      */
     public BeanExecutor(boolean orderedResults) {super(orderedResults);}
 
+    /**
+     * Constructor for an executor that runs its tasks on the given executor
+     * or on a pool of its own.
+     * @param orderedResults Whether order should be preserved in the results
+     * @param executor The executor to run the tasks on. If null, a pool of
+     *   {@code parallelism} threads is used. It is never shut down.
+     * @param parallelism The number of threads in the pool if no executor is
+     *   given
+     * @param batchSize The number of beans converted by one task
+     */
+    public BeanExecutor(boolean orderedResults, ExecutorService executor, int parallelism, int batchSize) {
+        super(orderedResults, executor, parallelism, batchSize);
+    }
+
     /**
      * Submit one bean for conversion.
+     * May only be called if {@link #hasRoom()}. Beans are converted in
+     * batches, and all beans of one batch are converted with the mapping
+     * strategy and error handling given for the first of them.
      *
      * @param lineNumber Which record in the output file is being processed
      * @param mappingStrategy The mapping strategy to be used
@@ -30,14 +52,19 @@ public class BeanExecutor<T> extends IntolerantThreadPoolExecutor<String[]> {
     public void submitBean(
             long lineNumber, MappingStrategy<T> mappingStrategy,
             T bean, boolean throwExceptions) {
-        try {
-            execute(new ProcessCsvBean<>(lineNumber, mappingStrategy, bean, resultQueue,
-                    thrownExceptionsQueue, throwExceptions));
-        } catch (Exception e) {
-            if(accumulateThread != null) {
-                accumulateThread.setMustStop(true);
-            }
-            throw e;
+        if(this.mappingStrategy == null) {
+            this.mappingStrategy = mappingStrategy;
+            this.throwExceptions = throwExceptions;
         }
+        submit(lineNumber, bean);
+    }
+
+    @Override
+    protected Runnable createTask(long[] lineNumbers, Object[] input, int count, long sequence) {
+        ProcessCsvBean<T> task = new ProcessCsvBean<>(lineNumbers, input, count,
+                mappingStrategy, resultWindow, sequence, throwExceptions);
+        // The next batch may use other settings
+        mappingStrategy = null;
+        return task;
     }
 }
@@ -18,10 +18,13 @@ package com.opencsv.bean.concurrent;
 import com.opencsv.exceptions.CsvException;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.*;
-import java.util.stream.Stream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This ThreadPoolExecutor automatically shuts down on any failed thread.
@@ -35,44 +38,62 @@ import java.util.stream.Stream;
  * {@link java.util.concurrent.Executor}, and thus must be used differently
  * from other executors. Usage follows this pattern:
  * <ol><li>{@link #prepare()}</li>
- * <li>Submit tasks. This is not intended to be done directly to this class, but
- * rather to one of the submission methods of the derived classes.</li>
- * <li>{@link #complete()}</li>
- * <li>{@link #resultStream()}</li>
- * <li>Possibly {@link #getCapturedExceptions()}</li></ol></p>
+ * <li>As long as there is input and {@link #hasRoom()}, submit input. This is
+ * not intended to be done directly to this class, but rather to one of the
+ * submission methods of the derived classes.</li>
+ * <li>Once there is no more input and as soon as {@link #hasRoom()},
+ * {@link #flush()}</li>
+ * <li>As long as {@link #hasPendingResults()},
+ * {@link #takeResults(Collection)}, then continue submitting</li>
+ * <li>{@link #shutdown()}</li>
+ * <li>Possibly {@link #getCapturedExceptions()}</li></ol>
+ * All of these steps must be taken by the same thread.</p>
  * <p>The execution structure of this class is:
  * <ol><li>The main thread (outside of this executor) parses input and passes
  * it on to</li>
  * <li>This executor, which performs a number of conversions in parallel and
- * passes these results and any resultant errors to</li>
- * <li>The accumulator, which creates an ordered list of the results.</li></ol></p>
- * <p>The threads in the executor queue their results in a thread-safe
- * queue, which should be O(1), minimizing wait time due to synchronization.
- * The accumulator then removes items from the queue and inserts them into a
- * sorted data structure, which is O(log n) on average and O(n) in the worst
- * case. If the user has told us she doesn't need sorted data, the
- * accumulator is not necessary, and thus is not started.</p>
+ * places these results and any resultant errors in</li>
+ * <li>A {@link ResultWindow}, from which the main thread takes them again.</li></ol></p>
+ * <p>Input is collected into batches, and every batch is converted by one
+ * task. Every task thus passes through the queue of the executor and the
+ * window only once for the whole batch.</p>
+ * <p>No more than a fixed number of tasks are submitted and not yet taken,
+ * so the memory needed does not depend on the size of the input. If the user
+ * has told us she needs ordered data, the window is a ring buffer indexed by
+ * the order of submission, and every result is taken as soon as all results
+ * before it have been taken. Nothing spins while waiting: the main thread is
+ * parked until the result it needs is available.</p>
+ * <p>The threads of the pool time out when they are idle, so an executor that
+ * is abandoned before all of its results have been taken does not keep them
+ * alive.</p>
+ * <p>Instead of using threads of its own, this executor can hand its tasks to
+ * an {@link ExecutorService} provided by the user, for example a pool shared
+ * by many imports or one that runs every task on a virtual thread. The error
+ * semantics are the same in both cases: the first task to throw stops this
+ * executor, and any of its tasks that have not started yet are skipped. The
+ * user's executor is never shut down.</p>
  *
+ * @param <I> The type of the input converted by the threads run
  * @param <T> The type of the object being created by the threads run
  * @author Andrew Rucker Jones
  * @since 4.0
  */
-class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor {
+abstract class IntolerantThreadPoolExecutor<I, T> extends ThreadPoolExecutor {
 
-    /** A queue of the beans created. */
-    protected final BlockingQueue<OrderedObject<T>> resultQueue = new LinkedBlockingQueue<>();
-
-    /** A queue of exceptions thrown by threads during processing. */
-    protected final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue = new LinkedBlockingQueue<>();
+    /**
+     * The number of records that may be in flight at once, if this allows
+     * at least two tasks per thread.
+     */
+    private static final int WINDOW_SIZE = 1024;
 
-    /** A sorted, concurrent map for the beans created. */
-    private ConcurrentNavigableMap<Long, T> resultantBeansMap = null;
+    /** The number of records per task if none is specified. */
+    public static final int DEFAULT_BATCH_SIZE = 32;
 
-    /** A sorted, concurrent map for any exceptions captured. */
-    private ConcurrentNavigableMap<Long, CsvException> thrownExceptionsMap = null;
+    /** The window through which results are passed back to the main thread. */
+    protected ResultWindow<T> resultWindow = null;
 
-    /** A separate thread that accumulates and orders results. */
-    protected AccumulateCsvResults<T> accumulateThread = null;
+    /** Exceptions captured so far, in the order they were taken. */
+    private final List<CsvException> capturedExceptions = new ArrayList<>();
 
     /**
      * Determines whether resulting data sets have to be in the same order as
@@ -80,116 +101,228 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor {
      */
     private final boolean orderedResults;
 
+    /**
+     * The executor provided by the user to run the tasks, or null if this
+     * executor runs them on its own threads.
+     */
+    private final ExecutorService delegate;
+
+    /**
+     * Set when tasks handed to {@link #delegate} are no longer to be run,
+     * since the user's executor cannot be asked to drop them.
+     */
+    private volatile boolean abandoned = false;
+
     /** The exception that caused this Executor to stop executing. */
-    private Throwable terminalException;
+    private volatile Throwable terminalException;
+
+    /** The number of records converted by one task. */
+    private final int batchSize;
+
+    /** The line numbers of the batch being collected. */
+    private long[] batchLineNumbers = null;
+
+    /** The input of the batch being collected. */
+    private Object[] batchInput = null;
+
+    /** The number of records in the batch being collected. */
+    private int batchCount = 0;
 
     /**
      * Constructor for a thread pool executor that stops by itself as soon as
      * any thread throws an exception.
-     * Threads never time out and the queue for inbound work is unbounded.
+     * There is one thread per processor.
      * @param orderedResults Whether order should be preserved in the results
      */
     IntolerantThreadPoolExecutor(boolean orderedResults) {
-        super(Runtime.getRuntime().availableProcessors(),
-                Runtime.getRuntime().availableProcessors(), Long.MAX_VALUE,
-                TimeUnit.NANOSECONDS, new LinkedBlockingQueue<>());
+        this(orderedResults, null, Runtime.getRuntime().availableProcessors(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor for an executor that stops by itself as soon as any task
+     * throws an exception.
+     * Idle threads time out. The queue for inbound work is not bounded by
+     * itself, but by the window through which results are taken.
+     * @param orderedResults Whether order should be preserved in the results
+     * @param executor The executor to run the tasks on. If null, a pool of
+     *   {@code parallelism} threads is used.
+     * @param parallelism The number of threads in the pool if no executor is
+     *   given. Values less than one are taken to be one.
+     * @param batchSize The number of records converted by one task. Values
+     *   less than one are taken to be one.
+     * @since 5.0
+     */
+    IntolerantThreadPoolExecutor(boolean orderedResults, ExecutorService executor, int parallelism, int batchSize) {
+        super(Math.max(1, parallelism), Math.max(1, parallelism), 1,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        allowCoreThreadTimeOut(true);
         this.orderedResults = orderedResults;
+        this.delegate = executor;
+        this.batchSize = Math.max(1, batchSize);
     }
 
     /**
      * Prepares this Executor to receive jobs.
      */
     public void prepare() {
-        prestartAllCoreThreads();
-
-        // The ordered maps and accumulator are only necessary if ordering is
-        // stipulated. After this, the presence or absence of the accumulator is
-        // used to indicate ordering or not so as to guard against the unlikely
-        // problem that someone sets orderedResults right in the middle of
-        // processing.
-        if(orderedResults) {
-            resultantBeansMap = new ConcurrentSkipListMap<>();
-            thrownExceptionsMap = new ConcurrentSkipListMap<>();
-
-            // Start the process for accumulating results and cleaning up
-            accumulateThread = new AccumulateCsvResults<>(
-                    resultQueue, thrownExceptionsQueue, resultantBeansMap,
-                    thrownExceptionsMap);
-            accumulateThread.start();
+        if(delegate == null) {
+            prestartAllCoreThreads();
         }
+        int tasks = Math.max(2 * getCorePoolSize(), WINDOW_SIZE / batchSize);
+        resultWindow = new ResultWindow<>(tasks, orderedResults);
     }
 
     /**
-     * Sends a signal to the Executor that it should shut down once all threads
-     * have completed.
-     *
-     * @throws InterruptedException If the current thread is interrupted while
-     * waiting. Shouldn't be thrown, since the Executor
-     * waits indefinitely for all threads to end.
-     * @throws RejectedExecutionException If an exception during processing
-     * forced this Executor to shut down.
-     */
-    public void complete() throws InterruptedException {
-        // Normal termination
-        super.shutdown();
-        awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS); // Wait indefinitely
-        if(accumulateThread != null) {
-            accumulateThread.setMustStop(true);
-            accumulateThread.join();
+     * Creates the task that converts one batch.
+     * @param lineNumbers The line numbers of the records in the batch
+     * @param input The records in the batch, all of type {@code I}
+     * @param count The number of records in the batch. Only the first
+     *   {@code count} elements of the arrays are used.
+     * @param sequence The sequence number of the slot in the window for the
+     *   results of the task
+     * @return The task
+     */
+    protected abstract Runnable createTask(long[] lineNumbers, Object[] input, int count, long sequence);
+
+    /**
+     * Adds one record to the batch being collected, and submits the batch
+     * as soon as it is full. May only be called if {@link #hasRoom()}.
+     * @param lineNumber Which record of the input or output is being
+     *   processed
+     * @param input The record
+     */
+    protected void submit(long lineNumber, I input) {
+        if(batchCount == 0) {
+            batchLineNumbers = new long[batchSize];
+            batchInput = new Object[batchSize];
         }
+        batchLineNumbers[batchCount] = lineNumber;
+        batchInput[batchCount++] = input;
+        if(batchCount == batchSize) {
+            flush();
+        }
+    }
 
-        // There's one more possibility: The very last bean caused a problem.
-        if(terminalException != null) {
-            // Trigger a catch in the calling method
-            throw new RejectedExecutionException();
+    /**
+     * Submits the batch being collected, even if it is not full yet.
+     * Must be called once there is no more input.
+     * May only be called if {@link #hasRoom()}.
+     */
+    public void flush() {
+        if(batchCount > 0) {
+            int count = batchCount;
+            batchCount = 0;
+            execute(createTask(batchLineNumbers, batchInput, count, resultWindow.open()));
+            batchLineNumbers = null;
+            batchInput = null;
         }
     }
 
     /**
-     * Returns the results of conversion as a {@link java.util.stream.Stream}.
-     * @return A {@link java.util.stream.Stream} of results
+     * Runs the task on the threads of this executor or, if one was given, on
+     * the user's executor.
+     * @param command {@inheritDoc}
+     * @throws RejectedExecutionException If this executor has been shut down
+     *   or the user's executor rejects the task
      */
-    public Stream<T> resultStream() {
-        // Prepare results. Checking for this map to be != null makes the
-        // compiler feel better than checking that the accumulator is not null.
-        // This is to differentiate between the ordered and unordered cases.
-        if(resultantBeansMap != null) {
-             return resultantBeansMap.values().stream();
+    @Override
+    public void execute(Runnable command) {
+        if(delegate == null) {
+            super.execute(command);
+            return;
+        }
+        if(isShutdown()) {
+            throw new RejectedExecutionException();
+        }
+        try {
+            delegate.execute(() -> {
+                if(abandoned) {
+                    return;
+                }
+                Throwable thrown = null;
+                try {
+                    command.run();
+                }
+                catch(RuntimeException | Error e) {
+                    // Recorded as the terminal exception, not passed on to the
+                    // user's executor
+                    thrown = e;
+                }
+                finally {
+                    afterExecute(command, thrown);
+                }
+            });
+        }
+        catch(RejectedExecutionException e) {
+            // The user's executor refused the task. Nothing more can be
+            // processed, and the caller needs to know why.
+            if(terminalException == null) {
+                terminalException = e;
+            }
+            shutdownNow();
+            if(resultWindow != null) {
+                resultWindow.fail(terminalException);
+            }
+            throw e;
         }
-        return resultQueue.stream()
-                .filter(Objects::nonNull)
-                .map(OrderedObject::getElement);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>If the tasks run on the user's executor, those that have not started
+     * yet are skipped, but the user's executor itself keeps running.</p>
+     * @return {@inheritDoc}
+     */
+    @Override
+    public List<Runnable> shutdownNow() {
+        abandoned = true;
+        return super.shutdownNow();
+    }
+
+    /**
+     * @return Whether more input may be submitted before a result is taken
+     */
+    public boolean hasRoom() {
+        return resultWindow.hasRoom();
+    }
+
+    /**
+     * @return Whether any tasks have been submitted whose results have not
+     *   been taken yet. Input that has not been flushed yet does not count.
+     */
+    public boolean hasPendingResults() {
+        return !resultWindow.isEmpty();
+    }
+
+    /**
+     * Takes the results of the next task, waiting for them if necessary.
+     * If results are ordered, this is the oldest task submitted and not yet
+     * taken. May only be called if {@link #hasPendingResults()}.
+     *
+     * @param results Receives the results of the task, in order. There may
+     *   be none, for example because all records led to captured exceptions.
+     * @throws InterruptedException If the current thread is interrupted while
+     *   waiting
+     * @throws RejectedExecutionException If an exception during processing
+     *   forced this Executor to shut down
+     */
+    public void takeResults(Collection<? super T> results) throws InterruptedException {
+        resultWindow.take(results, capturedExceptions);
     }
 
     /**
      * Returns exceptions captured during the conversion process if
      * the conversion process was set not to propagate these errors
-     * up the call stack.
+     * up the call stack. Only exceptions from results already taken are
+     * included.
      * The call is nondestructive.
      *
      * @return All exceptions captured
      */
     public List<CsvException> getCapturedExceptions() {
-        if(thrownExceptionsMap != null) {
-            return new ArrayList<>(thrownExceptionsMap.values());
-        }
-        List<CsvException> capturedExceptions = new ArrayList<>(thrownExceptionsQueue.size());
-        OrderedObject<CsvException> oocsve;
-        while(!thrownExceptionsQueue.isEmpty()) {
-            oocsve = thrownExceptionsQueue.poll();
-            if(oocsve != null) {capturedExceptions.add(oocsve.getElement());}
-        }
-        return capturedExceptions;
+        return new ArrayList<>(capturedExceptions);
     }
 
-    @Override
-    public List<Runnable> shutdownNow() {
-        if(accumulateThread != null) {
-            accumulateThread.setMustStop(true);
-        }
-        return super.shutdownNow();
-    }
-    
     /**
      * Shuts the Executor down if the thread ended in an exception.
      * @param r {@inheritDoc}
@@ -209,6 +342,11 @@ class IntolerantThreadPoolExecutor<T> extends ThreadPoolExecutor {
                 terminalException = t;
             }
             shutdownNow();
+
+            // The task never completed its slot, so wake the main thread
+            if(resultWindow != null) {
+                resultWindow.fail(terminalException);
+            }
         }
     }
     
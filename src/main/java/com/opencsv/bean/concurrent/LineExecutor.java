@@ -4,7 +4,9 @@ import com.opencsv.bean.BeanVerifier;
 import com.opencsv.bean.CsvToBeanFilter;
 import com.opencsv.bean.MappingStrategy;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 /**
  * A specific derivative of {@link IntolerantThreadPoolExecutor} intended for
@@ -14,7 +16,12 @@ import java.util.List;
  * @author Andrew Rucker Jones
  * @since 5.0
  */
-public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
+public class LineExecutor<T> extends IntolerantThreadPoolExecutor<String[], T> {
+
+    private MappingStrategy<? extends T> mapper;
+    private CsvToBeanFilter filter;
+    private List<BeanVerifier<T>> verifiers;
+    private boolean throwExceptions;
 
     /**
      * The only constructor available for this class.
@@ -22,31 +29,55 @@ public class LineExecutor<T> extends IntolerantThreadPoolExecutor<T> {
      */
     public LineExecutor(boolean orderedResults) {super(orderedResults);}
 
+    /**
+     * Constructor for an executor that runs its tasks on the given executor
+     * or on a pool of its own.
+     * @param orderedResults Whether order should be preserved in the results
+     * @param executor The executor to run the tasks on. If null, a pool of
+     *   {@code parallelism} threads is used. It is never shut down.
+     * @param parallelism The number of threads in the pool if no executor is
+     *   given
+     * @param batchSize The number of lines converted by one task
+     */
+    public LineExecutor(boolean orderedResults, ExecutorService executor, int parallelism, int batchSize) {
+        super(orderedResults, executor, parallelism, batchSize);
+    }
+
     /**
      * Submit one record for conversion to a bean.
+     * May only be called if {@link #hasRoom()}. Lines are converted in
+     * batches, and all lines of one batch are converted with the mapping
+     * strategy, filter, verifiers and error handling given for the first of
+     * them.
      *
      * @param lineNumber Which record in the input file is being processed
      * @param mapper The mapping strategy to be used
      * @param filter A filter to remove beans from the running, if necessary.
      *   May be null.
      * @param verifiers The list of verifiers to run on beans after creation
-     * @param line The line of input to be transformed into a bean
+     * @param line The line of input to be transformed into a bean. It must
+     *   not be changed afterwards.
      * @param throwExceptions Whether exceptions should be thrown or captured
      *   for later processing
      */
     public void submitLine(
             long lineNumber, MappingStrategy<? extends T> mapper, CsvToBeanFilter filter,
             List<BeanVerifier<T>> verifiers, String[] line, boolean throwExceptions) {
-        try {
-            execute(new ProcessCsvLine<>(
-                    lineNumber, mapper, filter, verifiers, line,
-                    resultQueue, thrownExceptionsQueue,
-                    throwExceptions));
-        } catch (Exception e) {
-            if(accumulateThread != null) {
-                accumulateThread.setMustStop(true);
-            }
-            throw e;
+        if(this.mapper == null) {
+            this.mapper = mapper;
+            this.filter = filter;
+            this.verifiers = new ArrayList<>(verifiers);
+            this.throwExceptions = throwExceptions;
         }
+        submit(lineNumber, line);
+    }
+
+    @Override
+    protected Runnable createTask(long[] lineNumbers, Object[] input, int count, long sequence) {
+        ProcessCsvLine<T> task = new ProcessCsvLine<>(lineNumbers, input, count,
+                mapper, filter, verifiers, resultWindow, sequence, throwExceptions);
+        // The next batch may use other settings
+        mapper = null;
+        return task;
     }
 }
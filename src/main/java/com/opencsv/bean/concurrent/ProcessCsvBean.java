@@ -18,26 +18,35 @@ package com.opencsv.bean.concurrent;
 import com.opencsv.bean.MappingStrategy;
 import com.opencsv.bean.OpencsvUtils;
 import com.opencsv.exceptions.*;
+
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 
 /**
  * A class for converting one bean into its string representation for writing to
  * an output.
+ * <p>When run through a {@link BeanExecutor}, one job converts a whole batch
+ * of beans, so that the cost of submitting a job and passing its results back
+ * is shared by all of them.</p>
  * @param <T> The type of the bean to be processed
  * @since 4.0
  * @author Andrew Rucker Jones
  */
 public class ProcessCsvBean<T> implements Runnable {
     
-    private final long lineNumber;
+    private final long[] lineNumbers;
+    private final Object[] beans;
+    private final int count;
     private final MappingStrategy<T> mappingStrategy;
-    private final T bean;
     private final BlockingQueue<OrderedObject<String[]>> resultantLineQueue;
     private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue;
+    private final ResultWindow<String[]> resultWindow;
+    private final long sequence;
     private final boolean throwExceptions;
     
     /**
-     * The only constructor for creating a line of CSV output out of a bean.
+     * The constructor for creating a line of CSV output out of a bean.
      * @param lineNumber Which record in the output file is being processed
      * @param mappingStrategy The mapping strategy to be used
      * @param bean The bean to be transformed into a line of output
@@ -51,34 +60,91 @@ public class ProcessCsvBean<T> implements Runnable {
             T bean, BlockingQueue<OrderedObject<String[]>> resultantLineQueue,
             BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue,
             boolean throwExceptions) {
-        this.lineNumber = lineNumber;
+        this.lineNumbers = new long[]{lineNumber};
+        this.beans = new Object[]{bean};
+        this.count = 1;
         this.mappingStrategy = mappingStrategy;
-        this.bean = bean;
         this.resultantLineQueue = resultantLineQueue;
         this.thrownExceptionsQueue = thrownExceptionsQueue;
+        this.resultWindow = null;
+        this.sequence = 0;
+        this.throwExceptions = throwExceptions;
+    }
+
+    /**
+     * Creates lines of CSV output out of a batch of beans and stores the
+     * outcome in a slot of a {@link ResultWindow}.
+     * The arrays are not copied; they belong to this job from now on.
+     * @param lineNumbers Which records in the output file are being processed
+     * @param beans The beans to be transformed into lines of output
+     * @param count The number of beans in the batch. Only the first
+     *   {@code count} elements of the arrays are used.
+     * @param mappingStrategy The mapping strategy to be used
+     * @param resultWindow The window in which to place the lines created and
+     *   the exceptions captured
+     * @param sequence The sequence number of the slot in the window
+     * @param throwExceptions Whether exceptions should be thrown or captured
+     *   for later processing
+     */
+    ProcessCsvBean(long[] lineNumbers, Object[] beans, int count,
+            MappingStrategy<T> mappingStrategy,
+            ResultWindow<String[]> resultWindow, long sequence,
+            boolean throwExceptions) {
+        this.lineNumbers = lineNumbers;
+        this.beans = beans;
+        this.count = count;
+        this.mappingStrategy = mappingStrategy;
+        this.resultantLineQueue = null;
+        this.thrownExceptionsQueue = null;
+        this.resultWindow = resultWindow;
+        this.sequence = sequence;
         this.throwExceptions = throwExceptions;
     }
     
     @Override
+    @SuppressWarnings("unchecked")
     public void run() {
-        try {
-            OpencsvUtils.queueRefuseToAcceptDefeat(resultantLineQueue,
-                    new OrderedObject<>(lineNumber, mappingStrategy.transmuteBean(bean)));
-        }
-        catch (CsvException e) {
-            e.setLineNumber(lineNumber);
-            if(throwExceptions) {
-                throw new RuntimeException(e);
+        List<String[]> lines = resultWindow != null ? new ArrayList<>(count) : null;
+        List<CsvException> capturedExceptions = null;
+        for (int i = 0; i < count; i++) {
+            try {
+                String[] line = mappingStrategy.transmuteBean((T) beans[i]);
+                if(resultWindow != null) {
+                    lines.add(line);
+                }
+                else {
+                    OpencsvUtils.queueRefuseToAcceptDefeat(resultantLineQueue,
+                            new OrderedObject<>(lineNumbers[i], line));
+                }
+            }
+            catch (CsvException e) {
+                e.setLineNumber(lineNumbers[i]);
+                if(throwExceptions) {
+                    throw new RuntimeException(e);
+                }
+                if(resultWindow != null) {
+                    if(capturedExceptions == null) {
+                        capturedExceptions = new ArrayList<>();
+                    }
+                    capturedExceptions.add(e);
+                }
+                else {
+                    OpencsvUtils.queueRefuseToAcceptDefeat(thrownExceptionsQueue,
+                            new OrderedObject<>(lineNumbers[i], e));
+                }
+            }
+            catch(CsvRuntimeException csvre) {
+                // Rethrowing exception here because I do not want the CsvRuntimeException caught and rewrapped in the catch below.
+                throw csvre;
+            }
+            catch(Exception t) {
+                throw new RuntimeException(t);
             }
-            OpencsvUtils.queueRefuseToAcceptDefeat(thrownExceptionsQueue,
-                    new OrderedObject<>(lineNumber, e));
-        }
-        catch(CsvRuntimeException csvre) {
-            // Rethrowing exception here because I do not want the CsvRuntimeException caught and rewrapped in the catch below.
-            throw csvre;
         }
-        catch(Exception t) {
-            throw new RuntimeException(t);
+
+        if(resultWindow != null) {
+            // The slot must be completed even if there is nothing in it
+            resultWindow.complete(sequence, lines, capturedExceptions);
         }
     }
     
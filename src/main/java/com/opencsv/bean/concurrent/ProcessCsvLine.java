@@ -32,18 +32,24 @@ import java.util.concurrent.BlockingQueue;
 /**
  * A class that encapsulates the job of creating a bean from a line of CSV input
  * and making it possible to run those jobs in parallel.
+ * <p>When run through a {@link LineExecutor}, one job creates the beans for a
+ * whole batch of lines, so that the cost of submitting a job and passing its
+ * results back is shared by all of them.</p>
  * @param <T> The type of the bean being created
  * @author Andrew Rucker Jones
  * @since 4.0
  */
 public class ProcessCsvLine<T> implements Runnable {
-    private final long lineNumber;
+    private final long[] lineNumbers;
+    private final Object[] lines;
+    private final int count;
     private final MappingStrategy<? extends T> mapper;
     private final CsvToBeanFilter filter;
     private final List<BeanVerifier<T>> verifiers;
-    private final String[] line;
     private final BlockingQueue<OrderedObject<T>> resultantBeanQueue;
     private final BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue;
+    private final ResultWindow<T> resultWindow;
+    private final long sequence;
     private final boolean throwExceptions;
 
     /**
@@ -66,47 +72,117 @@ public class ProcessCsvLine<T> implements Runnable {
             BlockingQueue<OrderedObject<T>> resultantBeanQueue,
             BlockingQueue<OrderedObject<CsvException>> thrownExceptionsQueue,
             boolean throwExceptions) {
-        this.lineNumber = lineNumber;
+        this.lineNumbers = new long[]{lineNumber};
+        this.lines = new Object[]{ArrayUtils.clone(line)};
+        this.count = 1;
         this.mapper = mapper;
         this.filter = filter;
         this.verifiers = ObjectUtils.defaultIfNull(new ArrayList<>(verifiers), Collections.<BeanVerifier<T>>emptyList());
-        this.line = ArrayUtils.clone(line);
         this.resultantBeanQueue = resultantBeanQueue;
         this.thrownExceptionsQueue = thrownExceptionsQueue;
+        this.resultWindow = null;
+        this.sequence = 0;
+        this.throwExceptions = throwExceptions;
+    }
+
+    /**
+     * Creates beans out of a batch of lines of input and stores the outcome
+     * in a slot of a {@link ResultWindow}.
+     * The arrays are not copied; they belong to this job from now on.
+     * @param lineNumbers Which records in the input file are being processed
+     * @param lines The lines of input to be transformed into beans, all of
+     *   type {@code String[]}
+     * @param count The number of lines in the batch. Only the first
+     *   {@code count} elements of the arrays are used.
+     * @param mapper The mapping strategy to be used
+     * @param filter A filter to remove beans from the running, if necessary.
+     *   May be null.
+     * @param verifiers The list of verifiers to run on beans after creation
+     * @param resultWindow The window in which to place the beans created and
+     *   the exceptions captured
+     * @param sequence The sequence number of the slot in the window
+     * @param throwExceptions Whether exceptions should be thrown, ending
+     *   processing, or suppressed and saved for later processing
+     */
+    ProcessCsvLine(
+            long[] lineNumbers, Object[] lines, int count,
+            MappingStrategy<? extends T> mapper, CsvToBeanFilter filter,
+            List<BeanVerifier<T>> verifiers,
+            ResultWindow<T> resultWindow, long sequence,
+            boolean throwExceptions) {
+        this.lineNumbers = lineNumbers;
+        this.lines = lines;
+        this.count = count;
+        this.mapper = mapper;
+        this.filter = filter;
+        this.verifiers = verifiers;
+        this.resultantBeanQueue = null;
+        this.thrownExceptionsQueue = null;
+        this.resultWindow = resultWindow;
+        this.sequence = sequence;
         this.throwExceptions = throwExceptions;
     }
 
     @Override
     public void run() {
-        try {
-            if (filter == null || filter.allowLine(line)) {
-                T obj = processLine();
-                ListIterator<BeanVerifier<T>> verifierList = verifiers.listIterator();
-                boolean keep = true;
-                while(keep && verifierList.hasNext()) {
-                    keep = verifierList.next().verifyBean(obj);
+        List<T> beans = resultWindow != null ? new ArrayList<>(count) : null;
+        List<CsvException> capturedExceptions = null;
+        for (int i = 0; i < count; i++) {
+            String[] line = (String[]) lines[i];
+            T bean = null;
+            CsvException captured = null;
+            try {
+                if (filter == null || filter.allowLine(line)) {
+                    T obj = processLine(line);
+                    ListIterator<BeanVerifier<T>> verifierList = verifiers.listIterator();
+                    boolean keep = true;
+                    while(keep && verifierList.hasNext()) {
+                        keep = verifierList.next().verifyBean(obj);
+                    }
+                    if (keep) {
+                        bean = obj;
+                    }
                 }
-                if (keep) {
-                    OpencsvUtils.queueRefuseToAcceptDefeat(
-                            resultantBeanQueue,
-                            new OrderedObject<>(lineNumber, obj));
+            } catch (CsvException e) {
+                e.setLineNumber(lineNumbers[i]);
+                e.setLine(line);
+                if (throwExceptions) {
+                    throw new RuntimeException(e);
                 }
-            }
-        } catch (CsvException e) {
-            e.setLineNumber(lineNumber);
-            e.setLine(line);
-            if (throwExceptions) {
+                captured = e;
+            } catch (Exception e) {
                 throw new RuntimeException(e);
             }
-            OpencsvUtils.queueRefuseToAcceptDefeat(thrownExceptionsQueue,
-                    new OrderedObject<>(lineNumber, e));
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+
+            if (resultWindow != null) {
+                if (bean != null) {
+                    beans.add(bean);
+                }
+                if (captured != null) {
+                    if (capturedExceptions == null) {
+                        capturedExceptions = new ArrayList<>();
+                    }
+                    capturedExceptions.add(captured);
+                }
+            } else if (bean != null) {
+                OpencsvUtils.queueRefuseToAcceptDefeat(
+                        resultantBeanQueue,
+                        new OrderedObject<>(lineNumbers[i], bean));
+            } else if (captured != null) {
+                OpencsvUtils.queueRefuseToAcceptDefeat(thrownExceptionsQueue,
+                        new OrderedObject<>(lineNumbers[i], captured));
+            }
+        }
+
+        if (resultWindow != null) {
+            // The slot must be completed even if there is nothing in it
+            resultWindow.complete(sequence, beans, capturedExceptions);
         }
     }
 
     /**
      * Creates a single object from a line from the CSV file.
+     * @param line The line of input
      * @return Object containing the values.
      * @throws IllegalAccessException Thrown on error creating bean.
      * @throws InstantiationException Thrown on error creating bean.
@@ -120,7 +196,7 @@ public class ProcessCsvLine<T> implements Runnable {
      * @throws CsvConstraintViolationException When the internal structure of
      *   data would be violated by the data in the CSV file
      */
-    private T processLine()
+    private T processLine(String[] line)
             throws IllegalAccessException,
             InstantiationException,
             CsvBadConverterException, CsvDataTypeMismatchException,
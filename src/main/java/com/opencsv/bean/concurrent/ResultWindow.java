@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean.concurrent;
+
+import com.opencsv.exceptions.CsvException;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded window over the tasks that have been submitted to an executor but
+ * whose results have not been taken yet.
+ * <p>One thread, the consumer, opens a slot for every task it submits and
+ * takes the results out again. The tasks complete their slots from any
+ * thread. Since no more than {@code capacity} slots can be open at once, the
+ * memory needed is proportional to the capacity and not to the size of the
+ * input.</p>
+ * <p>Every task may produce any number of results and captured exceptions,
+ * so a task can work on a batch of input at once.</p>
+ * <p>If results are ordered, the slots form a ring buffer indexed by the
+ * sequence number of the task, and a result can only be taken once all
+ * results before it have been taken. Otherwise, results are taken in the
+ * order in which they are completed. A consumer waiting for a result is
+ * parked until it is available; nothing spins.</p>
+ *
+ * @param <T> The type of the results
+ * @since 5.0
+ */
+final class ResultWindow<T> {
+
+    /** The outcome of one task. */
+    private static final class Outcome<T> {
+        private final List<T> results;
+        private final List<CsvException> exceptions;
+
+        Outcome(List<T> results, List<CsvException> exceptions) {
+            this.results = results;
+            this.exceptions = exceptions;
+        }
+    }
+
+    private final boolean ordered;
+    private final int capacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition resultAvailable = lock.newCondition();
+
+    /**
+     * The outcomes of the open slots, indexed by sequence number modulo
+     * capacity, if results are ordered. Null until the task is done.
+     */
+    private final Outcome<T>[] slots;
+
+    /** The outcomes waiting to be taken, if results are not ordered. */
+    private final ArrayDeque<Outcome<T>> completed;
+
+    /** The sequence number of the next slot to be opened. */
+    private long next = 0;
+    /** The sequence number of the oldest open slot. */
+    private long head = 0;
+    /** The number of open slots. Only changed by the consumer. */
+    private int open = 0;
+    /** The reason the tasks had to be abandoned, if they had to be. */
+    private Throwable failure = null;
+
+    /**
+     * @param capacity The greatest number of slots that can be open at once
+     * @param ordered  Whether results must be taken in the order the slots
+     *                 were opened
+     */
+    @SuppressWarnings("unchecked")
+    ResultWindow(int capacity, boolean ordered) {
+        this.capacity = capacity;
+        this.ordered = ordered;
+        if (ordered) {
+            slots = (Outcome<T>[]) new Outcome<?>[capacity];
+            completed = null;
+        } else {
+            slots = null;
+            completed = new ArrayDeque<>(capacity);
+        }
+    }
+
+    /**
+     * @return Whether another slot may be opened. Consumer only.
+     */
+    boolean hasRoom() {
+        return open < capacity;
+    }
+
+    /**
+     * @return Whether any slots are open. Consumer only.
+     */
+    boolean isEmpty() {
+        return open == 0;
+    }
+
+    /**
+     * Opens a slot for a task about to be submitted. Consumer only, and only
+     * if {@link #hasRoom()}.
+     *
+     * @return The sequence number of the slot, to be passed to
+     *   {@link #complete(long, List, List)}
+     */
+    long open() {
+        lock.lock();
+        try {
+            open++;
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the outcome of a task.
+     *
+     * @param sequence   The sequence number of the slot of the task
+     * @param results    The results, in order. May be null if there are none.
+     * @param exceptions The exceptions captured by the task, in order. May be
+     *                   null if there are none.
+     */
+    void complete(long sequence, List<T> results, List<CsvException> exceptions) {
+        Outcome<T> outcome = new Outcome<>(results, exceptions);
+        lock.lock();
+        try {
+            if (ordered) {
+                slots[(int) (sequence % capacity)] = outcome;
+                if (sequence == head) {
+                    resultAvailable.signal();
+                }
+            } else {
+                completed.add(outcome);
+                resultAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gives up on all open slots and wakes the consumer.
+     *
+     * @param t The reason
+     */
+    void fail(Throwable t) {
+        lock.lock();
+        try {
+            failure = t;
+            resultAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the outcome of the next task, waiting for it if necessary.
+     * Consumer only, and only if the window is not {@link #isEmpty() empty}.
+     *
+     * @param results    Receives the results of the task, if it has any
+     * @param exceptions Receives the captured exceptions of the task, if it
+     *                   has any
+     * @throws InterruptedException If the consumer is interrupted while
+     *   waiting
+     * @throws RejectedExecutionException If {@link #fail(Throwable)} has
+     *   been called
+     */
+    void take(Collection<? super T> results, Collection<? super CsvException> exceptions)
+            throws InterruptedException {
+        Outcome<T> outcome;
+        lock.lock();
+        try {
+            if (ordered) {
+                int i = (int) (head % capacity);
+                while (failure == null && slots[i] == null) {
+                    resultAvailable.await();
+                }
+                checkFailure();
+                outcome = slots[i];
+                slots[i] = null;
+                head++;
+            } else {
+                while (failure == null && completed.isEmpty()) {
+                    resultAvailable.await();
+                }
+                checkFailure();
+                outcome = completed.poll();
+            }
+            open--;
+        } finally {
+            lock.unlock();
+        }
+        if (outcome.exceptions != null) {
+            exceptions.addAll(outcome.exceptions);
+        }
+        if (outcome.results != null) {
+            results.addAll(outcome.results);
+        }
+    }
+
+    private void checkFailure() {
+        if (failure != null) {
+            // Trigger a catch in the calling method
+            throw new RejectedExecutionException(failure);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.opencsv.enums;
+
+/**
+ * Enumeration used to tell a CSVWriter with buffered output when to push its
+ * output to the underlying Writer and flush it.
+ * <ul>
+ * <li>ON_CLOSE - default. Output is handed to the Writer whenever the buffer
+ * is full, but the Writer is only flushed by flush() and close().</li>
+ * <li>ROWS - the Writer is flushed after every so many lines.</li>
+ * <li>CHARACTERS - the Writer is flushed as soon as so many characters have
+ * been written since it was last flushed.</li>
+ * </ul>
+ *
+ * @since 5.0
+ */
+public enum CSVWriterFlushPolicy {
+    ON_CLOSE,
+    ROWS,
+    CHARACTERS
+}
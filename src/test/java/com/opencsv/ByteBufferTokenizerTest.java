@@ -0,0 +1,235 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Verifies that the byte-level tokenizer delivers the same records as the
+ * streaming tokenizer.
+ */
+public class ByteBufferTokenizerTest {
+
+    private static final String[] INPUTS = {
+            "a,b,c\n",
+            "a,\"b,b,b\",c\n",
+            ",,\n",
+            "a,\"PO Box 123,\nKippax,ACT. 2615.\nAustralia\",d.\n",
+            "\"Glen \"\"The Man\"\" Smith\",Athlete,Developer\n",
+            "\"\"\"\"\"\",\"test\"\n",
+            "a,b\r\nc,d\r\n",
+            "a,b\rc,d\r",
+            "\"multi\r\nline\",z\r\nnext,line",
+            "\n\nx\n\n",
+            "a,bc\"d\"ef,g\n",
+            "abcdef\"gh\"ij,k\n",
+            "a,\"b\\\"c\",d\n",
+            "a\\b,\"c\\\\d\",e\n",
+            "x,   \"y\",z\n",
+            "x,\"\",,\"\"\n",
+            "Müller,\"Straße 1\nKöln\",€\n",
+            "日本語,\"東京\",\"😀\n😀\"\n",
+            "éé\"x\"y,z\n",
+            "é\"x\"y\né,\"x\"y\n",
+            "😀\"x\"y,😀a\"x\"y\n",
+            "\"unterminated\n日本"
+    };
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    /**
+     * Parsers keep state between lines, so every reader needs a fresh one.
+     *
+     * @return Builders for all parser configurations to be tested
+     */
+    private static List<Supplier<ICSVParser>> parsers() {
+        List<Supplier<ICSVParser>> parsers = new ArrayList<>();
+        parsers.add(() -> new CSVParserBuilder().build());
+        parsers.add(() -> new CSVParserBuilder().withStrictQuotes(true).build());
+        parsers.add(() -> new CSVParserBuilder().withIgnoreLeadingWhiteSpace(false).build());
+        parsers.add(() -> new CSVParserBuilder().withIgnoreQuotations(true).build());
+        parsers.add(() -> new CSVParserBuilder().withSeparator(';').withQuoteChar('\'').build());
+        parsers.add(() -> new CSVParserBuilder().withFieldAsNull(CSVReaderNullFieldIndicator.BOTH).build());
+        parsers.add(() -> new RFC4180ParserBuilder().build());
+        return parsers;
+    }
+
+    private static List<String> readAll(CSVReader reader) throws IOException {
+        List<String> result = new ArrayList<>();
+        try {
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                result.add(Arrays.toString(record));
+            }
+        } catch (CsvMalformedLineException e) {
+            result.add(e.getMessage() + " at line " + e.getLineNumber());
+        }
+        result.add("lines=" + reader.getLinesRead() + " records=" + reader.getRecordsRead());
+        return result;
+    }
+
+    private static List<String> tokenizeAll(InputStream in, Charset charset) throws IOException {
+        ByteBufferTokenizer tokenizer = new ByteBufferTokenizer(in, charset, new CSVParser(), false, 0, 0);
+        CsvRecord record = new CsvRecord();
+        List<String> result = new ArrayList<>();
+        while (tokenizer.readRecord(record)) {
+            result.add(Arrays.toString(record.toArray()));
+        }
+        return result;
+    }
+
+    private static List<String> tokenizeAll(Reader in) throws IOException {
+        CharBufferTokenizer tokenizer = new CharBufferTokenizer(in, new CSVParser(), false, 0,
+                CharBufferTokenizer.DEFAULT_BUFFER_SIZE);
+        CsvRecord record = new CsvRecord();
+        List<String> result = new ArrayList<>();
+        while (tokenizer.readRecord(record)) {
+            result.add(Arrays.toString(record.toArray()));
+        }
+        return result;
+    }
+
+    /**
+     * A stream that hands out only a few bytes per read, so every position
+     * in the input ends up at the end of the window at some point.
+     */
+    private static InputStream trickle(byte[] bytes, int bytesPerRead) {
+        return new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, bytesPerRead));
+            }
+        };
+    }
+
+    @Test
+    public void byteLevelMatchesStreaming() throws IOException {
+        for (boolean keepCR : new boolean[]{false, true}) {
+            for (Supplier<ICSVParser> parser : parsers()) {
+                for (String input : INPUTS) {
+                    List<String> expected = readAll(new CSVReaderBuilder(new StringReader(input))
+                            .withCSVParser(parser.get())
+                            .withKeepCarriageReturn(keepCR)
+                            .withStreamingTokenizer(true)
+                            .build());
+                    List<String> actual = readAll(CSVReaderBuilder
+                            .fromInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), null)
+                            .withCSVParser(parser.get())
+                            .withKeepCarriageReturn(keepCR)
+                            .withByteLevelTokenizer(true)
+                            .build());
+                    assertEquals("Input: " + input, expected, actual);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void resultsDoNotDependOnWindowBoundaries() throws IOException {
+        String input = String.join("", INPUTS) + String.join("", INPUTS);
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        List<String> expected = tokenizeAll(new StringReader(input));
+        for (int bytesPerRead = 1; bytesPerRead < 5; bytesPerRead++) {
+            assertEquals("Bytes per read: " + bytesPerRead,
+                    expected, tokenizeAll(trickle(bytes, bytesPerRead), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void malformedInputIsReplacedLikeInputStreamReader() throws IOException {
+        byte[][] inputs = {
+                {'a', (byte) 0xC3, ',', 'b', '\n'},
+                {(byte) 0xE2, (byte) 0x82, ',', (byte) 0xFF, (byte) 0x80, '\n'},
+                {(byte) 0xED, (byte) 0xA0, (byte) 0x80, ',', (byte) 0xC0, (byte) 0xAF, '\n'},
+                {'x', (byte) 0xF0, (byte) 0x9F, (byte) 0x98},
+                {(byte) 0xF4, (byte) 0x90, (byte) 0x80, (byte) 0x80, ',', (byte) 0xE0, (byte) 0x80, (byte) 0x80}
+        };
+        for (byte[] input : inputs) {
+            List<String> expected = tokenizeAll(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.UTF_8));
+            assertEquals(Arrays.toString(input), expected,
+                    tokenizeAll(new ByteArrayInputStream(input), StandardCharsets.UTF_8));
+            assertEquals(Arrays.toString(input), expected,
+                    tokenizeAll(trickle(input, 1), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void asciiReplacesEveryNonAsciiByte() throws IOException {
+        byte[] input = "a,Müller\n".getBytes(StandardCharsets.UTF_8);
+        assertEquals(
+                tokenizeAll(new InputStreamReader(new ByteArrayInputStream(input), StandardCharsets.US_ASCII)),
+                tokenizeAll(new ByteArrayInputStream(input), StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    public void supportedParsersAndCharsets() {
+        assertTrue(ByteBufferTokenizer.supports(new CSVParser(), StandardCharsets.UTF_8));
+        assertFalse(ByteBufferTokenizer.supports(new RFC4180Parser(), StandardCharsets.US_ASCII));
+        assertFalse(ByteBufferTokenizer.supports(new CSVParser(), StandardCharsets.ISO_8859_1));
+        assertFalse(ByteBufferTokenizer.supports(new CSVParserBuilder().withSeparator('§').build(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void unsupportedSettingsFallBackToStreaming() throws IOException {
+        String input = "a;b\n\"c;d\";é\n";
+        CSVReader reader = CSVReaderBuilder
+                .fromInputStream(new ByteArrayInputStream(input.getBytes(StandardCharsets.ISO_8859_1)), StandardCharsets.ISO_8859_1)
+                .withCSVParser(new CSVParserBuilder().withSeparator(';').build())
+                .withByteLevelTokenizer(true)
+                .build();
+        assertArrayEquals(new String[]{"a", "b"}, reader.readNext());
+        assertArrayEquals(new String[]{"c;d", "é"}, reader.readNext());
+        assertNull(reader.readNext());
+    }
+
+    @Test
+    public void fromPathWithProjection() throws IOException {
+        String content = "id,name,price\n1,Müller,1.5\n2,\"日本\n語\",2.25\n";
+        Path file = Files.createTempFile("opencsv", ".csv");
+        try {
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+            try (CSVReader reader = CSVReaderBuilder.fromPath(file, StandardCharsets.UTF_8)
+                    .withByteLevelTokenizer(true)
+                    .withProjectionByName("price", "name")
+                    .build()) {
+                assertArrayEquals(new String[]{"price", "name"}, reader.readNext());
+                assertArrayEquals(new String[]{"1.5", "Müller"}, reader.readNext());
+                assertArrayEquals(new String[]{"2.25", "日本\n語"}, reader.readNext());
+                assertNull(reader.readNext());
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
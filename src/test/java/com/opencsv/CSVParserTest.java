@@ -920,4 +920,27 @@ public class CSVParserTest {
 
         }
     }
+
+    @Test
+    public void runsOfOrdinaryCharactersStopAtSpecialCharacters() throws IOException {
+        String[] nextLine = csvParser.parseLine("12345,\"67,89\\\"01\"\"23\",456\\\\789,x\"y\"z,");
+        assertEquals(5, nextLine.length);
+        assertEquals("12345", nextLine[0]);
+        assertEquals("67,89\"01\"23", nextLine[1]);
+        assertEquals("456\\789", nextLine[2]);
+        assertEquals("x\"y\"z", nextLine[3]);
+        assertEquals("", nextLine[4]);
+
+        CSVParser strict = new CSVParserBuilder().withStrictQuotes(true).build();
+        nextLine = strict.parseLine("skipped\"kept, too\"skipped,\"kept\"");
+        assertArrayEquals(new String[]{"kept, too", "kept"}, nextLine);
+    }
+
+    @Test
+    public void runsContinueAcrossLinesOfMultiLineRecords() throws IOException {
+        assertArrayEquals(new String[]{"123"}, csvParser.parseLineMulti("123,\"456"));
+        assertTrue(csvParser.isPending());
+        assertArrayEquals(new String[]{"456\n789", "0"}, csvParser.parseLineMulti("789\",0"));
+        assertFalse(csvParser.isPending());
+    }
 }
@@ -1,9 +1,17 @@
 package com.opencsv;
 
 import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.*;
 
+import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import static org.junit.Assert.*;
@@ -142,4 +150,71 @@ public class CSVReaderBuilderTest {
         final CSVReader r = builder.withErrorLocale(Locale.KOREAN).build();
         assertEquals(Locale.KOREAN, r.errorLocale);
     }
+
+    @Test
+    public void fromPathReadsLikeAReader() throws IOException {
+        String content = "a,\"Müller, \"\"日本\"\"\"\n1,\"multi\r\nline\"\r\n2,😀";
+        Path file = Files.createTempFile("opencsv", ".csv");
+        try {
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+            List<String[]> expected = new CSVReader(new StringReader(content)).readAll();
+
+            CSVReaderBuilder pathBuilder = CSVReaderBuilder.fromPath(file, null);
+            assertTrue(pathBuilder.isStreamingTokenizer());
+            try (CSVReader r = pathBuilder.build()) {
+                List<String[]> actual = r.readAll();
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertArrayEquals(expected.get(i), actual.get(i));
+                }
+            }
+            try (CSVReader r = CSVReaderBuilder.fromPath(file, StandardCharsets.UTF_8)
+                    .withStreamingTokenizer(false).build()) {
+                List<String[]> actual = r.readAll();
+                assertEquals(expected.size(), actual.size());
+                for (int i = 0; i < expected.size(); i++) {
+                    assertArrayEquals(expected.get(i), actual.get(i));
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void fromPathReplacesTruncatedCharacterAtTheEnd() throws IOException {
+        byte[] bytes = new byte[32769];
+        Arrays.fill(bytes, (byte) 'a');
+        bytes[bytes.length - 1] = (byte) 0xE2;
+        String expected = StringUtils.repeat('a', bytes.length - 1) + '\uFFFD';
+        Path file = Files.createTempFile("opencsv", ".csv");
+        try {
+            Files.write(file, bytes);
+            for (int size : new int[]{2, 8192, 32768, 32769, 65536}) {
+                StringBuilder actual = new StringBuilder();
+                try (MappedFileReader r = MappedFileReader.open(file, StandardCharsets.UTF_8)) {
+                    char[] buf = new char[size];
+                    int n;
+                    while ((n = r.read(buf, 0, size)) != -1) {
+                        actual.append(buf, 0, n);
+                    }
+                }
+                assertEquals("Buffer size " + size, expected, actual.toString());
+            }
+            for (boolean streaming : new boolean[]{false, true}) {
+                try (CSVReader r = CSVReaderBuilder.fromPath(file, StandardCharsets.UTF_8)
+                        .withStreamingTokenizer(streaming).build()) {
+                    assertArrayEquals(new String[]{expected}, r.readNext());
+                    assertNull(r.readNext());
+                }
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void fromPathNull() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CSVReaderBuilder.fromPath(null, null));
+    }
 }
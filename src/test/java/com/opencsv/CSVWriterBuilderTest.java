@@ -1,5 +1,6 @@
 package com.opencsv;
 
+import com.opencsv.enums.CSVWriterFlushPolicy;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -149,4 +150,29 @@ public class CSVWriterBuilderTest {
         assertSame(mockParser, FieldUtils.readField(csvWriter, "parser", true));
         assertEquals("Stop", FieldUtils.readField(csvWriter, "lineEnd", true));
     }
+
+    @Test
+    public void withOutputBufferSizeTurnsOnBufferedOutput() throws IllegalAccessException {
+        assertNull(FieldUtils.readField(builder.build(), "outputBuffer", true));
+        ICSVWriter csvWriter = builder.withOutputBufferSize(100).build();
+        CharOutputBuffer buffer = (CharOutputBuffer) FieldUtils.readField(csvWriter, "outputBuffer", true);
+        assertEquals(100, ((char[]) FieldUtils.readField(buffer, "buf", true)).length);
+        assertNull(FieldUtils.readField(builder.withBufferedOutput(false).build(), "outputBuffer", true));
+    }
+
+    @Test
+    public void withFlushPolicy() throws IllegalAccessException {
+        ICSVWriter csvWriter = builder.withFlushPolicy(CSVWriterFlushPolicy.ROWS, 10).build();
+        assertNotNull(FieldUtils.readField(csvWriter, "outputBuffer", true));
+        assertEquals(CSVWriterFlushPolicy.ROWS, FieldUtils.readField(csvWriter, "flushPolicy", true));
+        assertEquals(10, FieldUtils.readField(csvWriter, "flushThreshold", true));
+        csvWriter = builder.withFlushPolicy(null, 0).build();
+        assertEquals(CSVWriterFlushPolicy.ON_CLOSE, FieldUtils.readField(csvWriter, "flushPolicy", true));
+    }
+
+    @Test
+    public void invalidBufferSizeAndThreshold() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.withOutputBufferSize(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.withFlushPolicy(CSVWriterFlushPolicy.CHARACTERS, 0));
+    }
 }
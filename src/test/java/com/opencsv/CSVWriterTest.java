@@ -15,6 +15,7 @@ package com.opencsv;
  limitations under the License.
  */
 
+import com.opencsv.enums.CSVWriterFlushPolicy;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.invocation.InvocationOnMock;
@@ -740,4 +741,118 @@ public class CSVWriterTest {
 
       assertTrue(csvWriter.checkError());
    }
+
+   @Test
+   public void bufferedOutputMatchesUnbufferedOutput() throws IOException {
+      List<String[]> lines = Arrays.asList(
+              new String[]{"a", "b", "c"},
+              new String[]{"a,b", "\"quoted\"", "back\\slash", null, ""},
+              new String[]{"multi\nline", "carriage\rreturn", "tab\there"},
+              null,
+              new String[]{String.join("", Collections.nCopies(70000, "x")), "tail"},
+              new String[0]);
+      for (char escapechar : new char[]{ICSVWriter.DEFAULT_ESCAPE_CHARACTER, ICSVWriter.NO_ESCAPE_CHARACTER}) {
+         for (char quotechar : new char[]{ICSVWriter.DEFAULT_QUOTE_CHARACTER, ICSVWriter.NO_QUOTE_CHARACTER}) {
+            for (boolean applyQuotesToAll : new boolean[]{false, true}) {
+               StringWriter unbuffered = new StringWriter();
+               ICSVWriter expected = new CSVWriterBuilder(unbuffered)
+                       .withQuoteChar(quotechar).withEscapeChar(escapechar).build();
+               StringWriter buffered = new StringWriter();
+               ICSVWriter actual = new CSVWriterBuilder(buffered)
+                       .withQuoteChar(quotechar).withEscapeChar(escapechar)
+                       .withBufferedOutput(true).build();
+               for (String[] line : lines) {
+                  expected.writeNext(line, applyQuotesToAll);
+                  actual.writeNext(line, applyQuotesToAll);
+               }
+               expected.writeAll(lines, applyQuotesToAll);
+               actual.writeAll(lines, applyQuotesToAll);
+               expected.close();
+               actual.close();
+               assertEquals(unbuffered.toString(), buffered.toString());
+            }
+         }
+      }
+   }
+
+   @Test
+   public void bufferedOutputReachesTheWriterOnFlush() throws IOException {
+      StringWriter sw = new StringWriter();
+      ICSVWriter csvw = new CSVWriterBuilder(sw).withBufferedOutput(true).build();
+      csvw.writeNext(new String[]{"a", "b"});
+      assertEquals(0, sw.toString().length());
+      csvw.flush();
+      assertEquals("\"a\",\"b\"\n", sw.toString());
+      csvw.writeNext(new String[]{"c"});
+      assertFalse(csvw.checkError());
+      assertEquals("\"a\",\"b\"\n\"c\"\n", sw.toString());
+   }
+
+   @Test
+   public void bufferedOutputRecordsIOException() throws IOException {
+      Writer writer = mock(Writer.class);
+      doThrow(IOException.class).when(writer).write(any(char[].class), anyInt(), anyInt());
+      ICSVWriter csvWriter = new CSVWriterBuilder(writer).withBufferedOutput(true).build();
+      csvWriter.writeNext(SIMPLE_STRING_ARRAY);
+      assertTrue(csvWriter.checkError());
+   }
+
+   @Test
+   public void recordsAndCharactersAreCounted() throws IOException {
+      List<String[]> lines = Arrays.asList(new String[]{"a", "b,c"}, null, new String[]{"d"});
+      for (boolean buffered : new boolean[]{false, true}) {
+         StringWriter sw = new StringWriter();
+         CSVWriter csvw = (CSVWriter) new CSVWriterBuilder(sw).withBufferedOutput(buffered).build();
+         csvw.writeNext(lines.get(0), false);
+         csvw.writeAll(lines, false);
+         csvw.close();
+         assertEquals(3, csvw.getRecordsWritten());
+         assertEquals(sw.toString().length(), csvw.getCharactersWritten());
+      }
+   }
+
+   /** Remembers what had been written every time it was flushed. */
+   private static class FlushRecordingWriter extends StringWriter {
+      private final List<String> flushed = new ArrayList<>();
+
+      @Override
+      public void flush() {
+         flushed.add(toString());
+      }
+   }
+
+   @Test
+   public void flushPolicyRows() throws IOException {
+      FlushRecordingWriter sw = new FlushRecordingWriter();
+      ICSVWriter csvw = new CSVWriterBuilder(sw).withFlushPolicy(CSVWriterFlushPolicy.ROWS, 2).build();
+      csvw.writeAll(Arrays.asList(new String[]{"a"}, new String[]{"b"}, new String[]{"c"}), false);
+      assertEquals(Collections.singletonList("a\nb\n"), sw.flushed);
+      csvw.close();
+      assertEquals(Arrays.asList("a\nb\n", "a\nb\nc\n"), sw.flushed);
+   }
+
+   @Test
+   public void flushPolicyCharacters() throws IOException {
+      FlushRecordingWriter sw = new FlushRecordingWriter();
+      ICSVWriter csvw = new CSVWriterBuilder(sw).withFlushPolicy(CSVWriterFlushPolicy.CHARACTERS, 5).build();
+      csvw.writeNext(new String[]{"ab"}, false);
+      assertTrue(sw.flushed.isEmpty());
+      csvw.writeNext(new String[]{"cd"}, false);
+      csvw.writeNext(new String[]{"ef"}, false);
+      assertEquals(Collections.singletonList("ab\ncd\n"), sw.flushed);
+   }
+
+   @Test
+   public void flushPolicyOnCloseStillDrainsFullBuffer() throws IOException {
+      FlushRecordingWriter sw = new FlushRecordingWriter();
+      ICSVWriter csvw = new CSVWriterBuilder(sw)
+              .withOutputBufferSize(4)
+              .withFlushPolicy(CSVWriterFlushPolicy.ON_CLOSE, 0)
+              .build();
+      csvw.writeNext(new String[]{"abc", "de"}, false);
+      assertEquals("abc,", sw.toString());
+      assertTrue(sw.flushed.isEmpty());
+      csvw.close();
+      assertEquals(Collections.singletonList("abc,de\n"), sw.flushed);
+   }
 }
@@ -0,0 +1,267 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import com.opencsv.exceptions.CsvMultilineLimitBrokenException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * Verifies that the streaming tokenizer delivers the same records as the
+ * line-based reader.
+ */
+public class CharBufferTokenizerTest {
+
+    private static final String[] INPUTS = {
+            "a,b,c\n",
+            "a,\"b,b,b\",c\n",
+            ",,\n",
+            "a,\"PO Box 123,\nKippax,ACT. 2615.\nAustralia\",d.\n",
+            "\"Glen \"\"The Man\"\" Smith\",Athlete,Developer\n",
+            "\"\"\"\"\"\",\"test\"\n",
+            "\"a\nb\",b,\"\nd\",e\n",
+            "a,b\r\nc,d\r\n",
+            "a,b\rc,d\r",
+            "\"multi\r\nline\",z\r\nnext,line",
+            "\n\nx\n\n",
+            "a,bc\"d\"ef,g\n",
+            "\"ab\"cd,e\n",
+            "abcdef\"gh\"ij,k\n",
+            "a,\"b\\\"c\",d\n",
+            "a\\b,\"c\\\\d\",e\n",
+            "x,   \"y\",z\n",
+            "no newline at the end",
+            "x,\"\",,\"\"\n",
+            "a,,\"\",b",
+            "\"a\"\"\",\"\"\"b\"\n",
+            "one\ntwo\nthree\n",
+            "a\"b,c\"d,e\n",
+            "x,\"abc\"def,g\n"
+    };
+
+    private static final String[] UNTERMINATED = {
+            "a,\"b\n",
+            "a,b\n\"c,d",
+            "\"a\nb\nc"
+    };
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    /**
+     * Parsers keep state between lines, so every reader needs a fresh one.
+     *
+     * @return Builders for all parser configurations to be tested
+     */
+    private static List<Supplier<ICSVParser>> parsers() {
+        List<Supplier<ICSVParser>> parsers = new ArrayList<>();
+        parsers.add(() -> new CSVParserBuilder().build());
+        parsers.add(() -> new CSVParserBuilder().withStrictQuotes(true).build());
+        parsers.add(() -> new CSVParserBuilder().withIgnoreLeadingWhiteSpace(false).build());
+        parsers.add(() -> new CSVParserBuilder().withIgnoreQuotations(true).build());
+        parsers.add(() -> new CSVParserBuilder().withEscapeChar(ICSVParser.NULL_CHARACTER).build());
+        parsers.add(() -> new CSVParserBuilder().withSeparator(';').withQuoteChar('\'').build());
+        for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+            parsers.add(() -> new CSVParserBuilder().withFieldAsNull(indicator).build());
+            parsers.add(() -> new RFC4180ParserBuilder().withFieldAsNull(indicator).build());
+        }
+        return parsers;
+    }
+
+    private static CSVReader reader(Reader input, ICSVParser parser, boolean keepCR, boolean streaming) {
+        return new CSVReaderBuilder(input)
+                .withCSVParser(parser)
+                .withKeepCarriageReturn(keepCR)
+                .withStreamingTokenizer(streaming)
+                .build();
+    }
+
+    private static List<String> readAll(CSVReader reader) throws IOException {
+        List<String> result = new ArrayList<>();
+        String[] record;
+        while ((record = reader.readNext()) != null) {
+            result.add(Arrays.toString(record));
+        }
+        result.add("lines=" + reader.getLinesRead() + " records=" + reader.getRecordsRead());
+        return result;
+    }
+
+    private static List<String> readAllCapturingErrors(CSVReader reader) throws IOException {
+        List<String> result = new ArrayList<>();
+        try {
+            String[] record;
+            while ((record = reader.readNext()) != null) {
+                result.add(Arrays.toString(record));
+            }
+        } catch (CsvMalformedLineException e) {
+            result.add(e.getMessage() + " at line " + e.getLineNumber());
+        }
+        result.add("lines=" + reader.getLinesRead() + " records=" + reader.getRecordsRead());
+        return result;
+    }
+
+    private static List<String> tokenizeAll(String input, ICSVParser parser, int bufferSize) throws IOException {
+        CharBufferTokenizer tokenizer = new CharBufferTokenizer(
+                new StringReader(input), parser, false, 0, bufferSize);
+        CsvRecord record = new CsvRecord();
+        List<String> result = new ArrayList<>();
+        while (tokenizer.readRecord(record)) {
+            result.add(Arrays.toString(record.toArray()));
+        }
+        return result;
+    }
+
+    @Test
+    public void streamingModeMatchesLineMode() throws IOException {
+        for (Supplier<ICSVParser> parser : parsers()) {
+            for (String input : INPUTS) {
+                List<String> expected = readAllCapturingErrors(reader(new StringReader(input), parser.get(), false, false));
+                List<String> actual = readAllCapturingErrors(reader(new StringReader(input), parser.get(), false, true));
+                assertEquals("Input: " + input, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void streamingModeMatchesLineModeKeepingCarriageReturns() throws IOException {
+        for (Supplier<ICSVParser> parser : parsers()) {
+            for (String input : INPUTS) {
+                if (input.contains("\n\n")) {
+                    // The line reader stops at empty lines when keeping carriage returns.
+                    continue;
+                }
+                List<String> expected = readAllCapturingErrors(reader(new StringReader(input), parser.get(), true, false));
+                List<String> actual = readAllCapturingErrors(reader(new StringReader(input), parser.get(), true, true));
+                assertEquals("Input: " + input, expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void streamingModeMatchesRfc4180Parser() throws IOException {
+        String input = "a,b,c\n\"d,e\",\"f\"\"g\",\"h\ni\"\n,,\n\"\",x\n";
+        for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+            assertEquals(
+                    readAll(reader(new StringReader(input), new RFC4180ParserBuilder().withFieldAsNull(indicator).build(), false, false)),
+                    readAll(reader(new StringReader(input), new RFC4180ParserBuilder().withFieldAsNull(indicator).build(), false, true)));
+        }
+        assertFalse(StreamingTokenizer.supports(new RFC4180Parser()));
+        assertEquals(Arrays.asList("[a\"b, c\"d, e]", "lines=1 records=1"),
+                readAllCapturingErrors(reader(new StringReader("a\"b,c\"d,e\n"), new RFC4180Parser(), false, true)));
+    }
+
+    @Test
+    public void resultsDoNotDependOnBufferSize() throws IOException {
+        ICSVParser parser = new CSVParserBuilder().build();
+        for (String input : INPUTS) {
+            List<String> expected = tokenizeAll(input, parser, CharBufferTokenizer.DEFAULT_BUFFER_SIZE);
+            for (int bufferSize = 1; bufferSize < 8; bufferSize++) {
+                assertEquals("Input: " + input + ", buffer size: " + bufferSize,
+                        expected, tokenizeAll(input, parser, bufferSize));
+            }
+        }
+    }
+
+    @Test
+    public void unterminatedQuoteIsReportedLikeLineMode() throws IOException {
+        for (Supplier<ICSVParser> parser : parsers()) {
+            for (String input : UNTERMINATED) {
+                List<String> expected = readAllCapturingErrors(reader(new StringReader(input), parser.get(), false, false));
+                List<String> actual = readAllCapturingErrors(reader(new StringReader(input), parser.get(), false, true));
+                assertEquals("Input: " + input, expected, actual);
+            }
+        }
+        for (String input : UNTERMINATED) {
+            CsvMalformedLineException expected = null, actual = null;
+            try {
+                readAll(reader(new StringReader(input), new CSVParser(), false, false));
+            } catch (CsvMalformedLineException e) {
+                expected = e;
+            }
+            try {
+                readAll(reader(new StringReader(input), new CSVParser(), false, true));
+            } catch (CsvMalformedLineException e) {
+                actual = e;
+            }
+            assertNotNull(expected);
+            assertNotNull(actual);
+            assertEquals(expected.getMessage(), actual.getMessage());
+            assertEquals(expected.getLineNumber(), actual.getLineNumber());
+            assertEquals(expected.getContext(), actual.getContext());
+        }
+    }
+
+    @Test
+    public void multilineLimitIsEnforced() throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("a,\"b\nc\nd\ne\",f\n"))
+                .withMultilineLimit(3)
+                .withStreamingTokenizer(true)
+                .build();
+        try {
+            reader.readNext();
+            fail("Exception should have been thrown");
+        } catch (CsvMultilineLimitBrokenException e) {
+            assertEquals(3, e.getMultilineLimit());
+            assertEquals(1, e.getRow());
+            assertEquals("b\nc\nd\n", e.getContext());
+        }
+    }
+
+    @Test
+    public void skipLinesAndPeek() throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("skip me\r\nand \"me\nx,y\n\"1\n2\",3\n"))
+                .withSkipLines(2)
+                .withStreamingTokenizer(true)
+                .build();
+        assertArrayEquals(new String[]{"x", "y"}, reader.peek());
+        assertArrayEquals(new String[]{"x", "y"}, reader.readNext());
+        assertArrayEquals(new String[]{"1\n2", "3"}, reader.readNext());
+        assertNull(reader.readNext());
+        assertEquals(5, reader.getLinesRead());
+        assertEquals(2, reader.getRecordsRead());
+    }
+
+    @Test
+    public void closedReaderEndsInput() throws IOException {
+        StringReader input = new StringReader("a,b\n");
+        CSVReader reader = new CSVReaderBuilder(input).withStreamingTokenizer(true).build();
+        input.close();
+        assertNull(reader.readNext());
+    }
+
+    @Test
+    public void headerAwareReaderCanStream() throws IOException {
+        CSVReaderHeaderAware reader = (CSVReaderHeaderAware) new CSVReaderHeaderAwareBuilder(
+                new StringReader("first,second\n\"1\n1\",2\n"))
+                .withStreamingTokenizer(true)
+                .build();
+        assertArrayEquals(new String[]{"2", "1\n1"}, reader.readNext("second", "first"));
+    }
+}
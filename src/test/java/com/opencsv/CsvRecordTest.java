@@ -0,0 +1,165 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+public class CsvRecordTest {
+
+    private static CsvRecord recordOf(String... fields) {
+        CsvRecord record = new CsvRecord();
+        record.set(fields);
+        return record;
+    }
+
+    @Test
+    public void viewsAndOffsets() {
+        CsvRecord record = recordOf("abc", "", null, "de");
+        assertEquals(4, record.size());
+        assertEquals("abc", record.get(0).toString());
+        assertEquals('b', record.get(0).charAt(1));
+        assertEquals("bc", record.get(0).subSequence(1, 3).toString());
+        assertEquals(0, record.get(1).length());
+        assertNull(record.get(2));
+        assertTrue(record.isNull(2));
+        assertFalse(record.isNull(1));
+        assertEquals("de", new String(record.getBuffer(), record.getStart(3), record.getLength(3)));
+        assertEquals(0, record.getLength(2));
+        assertArrayEquals(new String[]{"abc", "", null, "de"}, record.toArray());
+    }
+
+    @Test
+    public void viewsFollowTheRecord() {
+        CsvRecord record = recordOf("first");
+        CharSequence view = record.get(0);
+        record.set(new String[]{"second"});
+        assertEquals("second", view.toString());
+        assertSame(view, record.get(0));
+    }
+
+    @Test
+    public void indexOutOfBounds() {
+        CsvRecord record = recordOf("a");
+        try {
+            record.get(1);
+            fail("Exception should have been thrown");
+        } catch (ArrayIndexOutOfBoundsException e) {
+            // Expected
+        }
+        try {
+            record.getInt(-1);
+            fail("Exception should have been thrown");
+        } catch (ArrayIndexOutOfBoundsException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void integersMatchTheJdk() {
+        String[] inputs = {"0", "-0", "+7", "123", "-2147483648", "2147483647", "2147483648",
+                "-9223372036854775808", "9223372036854775807", "9223372036854775808",
+                "", "-", "+", " 1", "1 ", "1.0", "0x10", "١٢", "007", null};
+        CsvRecord record = recordOf(inputs);
+        for (int i = 0; i < inputs.length; i++) {
+            Object expected, actual;
+            try {
+                expected = Integer.parseInt(inputs[i]);
+            } catch (NumberFormatException e) {
+                expected = e.getMessage();
+            }
+            try {
+                actual = record.getInt(i);
+            } catch (NumberFormatException e) {
+                actual = e.getMessage();
+            }
+            assertEquals("int: " + inputs[i], expected, actual);
+
+            try {
+                expected = Long.parseLong(inputs[i]);
+            } catch (NumberFormatException e) {
+                expected = e.getMessage();
+            }
+            try {
+                actual = record.getLong(i);
+            } catch (NumberFormatException e) {
+                actual = e.getMessage();
+            }
+            assertEquals("long: " + inputs[i], expected, actual);
+        }
+    }
+
+    @Test
+    public void doublesMatchTheJdk() {
+        String[] inputs = {"0", "-0", "-0.0", "1.5", "+2.25", "3.", ".5", "0.1", "0.3",
+                "123456.789", "9007199254740992", "9007199254740993", "1.7976931348623157", "0.0000000000000000000001",
+                "0.00000000000000000000001", "1e10", "-1.5E-3", " 2.5", "2.5 ", "1.5d", "NaN", "-Infinity",
+                "0x1p3", "", ".", "-", "1.2.3", "12345678901234567890.5"};
+        CsvRecord record = recordOf(inputs);
+        for (int i = 0; i < inputs.length; i++) {
+            Object expected, actual;
+            try {
+                expected = Double.doubleToRawLongBits(Double.parseDouble(inputs[i]));
+            } catch (NumberFormatException e) {
+                expected = e.getMessage();
+            }
+            try {
+                actual = Double.doubleToRawLongBits(record.getDouble(i));
+            } catch (NumberFormatException e) {
+                actual = e.getMessage();
+            }
+            assertEquals(inputs[i], expected, actual);
+        }
+    }
+
+    @Test
+    public void nullDoubleIsRejectedLikeTheJdk() {
+        try {
+            recordOf((String) null).getDouble(0);
+            fail("Exception should have been thrown");
+        } catch (NullPointerException e) {
+            // Expected, just like Double.parseDouble(null)
+        }
+    }
+
+    @Test
+    public void nextRecordMatchesReadNext() throws IOException {
+        String input = "1,\"two\",,3.5\n\"multi\nline\",\"\",x,\"a\"\"b\"\n";
+        for (boolean streaming : new boolean[]{false, true}) {
+            CSVReader expected = new CSVReaderBuilder(new StringReader(input))
+                    .withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+                    .build();
+            CSVReader actual = new CSVReaderBuilder(new StringReader(input))
+                    .withFieldAsNull(CSVReaderNullFieldIndicator.EMPTY_SEPARATORS)
+                    .withStreamingTokenizer(streaming)
+                    .build();
+            CsvRecord record = new CsvRecord();
+            String[] line;
+            while ((line = expected.readNext()) != null) {
+                assertSame(record, actual.nextRecord(record));
+                assertArrayEquals(line, record.toArray());
+            }
+            assertNull(actual.nextRecord(record));
+            assertEquals(expected.getLinesRead(), actual.getLinesRead());
+            assertEquals(expected.getRecordsRead(), actual.getRecordsRead());
+        }
+    }
+
+    @Test
+    public void nextRecordMixesWithPeekAndReadNext() throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("1,2\n3,4\n5,6\n"))
+                .withStreamingTokenizer(true)
+                .build();
+        assertArrayEquals(new String[]{"1", "2"}, reader.peek());
+        CsvRecord record = reader.nextRecord(null);
+        assertEquals(1, record.getInt(0));
+        assertArrayEquals(new String[]{"3", "4"}, reader.readNext());
+        assertSame(record, reader.nextRecord(record));
+        assertEquals(6L, record.getLong(1));
+        assertNull(reader.nextRecord(record));
+        assertEquals(3, reader.getRecordsRead());
+    }
+}
@@ -0,0 +1,251 @@
+package com.opencsv;
+
+import com.opencsv.exceptions.CsvMalformedLineException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class ParallelCsvFileReaderTest {
+
+    private static final String INPUT = "id,name,comment\n"
+            + "1,\"Smith, John\",\"multi\nline\ncomment\"\n"
+            + "2,Müller,\"quoted \"\"quote\"\" and \\\"escaped\\\" quote\"\n"
+            + "3,日本語,\"a\r\nb\"\r\n"
+            + "4,\"\",\n"
+            + "5,\"\"\"\",\"\\\\\"\n"
+            + "6,plain,\"ends with newline\n\"\n"
+            + "7,last,no newline";
+
+    private static Locale systemLocale;
+    private Path file;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Locale.setDefault(Locale.US);
+        file = Files.createTempFile("opencsv", ".csv");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Locale.setDefault(systemLocale);
+        Files.deleteIfExists(file);
+    }
+
+    private void write(String content, Charset charset) throws IOException {
+        Files.write(file, content.getBytes(charset));
+    }
+
+    private static List<String> expected(String content, ICSVParser parser, int skipLines) throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader(content))
+                .withCSVParser(parser)
+                .withSkipLines(skipLines)
+                .withStreamingTokenizer(true)
+                .build();
+        List<String> result = new ArrayList<>();
+        String[] record;
+        while ((record = reader.readNext()) != null) {
+            result.add(Arrays.toString(record));
+        }
+        return result;
+    }
+
+    private static List<String> readAll(ParallelCsvFileReader reader) throws IOException {
+        List<String> result = new ArrayList<>();
+        try (ParallelCsvFileReader r = reader) {
+            for (String[] record : r) {
+                result.add(Arrays.toString(record));
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public void allChunkSizesGiveTheSameRecords() throws IOException {
+        for (Charset charset : new Charset[]{StandardCharsets.UTF_8, StandardCharsets.ISO_8859_1}) {
+            // ISO-8859-1 cannot encode everything, so compare with what it can.
+            String content = new String(INPUT.getBytes(charset), charset);
+            write(content, charset);
+            List<String> expected = expected(content, new CSVParser(), 1);
+            for (int chunkSize = 1; chunkSize <= content.length() + 1; chunkSize++) {
+                ParallelCsvFileReader reader = new ParallelCsvFileReaderBuilder(file)
+                        .withCharset(charset)
+                        .withSkipLines(1)
+                        .withChunkSize(chunkSize)
+                        .withParallelism(3)
+                        .build();
+                assertEquals("Chunk size " + chunkSize, expected, readAll(reader));
+                assertEquals(expected.size(), reader.getRecordsRead());
+            }
+        }
+    }
+
+    @Test
+    public void skippedLinesLongerThanOneChunk() throws IOException {
+        String content = "# generated by \"export\n# columns: id,name\n1,\"a\nb\"\n2,c\n3,\"d,e\"\n";
+        write(content, StandardCharsets.UTF_8);
+        List<String> expected = expected(content, new CSVParser(), 2);
+        assertEquals(Arrays.asList("[1, a\nb]", "[2, c]", "[3, d,e]"), expected);
+        for (int chunkSize = 1; chunkSize <= content.length() + 1; chunkSize++) {
+            assertEquals("Chunk size " + chunkSize, expected, readAll(new ParallelCsvFileReaderBuilder(file)
+                    .withSkipLines(2)
+                    .withChunkSize(chunkSize)
+                    .build()));
+        }
+    }
+
+    @Test
+    public void moreSkippedLinesThanTheFileHas() throws IOException {
+        write("a\r\nb", StandardCharsets.UTF_8);
+        for (int chunkSize = 1; chunkSize < 4; chunkSize++) {
+            assertTrue(readAll(new ParallelCsvFileReaderBuilder(file)
+                    .withSkipLines(3)
+                    .withChunkSize(chunkSize)
+                    .build()).isEmpty());
+        }
+    }
+
+    @Test
+    public void unorderedResultsHoldTheSameRecords() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append(i).append(",\"value\n").append(i).append("\",x\n");
+        }
+        write(sb.toString(), StandardCharsets.UTF_8);
+        List<String> expected = expected(sb.toString(), new CSVParser(), 0);
+        List<String> actual = readAll(new ParallelCsvFileReaderBuilder(file)
+                .withChunkSize(1000)
+                .withOrderedResults(false)
+                .build());
+        Collections.sort(expected);
+        Collections.sort(actual);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void rfc4180ParserIsNotSupported() throws IOException {
+        write("a,b\n", StandardCharsets.UTF_8);
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ParallelCsvFileReaderBuilder(file).withCSVParser(new RFC4180ParserBuilder().build()).build());
+        assertTrue(e.getMessage().contains(RFC4180Parser.class.getName()));
+    }
+
+    @Test
+    public void emptyFile() throws IOException {
+        write("", StandardCharsets.UTF_8);
+        ParallelCsvFileReader reader = new ParallelCsvFileReaderBuilder(file).build();
+        assertNull(reader.readNext());
+        reader.close();
+    }
+
+    @Test
+    public void unterminatedQuoteAtTheEnd() throws IOException {
+        write("a,b\nc,d\n\"e\nf", StandardCharsets.UTF_8);
+        try (ParallelCsvFileReader reader = new ParallelCsvFileReaderBuilder(file).withChunkSize(4).build()) {
+            assertArrayEquals(new String[]{"a", "b"}, reader.readNext());
+            assertArrayEquals(new String[]{"c", "d"}, reader.readNext());
+            reader.readNext();
+            fail("Exception should have been thrown");
+        } catch (CsvMalformedLineException e) {
+            assertEquals(3, e.getLineNumber());
+            assertEquals("e\nf\n", e.getContext());
+        }
+    }
+
+    @Test
+    public void unsupportedParser() throws IOException {
+        write("a\n", StandardCharsets.UTF_8);
+        ICSVParser parser = new CSVParser() {
+        };
+        try {
+            new ParallelCsvFileReaderBuilder(file).withCSVParser(new ICSVParser() {
+                @Override public char getSeparator() { return ','; }
+                @Override public char getQuotechar() { return '"'; }
+                @Override public boolean isPending() { return false; }
+                @Override public String[] parseLineMulti(String nextLine) { return null; }
+                @Override public String[] parseLine(String nextLine) { return null; }
+                @Override public String parseToLine(String[] values, boolean applyQuotesToAll) { return null; }
+                @Override public com.opencsv.enums.CSVReaderNullFieldIndicator nullFieldIndicator() { return null; }
+                @Override public String getPendingText() { return null; }
+                @Override public void setErrorLocale(Locale errorLocale) { }
+            }).build();
+            fail("Exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("Only CSVParser can be used"));
+        }
+        // Subclasses of supported parsers are fine.
+        new ParallelCsvFileReaderBuilder(file).withCSVParser(parser).build().close();
+    }
+
+    @Test
+    public void unsupportedCharset() throws IOException {
+        write("a\n", StandardCharsets.UTF_16);
+        try {
+            new ParallelCsvFileReaderBuilder(file).withCharset(StandardCharsets.UTF_16).build();
+            fail("Exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("The character set UTF-16"));
+        }
+    }
+
+    @Test
+    public void mappedFileReaderDecodesAcrossWindows() throws IOException {
+        String content = "ä€😀x" + String.join("", Collections.nCopies(20, "日本😀é"));
+        write(content, StandardCharsets.UTF_8);
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (int windowSize = 16; windowSize < 40; windowSize++) {
+                for (int bufferSize = 1; bufferSize < 5; bufferSize++) {
+                    Reader reader = new MappedFileReader(channel, 0, size, StandardCharsets.UTF_8, windowSize);
+                    StringBuilder sb = new StringBuilder();
+                    char[] buffer = new char[bufferSize];
+                    int n;
+                    while ((n = reader.read(buffer, 0, buffer.length)) != -1) {
+                        sb.append(buffer, 0, n);
+                    }
+                    assertEquals("Window size " + windowSize, content, sb.toString());
+                }
+            }
+        }
+
+    }
+
+    @Test
+    public void mappedFileReaderDecodesLargeFiles() throws IOException {
+        String content = String.join("", Collections.nCopies(30000, "日😀é,"));
+        write(content, StandardCharsets.UTF_8);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Reader reader = new MappedFileReader(channel, 0, Files.size(file), StandardCharsets.UTF_8, 100003);
+            StringBuilder sb = new StringBuilder();
+            char[] buffer = new char[8191];
+            int n;
+            while ((n = reader.read(buffer, 0, buffer.length)) != -1) {
+                sb.append(buffer, 0, n);
+            }
+            assertEquals(content, sb.toString());
+        }
+    }
+}
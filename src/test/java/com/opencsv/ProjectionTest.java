@@ -0,0 +1,232 @@
+package com.opencsv;
+
+import com.opencsv.enums.CSVReaderNullFieldIndicator;
+import com.opencsv.exceptions.CsvMalformedLineException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class ProjectionTest {
+
+    private static final String INPUT = "id,name,city,zip\n"
+            + "1,\"Smith, John\",\"New\nYork\",10001\n"
+            + "2,,\"\",\n"
+            + "3,\"short\"\n"
+            + "4,\"a \"\"quoted\"\" name\",Boston,02101\n";
+
+    private static Locale systemLocale;
+
+    @BeforeAll
+    public static void storeSystemLocale() {
+        systemLocale = Locale.getDefault();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static List<String> readAll(CSVReader reader) throws IOException {
+        List<String> result = new ArrayList<>();
+        String[] record;
+        while ((record = reader.readNext()) != null) {
+            result.add(Arrays.toString(record));
+        }
+        result.add("lines=" + reader.getLinesRead() + " records=" + reader.getRecordsRead());
+        return result;
+    }
+
+    /**
+     * Reads the input without a projection and projects the results by hand.
+     */
+    private static List<String> expected(CSVReaderNullFieldIndicator indicator, int... columns) throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader(INPUT)).withFieldAsNull(indicator).build();
+        List<String> result = new ArrayList<>();
+        String[] record;
+        while ((record = reader.readNext()) != null) {
+            String[] projected = new String[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                projected[i] = columns[i] < record.length ? record[columns[i]] : null;
+            }
+            result.add(Arrays.toString(projected));
+        }
+        result.add("lines=" + reader.getLinesRead() + " records=" + reader.getRecordsRead());
+        return result;
+    }
+
+    @Test
+    public void parserProjection() throws IOException {
+        CSVParser parser = new CSVParserBuilder().withProjection(2, 0).build();
+        assertArrayEquals(new String[]{"c", "a"}, parser.parseLine("a,b,c,d"));
+        assertArrayEquals(new String[]{null, "a"}, parser.parseLine("a"));
+        assertArrayEquals(new String[0], parser.parseLineMulti("a,\"b\nb\",\"c"));
+        assertTrue(parser.isPending());
+        assertArrayEquals(new String[]{"c\nc", "a"}, parser.parseLineMulti("c\",d"));
+        assertFalse(parser.isPending());
+    }
+
+    @Test
+    public void allPathsAgree() throws IOException {
+        int[][] projections = {{0}, {3, 1}, {2}, {1, 5, 0}};
+        for (CSVReaderNullFieldIndicator indicator : CSVReaderNullFieldIndicator.values()) {
+            for (int[] columns : projections) {
+                List<String> expected = expected(indicator, columns);
+                String message = Arrays.toString(columns) + " " + indicator;
+
+                // The builder pushes the projection down to the parser it creates.
+                assertEquals(message, expected, readAll(new CSVReaderBuilder(new StringReader(INPUT))
+                        .withFieldAsNull(indicator)
+                        .withProjection(columns)
+                        .build()));
+
+                // A parser projection without any help from the reader
+                assertEquals(message, expected, readAll(new CSVReaderBuilder(new StringReader(INPUT))
+                        .withCSVParser(new CSVParserBuilder().withFieldAsNull(indicator).withProjection(columns).build())
+                        .build()));
+
+                // The reader projects complete records from a parser it did not create.
+                assertEquals(message, expected, readAll(new CSVReaderBuilder(new StringReader(INPUT))
+                        .withCSVParser(new CSVParserBuilder().withFieldAsNull(indicator).build())
+                        .withProjection(columns)
+                        .build()));
+
+                // The tokenizer skips columns itself.
+                assertEquals(message, expected, readAll(new CSVReaderBuilder(new StringReader(INPUT))
+                        .withFieldAsNull(indicator)
+                        .withProjection(columns)
+                        .withStreamingTokenizer(true)
+                        .build()));
+                assertEquals(message, expected, readAll(new CSVReaderBuilder(new StringReader(INPUT))
+                        .withCSVParser(new CSVParserBuilder().withFieldAsNull(indicator).withProjection(columns).build())
+                        .withStreamingTokenizer(true)
+                        .build()));
+            }
+        }
+    }
+
+    @Test
+    public void projectionByHeaderName() throws IOException {
+        List<String> expected = expected(CSVReaderNullFieldIndicator.NEITHER, 2, 1);
+        for (boolean streaming : new boolean[]{false, true}) {
+            CSVReader reader = new CSVReaderBuilder(new StringReader(INPUT))
+                    .withProjectionByName("city", "name")
+                    .withStreamingTokenizer(streaming)
+                    .build();
+            assertEquals(expected, readAll(reader));
+        }
+    }
+
+    @Test
+    public void projectionOfProjectedParser() throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("a,b,c,d\n"))
+                .withCSVParser(new CSVParserBuilder().withProjection(3, 2, 1).build())
+                .withProjection(2, 0)
+                .withStreamingTokenizer(true)
+                .build();
+        assertArrayEquals(new String[]{"b", "d"}, reader.readNext());
+    }
+
+    @Test
+    public void cursorWithProjection() throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader(INPUT))
+                .withProjectionByName("zip", "id")
+                .withStreamingTokenizer(true)
+                .build();
+        CsvRecord record = reader.nextRecord(null);
+        assertArrayEquals(new String[]{"zip", "id"}, record.toArray());
+        assertSame(record, reader.nextRecord(record));
+        assertEquals(10001, record.getInt(0));
+        assertEquals(1, record.getInt(1));
+        reader.nextRecord(record);
+        assertEquals("", record.getString(0));
+        reader.nextRecord(record);
+        assertTrue(record.isNull(0));
+        assertEquals(3L, record.getLong(1));
+    }
+
+    @Test
+    public void headerAwareReaderWithProjection() throws IOException {
+        CSVReaderHeaderAware reader = (CSVReaderHeaderAware) new CSVReaderHeaderAwareBuilder(new StringReader(INPUT))
+                .withProjectionByName("zip", "name")
+                .build();
+        assertArrayEquals(new String[]{"10001", "Smith, John"}, reader.readNext("zip", "name"));
+        try {
+            reader.readNext("city");
+            fail("Exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            assertEquals("No column found for header [city].", e.getMessage());
+        }
+    }
+
+    @Test
+    public void unknownHeaderName() throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader(INPUT))
+                .withProjectionByName("id", "country")
+                .build();
+        try {
+            reader.readNext();
+            fail("Exception should have been thrown");
+        } catch (IllegalArgumentException e) {
+            assertEquals("No column found for header [country].", e.getMessage());
+        }
+    }
+
+    @Test
+    public void invalidColumnIndexes() {
+        for (int[] columns : new int[][]{{-1}, {-5}, {1, 2, 1}, {Integer.MIN_VALUE, 3}, {Integer.MAX_VALUE, 0, Integer.MAX_VALUE}}) {
+            try {
+                new CSVParserBuilder().withProjection(columns);
+                fail("Exception should have been thrown");
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage().startsWith("The column index"));
+            }
+        }
+    }
+
+    @Test
+    public void largeColumnIndexes() throws IOException {
+        CSVReader reader = new CSVReaderBuilder(new StringReader("a,b,c\n"))
+                .withProjection(Integer.MAX_VALUE, 1_000_000_000, 2)
+                .build();
+        assertArrayEquals(new String[]{null, null, "c"}, reader.readNext());
+    }
+
+    @Test
+    public void unterminatedQuoteInSkippedColumn() throws IOException {
+        String input = "a,\"b\nc";
+        for (boolean streaming : new boolean[]{false, true}) {
+            CSVReader reader = new CSVReaderBuilder(new StringReader(input))
+                    .withProjection(0)
+                    .withStreamingTokenizer(streaming)
+                    .build();
+            try {
+                reader.readNext();
+                fail("Exception should have been thrown");
+            } catch (CsvMalformedLineException e) {
+                assertEquals(1, e.getLineNumber());
+            }
+        }
+    }
+
+    @Test
+    public void builderGetters() {
+        assertNull(new CSVParserBuilder().getProjection());
+        assertArrayEquals(new int[]{4, 2}, new CSVParserBuilder().withProjection(4, 2).getProjection());
+        assertNull(new CSVParserBuilder().withProjection(4, 2).withProjection().getProjection());
+    }
+}
@@ -40,6 +40,7 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.regex.Pattern;
 
 import static org.junit.Assert.*;
 
@@ -723,4 +724,33 @@ public class CollectionSplitTest {
             assertNotNull(csve.getCause());
         }
     }
+
+    @Test
+    public void testSplitWithoutRegularExpressionsLikePatternSplit() throws Exception {
+        String[] inputs = {"", "a", "a,b", ",a", "a,", "a,,b", ",,", "  a  b\tc\n", " ", "a|b", "a.b", "a|.b"};
+        String[] delimiters = {",", "\\s+", "\\|", "\\.", "[,|]"};
+        CsvConverter converter = new ConverterPrimitiveTypes(String.class, null, Locale.US);
+        for(String delimiter : delimiters) {
+            BeanFieldSplit<AnnotatedMockBeanCollectionSplit, String> field = new BeanFieldSplit<>(
+                    AnnotatedMockBeanCollectionSplit.class.getDeclaredField("listType"),
+                    false, Locale.US, converter, delimiter, ",", List.class, null, null);
+            for(String input : inputs) {
+                List<Object> expected = new ArrayList<>();
+                for(String s : Pattern.compile(delimiter).split(input)) {
+                    expected.add(converter.convertToRead(s));
+                }
+                assertEquals(delimiter + " on \"" + input + "\"", expected, field.convert(input));
+            }
+        }
+    }
+
+    @Test
+    public void testWriteNullElements() throws Exception {
+        BeanFieldSplit<AnnotatedMockBeanCollectionSplit, String> field = new BeanFieldSplit<>(
+                AnnotatedMockBeanCollectionSplit.class.getDeclaredField("listType"),
+                false, Locale.US, new ConverterPrimitiveTypes(Integer.class, null, Locale.US),
+                ",", ";", List.class, null, "<%s>");
+        assertEquals("<1>;;<3>", field.convertToWrite(Arrays.asList(1, null, 3)));
+        assertEquals("", field.convertToWrite(Collections.emptyList()));
+    }
 }
@@ -17,7 +17,13 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -513,6 +519,185 @@ public class CsvToBeanTest {
         }
     }
 
+    private static String manyNumbers(int count) {
+        StringBuilder sb = new StringBuilder("number\n");
+        for (int i = 0; i < count; i++) {
+            // Every hundredth number is negative and thus rejected
+            sb.append(i > 0 && i % 100 == 0 ? -i : i).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testStreamIsOrderedAndCapturesExceptionsInOrder() {
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(manyNumbers(10000)))
+                .withType(SingleNumber.class)
+                .withVerifier(new PositiveEvensOnly())
+                .withThrowExceptions(false)
+                .withOrderedResults(true)
+                .build();
+        List<Integer> numbers = csvToBean.stream()
+                .map(SingleNumber::getNumber)
+                .collect(Collectors.toList());
+        assertEquals(4901, numbers.size());
+        for (int i = 1; i < numbers.size(); i++) {
+            assertTrue(numbers.get(i - 1) < numbers.get(i));
+        }
+        List<CsvException> exceptions = csvToBean.getCapturedExceptions();
+        assertEquals(99, exceptions.size());
+        for (int i = 0; i < exceptions.size(); i++) {
+            // The header is line 1
+            assertEquals((i + 1) * 100 + 2, exceptions.get(i).getLineNumber());
+        }
+    }
+
+    @Test
+    public void testInterruptWhileWaitingForResultsIsKept() {
+        CountDownLatch release = new CountDownLatch(1);
+        CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(manyNumbers(10)))
+                .withType(SingleNumber.class)
+                .withVerifier(bean -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return true;
+                })
+                .build();
+        try {
+            Thread.currentThread().interrupt();
+            RuntimeException e = Assertions.assertThrows(RuntimeException.class,
+                    () -> csvToBean.stream().findFirst());
+            assertTrue(e.getCause() instanceof InterruptedException);
+            assertTrue(Thread.interrupted());
+        } finally {
+            Thread.interrupted();
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testBatchSizesGiveTheSameResults() {
+        List<Integer> expectedNumbers = null;
+        List<Long> expectedLineNumbers = null;
+        for (int batchSize : new int[]{1, 7, 32, 20000}) {
+            CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(manyNumbers(10000)))
+                    .withType(SingleNumber.class)
+                    .withVerifier(new PositiveEvensOnly())
+                    .withThrowExceptions(false)
+                    .withBatchSize(batchSize)
+                    .build();
+            List<Integer> numbers = csvToBean.stream()
+                    .map(SingleNumber::getNumber)
+                    .collect(Collectors.toList());
+            List<Long> lineNumbers = csvToBean.getCapturedExceptions().stream()
+                    .map(CsvException::getLineNumber)
+                    .collect(Collectors.toList());
+            if (expectedNumbers == null) {
+                expectedNumbers = numbers;
+                expectedLineNumbers = lineNumbers;
+                assertEquals(4901, numbers.size());
+                assertEquals(99, lineNumbers.size());
+            } else {
+                assertEquals(expectedNumbers, numbers);
+                assertEquals(expectedLineNumbers, lineNumbers);
+            }
+        }
+    }
+
+    @Test
+    public void testUnorderedStreamReturnsAllBeans() {
+        List<SingleNumber> beans = new CsvToBeanBuilder<SingleNumber>(new StringReader(manyNumbers(10000)))
+                .withType(SingleNumber.class)
+                .withVerifier(new PositiveEvensOnly())
+                .withThrowExceptions(false)
+                .withOrderedResults(false)
+                .build().parse();
+        assertEquals(4901, beans.size());
+        assertEquals(4901, beans.stream().mapToInt(SingleNumber::getNumber).distinct().count());
+    }
+
+    @Test
+    public void testStreamReadsInputAsItIsConsumed() {
+        CSVReader reader = new CSVReader(new StringReader(manyNumbers(100000)));
+        try (Stream<SingleNumber> stream = new CsvToBeanBuilder<SingleNumber>(reader)
+                .withType(SingleNumber.class)
+                .build().stream()) {
+            List<SingleNumber> beans = stream.limit(10).collect(Collectors.toList());
+            assertEquals(10, beans.size());
+            assertEquals(9, beans.get(9).getNumber());
+            assertTrue(reader.getLinesRead() < 10000);
+        }
+    }
+
+    @Test
+    public void testStreamThrowsWhileBeingConsumed() {
+        Stream<SingleNumber> stream = new CsvToBeanBuilder<SingleNumber>(new StringReader(manyNumbers(10000)))
+                .withType(SingleNumber.class)
+                .withVerifier(new PositiveEvensOnly())
+                .withOrderedResults(true)
+                .build().stream();
+        RuntimeException re = Assertions.assertThrows(RuntimeException.class,
+                () -> stream.collect(Collectors.toList()));
+        assertTrue(re.getCause() instanceof CsvConstraintViolationException);
+    }
+
+    @Test
+    public void testSharedExecutorIsUsedAndNotShutDown() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 2; i++) {
+                CsvToBean<SingleNumber> csvToBean = new CsvToBeanBuilder<SingleNumber>(new StringReader(manyNumbers(10000)))
+                        .withType(SingleNumber.class)
+                        .withVerifier(new PositiveEvensOnly())
+                        .withThrowExceptions(false)
+                        .withExecutor(executor)
+                        .build();
+                List<SingleNumber> beans = csvToBean.parse();
+                assertEquals(4901, beans.size());
+                assertEquals(99, csvToBean.getCapturedExceptions().size());
+            }
+
+            // An error stops the import, but not the executor
+            Stream<SingleNumber> stream = new CsvToBeanBuilder<SingleNumber>(new StringReader(manyNumbers(10000)))
+                    .withType(SingleNumber.class)
+                    .withVerifier(new PositiveEvensOnly())
+                    .withExecutor(executor)
+                    .build().stream();
+            RuntimeException re = Assertions.assertThrows(RuntimeException.class,
+                    () -> stream.collect(Collectors.toList()));
+            assertTrue(re.getCause() instanceof CsvConstraintViolationException);
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testRejectionByExecutorIsTheCause() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        Stream<SingleNumber> stream = new CsvToBeanBuilder<SingleNumber>(new StringReader(manyNumbers(100)))
+                .withType(SingleNumber.class)
+                .withExecutor(executor)
+                .build().stream();
+        RuntimeException re = Assertions.assertThrows(RuntimeException.class,
+                () -> stream.collect(Collectors.toList()));
+        assertTrue(re.getCause() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void testParallelismOfOne() {
+        List<SingleNumber> beans = new CsvToBeanBuilder<SingleNumber>(new StringReader(GOOD_NUMBERS))
+                .withType(SingleNumber.class)
+                .withParallelism(1)
+                .build().parse();
+        assertEquals(5, beans.size());
+        assertEquals(4, beans.get(4).getNumber());
+    }
+
     @Test
     public void testBug194() {
         String testString = "name,id,orderNumber\n" +
@@ -17,14 +17,19 @@ package com.opencsv.bean;
  */
 
 import com.opencsv.CSVReader;
+import com.opencsv.bean.mocks.ImmutableMockBean;
 import com.opencsv.bean.mocks.MockBean;
+import com.opencsv.exceptions.CsvBadConverterException;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import org.junit.jupiter.api.*;
 
 import java.io.IOException;
 import java.io.StringReader;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -153,4 +158,160 @@ public class HeaderColumnNameMappingStrategyTest {
             strat.generateHeader(new MockBean());
         });
    }
+
+   @Test
+   public void columnsAreResolvedOncePerHeader() throws Exception {
+      strat.setType(MockBean.class);
+      strat.captureHeader(new CSVReader(new StringReader("name,num\n")));
+      AbstractMappingStrategy<?, ?, ?, MockBean>.ResolvedColumns columns = strat.resolveColumns();
+      MockBean bean = strat.populateNewBean(new String[]{"kyle", "123"});
+      assertEquals("kyle", bean.getName());
+      assertEquals(123, bean.getNum());
+      assertSame(columns, strat.resolveColumns());
+
+      // A new header must not reuse the old columns
+      strat.captureHeader(new CSVReader(new StringReader("num,orderNumber,name\n")));
+      assertNotSame(columns, strat.resolveColumns());
+      bean = strat.populateNewBean(new String[]{"456", "def098765", "jimmy"});
+      assertEquals("jimmy", bean.getName());
+      assertEquals("def098765", bean.getOrderNumber());
+      assertEquals(456, bean.getNum());
+   }
+
+   @Test
+   public void fieldMapRemembersResolvedHeaders() throws Exception {
+      FieldMapByName<MockBean> fieldMap = new FieldMapByName<>(Locale.US);
+      BeanField<MockBean, String> name = new BeanFieldSingleValue<>(
+              MockBean.class.getDeclaredField("name"), false, Locale.US, null, null, null);
+      BeanField<MockBean, String> num = new BeanFieldSingleValue<>(
+              MockBean.class.getDeclaredField("num"), false, Locale.US, null, null, null);
+      fieldMap.put("NAME", name);
+      fieldMap.putComplex("num.*", num);
+
+      assertSame(name, fieldMap.get("NAME"));
+      assertSame(num, fieldMap.get("NUMBER"));
+      assertSame(num, fieldMap.get("NUMBER"));
+      assertNull(fieldMap.get("ORDERNUMBER"));
+      assertNull(fieldMap.get("ORDERNUMBER"));
+
+      // Changing the mappings must not leave stale results behind
+      fieldMap.putComplex("order.*", num);
+      assertSame(num, fieldMap.get("ORDERNUMBER"));
+      fieldMap.put("NUMBER", name);
+      assertSame(name, fieldMap.get("NUMBER"));
+   }
+
+   @Test
+   public void beanFactoryIsUsed() throws Exception {
+      AtomicInteger created = new AtomicInteger();
+      strat.setType(MockBean.class);
+      strat.setBeanFactory(() -> {
+         created.incrementAndGet();
+         MockBean bean = new MockBean();
+         bean.setId("from factory");
+         return bean;
+      });
+      strat.captureHeader(new CSVReader(new StringReader("name,num\n")));
+      MockBean bean = strat.populateNewBean(new String[]{"kyle", "123"});
+      assertEquals(1, created.get());
+      assertEquals("from factory", bean.getId());
+      assertEquals("kyle", bean.getName());
+      assertEquals(123, bean.getNum());
+   }
+
+   @Test
+   public void immutableBeansArePopulatedThroughConstructor() throws Exception {
+      List<ImmutableMockBean> beans = new CsvToBeanBuilder<ImmutableMockBean>(
+              new StringReader("tag,name,num,tag\na,kyle,123,b\nc,jimmy,,d\n"))
+              .withType(ImmutableMockBean.class).build().parse();
+      assertEquals(2, beans.size());
+      assertEquals("kyle", beans.get(0).getName());
+      assertEquals(123, beans.get(0).getNum());
+      assertEquals(Arrays.asList("a", "b"), beans.get(0).getTags().get("tag"));
+      assertEquals("jimmy", beans.get(1).getName());
+      assertEquals(0, beans.get(1).getNum());
+      assertEquals(Arrays.asList("c", "d"), beans.get(1).getTags().get("tag"));
+   }
+
+   @Test
+   public void constructorParametersAreMatchedByName() throws Exception {
+      List<Names> beans = new CsvToBeanBuilder<Names>(new StringReader("first,last\nkyle,miller\n"))
+              .withType(Names.class).build().parse();
+      assertEquals("kyle", beans.get(0).first);
+      assertEquals("miller", beans.get(0).last);
+   }
+
+   @Test
+   public void unannotatedBeansWithoutNullaryConstructorFail() throws Exception {
+      HeaderColumnNameMappingStrategy<NoNullaryConstructor> s = new HeaderColumnNameMappingStrategy<>();
+      s.setType(NoNullaryConstructor.class);
+      s.captureHeader(new CSVReader(new StringReader("first,last\n")));
+      Assertions.assertThrows(InstantiationException.class,
+              () -> s.populateNewBean(new String[]{"kyle", "miller"}));
+   }
+
+   @Test
+   public void badConstructorAnnotation() {
+      HeaderColumnNameMappingStrategy<BadConstructor> s = new HeaderColumnNameMappingStrategy<>();
+      CsvBadConverterException e = Assertions.assertThrows(CsvBadConverterException.class,
+              () -> s.setType(BadConstructor.class));
+      assertTrue(e.getMessage().contains(BadConstructor.class.getName()));
+   }
+
+   public static class Names {
+      @CsvBindByName
+      private final String first;
+
+      @CsvBindByName
+      private final String last;
+
+      @CsvConstructor({"last", "first"})
+      public Names(String last, String first) {
+         this.first = first;
+         this.last = last;
+      }
+   }
+
+   public static class NoNullaryConstructor {
+      @CsvBindByName
+      private final String first;
+
+      @CsvBindByName
+      private final String last;
+
+      public NoNullaryConstructor(String first, String last) {
+         this.first = first;
+         this.last = last;
+      }
+   }
+
+   public static class BadConstructor {
+      @CsvBindByName
+      private final String first;
+
+      @CsvBindByName
+      private final int num;
+
+      @CsvConstructor({"first", "num"})
+      public BadConstructor(int num, String first) {
+         this.first = first;
+         this.num = num;
+      }
+   }
+
+   @Test
+   public void primitiveFieldsAreAssignedWithoutBoxing() throws Exception {
+      strat.setType(MockBean.class);
+      strat.captureHeader(new CSVReader(new StringReader("name,num\n")));
+      AbstractBeanField<MockBean, String> num = (AbstractBeanField<MockBean, String>) strat.findField(1);
+      MockBean bean = new MockBean();
+      assertTrue(num.assignPrimitive(bean, " 456 "));
+      assertEquals(456, bean.getNum());
+      assertTrue(num.assignPrimitive(bean, ""));
+      assertEquals(456, bean.getNum());
+      Assertions.assertThrows(CsvDataTypeMismatchException.class, () -> num.assignPrimitive(bean, "abc"));
+
+      // Strings are never primitive
+      assertFalse(((AbstractBeanField<MockBean, String>) strat.findField(0)).assignPrimitive(bean, "kyle"));
+   }
 }
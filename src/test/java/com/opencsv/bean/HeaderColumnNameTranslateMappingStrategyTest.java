@@ -16,6 +16,7 @@ package com.opencsv.bean;
  limitations under the License.
  */
 
+import com.opencsv.CSVReader;
 import com.opencsv.bean.mocks.MockBean;
 import org.junit.jupiter.api.Test;
 
@@ -98,4 +99,25 @@ public class HeaderColumnNameTranslateMappingStrategyTest {
       assertEquals("id", strat.getColumnName(2));
       assertNull(strat.getColumnName(3));
    }
+
+   @Test
+   public void changedColumnMappingIsUsedForTheNextLine() throws Exception {
+      HeaderColumnNameTranslateMappingStrategy<MockBean> strat = new HeaderColumnNameTranslateMappingStrategy<>();
+      strat.setType(MockBean.class);
+      Map<String, String> map = new HashMap<>();
+      map.put("n", "name");
+      map.put("o", "orderNumber");
+      strat.setColumnMapping(map);
+      strat.captureHeader(new CSVReader(new StringReader("n,o\n")));
+      MockBean bean = strat.populateNewBean(new String[]{"kyle", "123456"});
+      assertEquals("kyle", bean.getName());
+      assertEquals("123456", bean.getOrderNumber());
+
+      map.put("n", "orderNumber");
+      map.put("o", "name");
+      strat.setColumnMapping(map);
+      bean = strat.populateNewBean(new String[]{"abcnum", "jimmy"});
+      assertEquals("jimmy", bean.getName());
+      assertEquals("abcnum", bean.getOrderNumber());
+   }
 }
@@ -19,6 +19,8 @@ import com.opencsv.bean.customconverter.BadCollectionConverter;
 import com.opencsv.bean.mocks.join.*;
 import com.opencsv.exceptions.CsvBadConverterException;
 import com.opencsv.exceptions.CsvBeanIntrospectionException;
+import com.opencsv.exceptions.CsvConstraintViolationException;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
 import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import org.apache.commons.collections4.MultiValuedMap;
@@ -104,6 +106,72 @@ public class JoinTest {
         assertTrue(values.containsAll(Arrays.asList(3, 4, 5)));
     }
     
+    /**
+     * Tests that many columns joined into one field keep their order and
+     * that every line gets a map of its own.
+     * 
+     * @throws IOException Never
+     */
+    @Test
+    public void testReadManyJoinedColumns() throws IOException {
+        StringBuilder input = new StringBuilder("index,date1,index");
+        for(int i = 0; i < 300; i++) {
+            input.append(",conversion");
+        }
+        for(int line = 0; line < 2; line++) {
+            input.append("\n").append(line).append(",15. Dez 1978,").append(line + 1);
+            for(int i = 0; i < 300; i++) {
+                input.append(',').append(line * 1000 + i).append('x');
+            }
+        }
+        List<GoodJoinByNameAnnotations> beans = new CsvToBeanBuilder<GoodJoinByNameAnnotations>(
+                new StringReader(input.toString()))
+                .withType(GoodJoinByNameAnnotations.class).build().parse();
+        assertEquals(2, beans.size());
+        
+        for(int line = 0; line < 2; line++) {
+            GoodJoinByNameAnnotations bean = beans.get(line);
+            assertEquals(Arrays.asList(line, line + 1), new ArrayList<>(bean.getMap1().get("index")));
+            assertEquals(1, bean.getMap2().size());
+            List<Integer> expected = new ArrayList<>(300);
+            for(int i = 0; i < 300; i++) {
+                expected.add(line * 1000 + i);
+            }
+            assertEquals(expected, new ArrayList<>(bean.getMap4().get("conversion")));
+        }
+        assertNotSame(beans.get(0).getMap4(), beans.get(1).getMap4());
+    }
+    
+    /**
+     * Tests that a mapping strategy overriding
+     * {@link AbstractMappingStrategy#setFieldValue(Object, String, int)}
+     * sees every column, joined ones included.
+     * 
+     * @throws IOException Never
+     */
+    @Test
+    public void testOverriddenSetFieldValueSeesJoinedColumns() throws IOException {
+        List<Integer> columns = new ArrayList<>();
+        HeaderColumnNameMappingStrategy<GoodJoinByNameAnnotations> strategy =
+                new HeaderColumnNameMappingStrategy<GoodJoinByNameAnnotations>() {
+                    @Override
+                    protected void setFieldValue(GoodJoinByNameAnnotations bean, String value, int column)
+                            throws CsvDataTypeMismatchException, CsvRequiredFieldEmptyException,
+                            CsvConstraintViolationException {
+                        columns.add(column);
+                        super.setFieldValue(bean, value, column);
+                    }
+                };
+        strategy.setType(GoodJoinByNameAnnotations.class);
+        List<GoodJoinByNameAnnotations> beans = new CsvToBeanBuilder<GoodJoinByNameAnnotations>(
+                new StringReader("index,date1,index,conversion,conversion\n1,15. Dez 1978,2,3x,4x\n"))
+                .withMappingStrategy(strategy).build().parse();
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4), columns);
+        assertEquals(1, beans.size());
+        assertEquals(Arrays.asList(1, 2), new ArrayList<>(beans.get(0).getMap1().get("index")));
+        assertEquals(Arrays.asList(3, 4), new ArrayList<>(beans.get(0).getMap4().get("conversion")));
+    }
+    
     /**
      * Tests reading in formatted dates.
      * <p>Also tests:</p>
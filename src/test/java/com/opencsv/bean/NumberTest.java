@@ -31,8 +31,12 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.Assert.*;
 
@@ -363,4 +367,32 @@ public class NumberTest {
         assertEquals(";\n",
                 w.toString());
     }
+
+    /**
+     * Tests that one converter can be used by many threads at the same time
+     * without them seeing each other's intermediate results.
+     */
+    @Test
+    public void testConcurrentConversion() throws Exception {
+        ConverterNumber converter = new ConverterNumber(Double.TYPE, null, Locale.US, "#,##0.00");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                final int offset = t * 1000;
+                results.add(executor.submit(() -> {
+                    for (int i = offset; i < offset + 1000; i++) {
+                        String s = converter.convertToWrite((double) i * 1000 + 0.25);
+                        assertEquals((double) i * 1000 + 0.25, (Double) converter.convertToRead(s), 0);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : results) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
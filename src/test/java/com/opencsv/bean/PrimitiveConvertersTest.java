@@ -0,0 +1,98 @@
+package com.opencsv.bean;
+
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveConvertersTest {
+
+    private static final Class<?>[] TYPES = {
+            Integer.TYPE, Integer.class, Long.TYPE, Long.class,
+            Double.TYPE, Double.class, Float.TYPE, Float.class,
+            Short.TYPE, Short.class, Byte.TYPE, Byte.class,
+            Boolean.TYPE, Boolean.class, Character.TYPE, Character.class,
+            String.class};
+
+    private static final String[] INPUTS = {
+            null, "", " ", "0", "1", "-1", "+1", " 42 ", "127", "128", "-129",
+            "32768", "2147483648", "9223372036854775808", "1.5", "-0.0", "1e3",
+            "1.5d", "NaN", "-Infinity", "0x10", "abc", "true", "TRUE", "Yes",
+            "y", "on", "false", "No", "n", "OFF", " true", "x"};
+
+    /**
+     * Every converter must accept and reject exactly what BeanUtils accepts
+     * and rejects, and produce the same values.
+     */
+    @Test
+    public void sameResultsAsBeanUtils() throws CsvException {
+        for (Class<?> type : TYPES) {
+            CsvConverter fast = PrimitiveConverters.forType(type, Locale.US);
+            CsvConverter beanUtils = new ConverterPrimitiveTypes(type, null, Locale.US);
+            assertNotNull(type.getName(), fast);
+            for (String input : INPUTS) {
+                Object expected, actual;
+                try {
+                    expected = beanUtils.convertToRead(input);
+                } catch (CsvDataTypeMismatchException e) {
+                    expected = e.getMessage();
+                }
+                try {
+                    actual = fast.convertToRead(input);
+                } catch (CsvDataTypeMismatchException e) {
+                    assertTrue(e.getCause() instanceof org.apache.commons.beanutils.ConversionException);
+                    actual = e.getMessage();
+                }
+                assertEquals(type.getName() + " <" + input + ">", expected, actual);
+                if (expected != null && !(expected instanceof String && type != String.class)) {
+                    assertEquals(beanUtils.convertToWrite(expected), fast.convertToWrite(actual));
+                }
+            }
+            assertNull(fast.convertToWrite(null));
+        }
+    }
+
+    /**
+     * Converting to a primitive must give the same value or error as
+     * converting to an object.
+     */
+    @Test
+    public void primitiveResultsMatchBoxedResults() throws CsvException {
+        for (Class<?> type : new Class<?>[]{Integer.TYPE, Long.TYPE, Double.TYPE}) {
+            CsvConverter converter = PrimitiveConverters.forType(type, Locale.US);
+            for (String input : INPUTS) {
+                if (input == null || input.trim().isEmpty()) {
+                    continue;
+                }
+                Object expected, actual;
+                try {
+                    expected = converter.convertToRead(input);
+                } catch (CsvDataTypeMismatchException e) {
+                    expected = e.getMessage();
+                }
+                try {
+                    if (type == Integer.TYPE) {
+                        actual = ((PrimitiveConverters.IntCsvConverter) converter).convertToInt(input);
+                    } else if (type == Long.TYPE) {
+                        actual = ((PrimitiveConverters.LongCsvConverter) converter).convertToLong(input);
+                    } else {
+                        actual = ((PrimitiveConverters.DoubleCsvConverter) converter).convertToDouble(input);
+                    }
+                } catch (CsvDataTypeMismatchException e) {
+                    assertTrue(e.getCause() instanceof org.apache.commons.beanutils.ConversionException);
+                    actual = e.getMessage();
+                }
+                assertEquals(type.getName() + " <" + input + ">", expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void otherTypesAreLeftToBeanUtils() {
+        assertNull(PrimitiveConverters.forType(java.math.BigDecimal.class, Locale.US));
+        assertNull(PrimitiveConverters.forType(Object.class, Locale.US));
+    }
+}
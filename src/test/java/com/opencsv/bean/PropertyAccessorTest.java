@@ -0,0 +1,126 @@
+package com.opencsv.bean;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static org.junit.Assert.*;
+
+public class PropertyAccessorTest {
+
+    public static class Bean {
+        private int number;
+        private String text;
+        private long noAccessors;
+        private final String constant = "constant";
+
+        public int getNumber() {
+            return number;
+        }
+
+        public void setNumber(int number) {
+            this.number = number;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public Bean setText(String text) {
+            if ("bad".equals(text)) {
+                throw new IllegalStateException(text);
+            }
+            this.text = text;
+            return this;
+        }
+    }
+
+    @Test
+    public void gettersAndSetters() throws ReflectiveOperationException {
+        Bean bean = new Bean();
+        PropertyAccessor setNumber = PropertyAccessor.forSetter(Bean.class.getMethod("setNumber", int.class));
+        PropertyAccessor getNumber = PropertyAccessor.forGetter(Bean.class.getMethod("getNumber"));
+        PropertyAccessor setText = PropertyAccessor.forSetter(Bean.class.getMethod("setText", String.class));
+        PropertyAccessor getText = PropertyAccessor.forGetter(Bean.class.getMethod("getText"));
+        assertTrue(setNumber.canWrite(bean, 42));
+        setNumber.set(bean, 42);
+        assertEquals(42, getNumber.get(bean));
+        assertTrue(setText.canWrite(bean, "abc"));
+        setText.set(bean, "abc");
+        assertEquals("abc", getText.get(bean));
+    }
+
+    @Test
+    public void onlyMatchingBeansAndValuesAreAccepted() throws ReflectiveOperationException {
+        PropertyAccessor setNumber = PropertyAccessor.forSetter(Bean.class.getMethod("setNumber", int.class));
+        PropertyAccessor getNumber = PropertyAccessor.forGetter(Bean.class.getMethod("getNumber"));
+        assertFalse(setNumber.canWrite(new Bean(), 42L));
+        assertFalse(setNumber.canWrite(new Bean(), null));
+        assertFalse(setNumber.canWrite("not a bean", 42));
+        assertFalse(getNumber.canRead("not a bean"));
+        assertFalse(getNumber.canWrite(new Bean(), 42));
+        assertFalse(setNumber.canRead(new Bean()));
+    }
+
+    @Test
+    public void exceptionsFromSettersAreWrapped() throws ReflectiveOperationException {
+        PropertyAccessor setText = PropertyAccessor.forSetter(Bean.class.getMethod("setText", String.class));
+        InvocationTargetException e = Assertions.assertThrows(InvocationTargetException.class,
+                () -> setText.set(new Bean(), "bad"));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void fields() throws ReflectiveOperationException {
+        Bean bean = new Bean();
+        PropertyAccessor noAccessors = PropertyAccessor.forField(Bean.class.getDeclaredField("noAccessors"));
+        assertTrue(noAccessors.canWrite(bean, 7L));
+        noAccessors.set(bean, 7L);
+        assertEquals(7L, noAccessors.get(bean));
+
+        PropertyAccessor constant = PropertyAccessor.forField(Bean.class.getDeclaredField("constant"));
+        assertTrue(constant.canRead(bean));
+        assertFalse(constant.canWrite(bean, "other"));
+        assertEquals("constant", constant.get(bean));
+    }
+
+    @Test
+    public void primitiveSetters() throws ReflectiveOperationException {
+        Bean bean = new Bean();
+        PropertyAccessor setNumber = PropertyAccessor.forSetter(Bean.class.getMethod("setNumber", int.class));
+        assertTrue(setNumber.canWritePrimitive(bean));
+        assertFalse(setNumber.canWritePrimitive("not a bean"));
+        setNumber.setInt(bean, 42);
+        assertEquals(42, bean.getNumber());
+
+        PropertyAccessor noAccessors = PropertyAccessor.forField(Bean.class.getDeclaredField("noAccessors"));
+        assertTrue(noAccessors.canWritePrimitive(bean));
+        noAccessors.setLong(bean, 7L);
+        assertEquals(7L, noAccessors.get(bean));
+
+        PropertyAccessor setText = PropertyAccessor.forSetter(Bean.class.getMethod("setText", String.class));
+        assertFalse(setText.canWritePrimitive(bean));
+        PropertyAccessor constant = PropertyAccessor.forField(Bean.class.getDeclaredField("constant"));
+        assertFalse(constant.canWritePrimitive(bean));
+    }
+
+    @Test
+    public void accessorsAreCreatedOncePerMember() throws ReflectiveOperationException {
+        // Every lookup returns a new Method or Field object.
+        assertSame(PropertyAccessor.forGetter(Bean.class.getMethod("getNumber")),
+                PropertyAccessor.forGetter(Bean.class.getMethod("getNumber")));
+        assertSame(PropertyAccessor.forSetter(Bean.class.getMethod("setNumber", int.class)),
+                PropertyAccessor.forSetter(Bean.class.getMethod("setNumber", int.class)));
+        assertSame(PropertyAccessor.forField(Bean.class.getDeclaredField("noAccessors")),
+                PropertyAccessor.forField(Bean.class.getDeclaredField("noAccessors")));
+        assertSame(BeanConstructor.forNullaryConstructor(Bean.class),
+                BeanConstructor.forNullaryConstructor(Bean.class));
+
+        HeaderColumnNameMappingStrategy<Bean> first = new HeaderColumnNameMappingStrategy<>();
+        first.setType(Bean.class);
+        HeaderColumnNameMappingStrategy<Bean> second = new HeaderColumnNameMappingStrategy<>();
+        second.setType(Bean.class);
+        assertNotSame(first.createBean(), second.createBean());
+    }
+}
@@ -22,6 +22,7 @@ import com.opencsv.exceptions.CsvException;
 import com.opencsv.exceptions.CsvRequiredFieldEmptyException;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +33,10 @@ import java.io.StringWriter;
 import java.text.ParseException;
 import java.text.RuleBasedCollator;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import static org.junit.Assert.*;
@@ -187,6 +192,124 @@ public class StatefulBeanToCsvTest {
         assertTrue(Pattern.matches(GOOD_DATA_1 + "\n" + GOOD_DATA_2 + "\n", writer.toString()));
     }
 
+    /**
+     * Test of writing more beans than can be in flight at once.
+     *
+     * @throws CsvException Never
+     */
+    @Test
+    public void writeManyBeansOrdered() throws CsvException {
+        List<SingleNumber> beanList = new ArrayList<>();
+        StringBuilder expected = new StringBuilder("NUMBER\n");
+        for(int i = 0; i < 10000; i++) {
+            SingleNumber bean = new SingleNumber();
+            bean.setNumber(i);
+            beanList.add(bean);
+            expected.append(i).append('\n');
+        }
+        StringWriter writer = new StringWriter();
+        StatefulBeanToCsv<SingleNumber> btcsv = new StatefulBeanToCsvBuilder<SingleNumber>(writer)
+                .withQuotechar(ICSVWriter.NO_QUOTE_CHARACTER)
+                .build();
+        btcsv.write(beanList);
+        assertEquals(expected.toString(), writer.toString());
+
+        // A batch size that does not divide the number of beans
+        writer = new StringWriter();
+        btcsv = new StatefulBeanToCsvBuilder<SingleNumber>(writer)
+                .withQuotechar(ICSVWriter.NO_QUOTE_CHARACTER)
+                .withBatchSize(7)
+                .build();
+        btcsv.write(beanList);
+        assertEquals(expected.toString(), writer.toString());
+    }
+
+    /**
+     * Test that lines are written while later beans are still being read.
+     *
+     * @throws CsvException Never
+     */
+    @Test
+    public void writeIsPipelined() throws CsvException {
+        final int count = 100000;
+        StringWriter writer = new StringWriter();
+        Iterator<SingleNumber> beans = new Iterator<SingleNumber>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < count;
+            }
+
+            @Override
+            public SingleNumber next() {
+                if (next == count / 2) {
+                    // Far more than can be in flight has been handed out
+                    assertTrue(writer.getBuffer().length() > 0);
+                }
+                SingleNumber bean = new SingleNumber();
+                bean.setNumber(next++);
+                return bean;
+            }
+        };
+        StatefulBeanToCsv<SingleNumber> btcsv = new StatefulBeanToCsvBuilder<SingleNumber>(writer)
+                .withQuotechar(ICSVWriter.NO_QUOTE_CHARACTER)
+                .build();
+        btcsv.write(beans);
+        String[] lines = writer.toString().split("\n");
+        assertEquals(count + 1, lines.length);
+        assertEquals("0", lines[1]);
+        assertEquals(Integer.toString(count - 1), lines[count]);
+    }
+
+    /**
+     * Test of writing beans on an executor provided by the user.
+     *
+     * @throws CsvException Never
+     * @throws InterruptedException Never
+     */
+    @Test
+    public void writeManyBeansWithExecutor() throws CsvException, InterruptedException {
+        List<SingleNumber> beanList = new ArrayList<>();
+        StringBuilder expected = new StringBuilder("NUMBER\n");
+        for(int i = 0; i < 10000; i++) {
+            SingleNumber bean = new SingleNumber();
+            bean.setNumber(i);
+            beanList.add(bean);
+            expected.append(i).append('\n');
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        StringWriter writer = new StringWriter();
+        StatefulBeanToCsv<SingleNumber> btcsv = new StatefulBeanToCsvBuilder<SingleNumber>(writer)
+                .withQuotechar(ICSVWriter.NO_QUOTE_CHARACTER)
+                .withExecutor(executor)
+                .build();
+        btcsv.write(beanList);
+        assertEquals(expected.toString(), writer.toString());
+        assertFalse(executor.isShutdown());
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * Test that a rejection by the user's executor reaches the caller.
+     */
+    @Test
+    public void writeBeansWithRejectingExecutor() {
+        List<SingleNumber> beanList = new ArrayList<>();
+        for(int i = 0; i < 100; i++) {
+            SingleNumber bean = new SingleNumber();
+            bean.setNumber(i);
+            beanList.add(bean);
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        StatefulBeanToCsv<SingleNumber> btcsv = new StatefulBeanToCsvBuilder<SingleNumber>(new StringWriter())
+                .withExecutor(executor)
+                .build();
+        Assertions.assertThrows(RejectedExecutionException.class, () -> btcsv.write(beanList));
+    }
+
     /**
      * Test of writing multiple beans with iterator.
      * <p>Also incidentally tests:
@@ -0,0 +1,166 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean;
+
+import com.opencsv.bean.mocks.TemporalMock;
+import com.opencsv.exceptions.CsvBadConverterException;
+import com.opencsv.exceptions.CsvDataTypeMismatchException;
+import com.opencsv.exceptions.CsvException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the {@link CsvDate} annotation on the types of {@code java.time}.
+ */
+public class TemporalTest {
+
+    private Locale systemLocale;
+
+    @BeforeEach
+    public void setSystemLocaleToUS() {
+        systemLocale = Locale.getDefault();
+        Locale.setDefault(Locale.US);
+    }
+
+    @AfterEach
+    public void setSystemLocaleBackToDefault() {
+        Locale.setDefault(systemLocale);
+    }
+
+    private static final String HEADER = "instant,localDate,localDateTime,localTime,offsetDateTime,zonedDateTime\n";
+    private static final String LINE = "2019-07-14T12:34:56Z,2019-07-14,20190714T123456,12:34:56.789,"
+            + "2019-07-14T12:34:56.789+02:00,14 Jul 2019 12:34 Europe/Berlin\n";
+
+    @Test
+    public void readAndWriteAllTypes() throws CsvException {
+        List<TemporalMock> beans = new CsvToBeanBuilder<TemporalMock>(new StringReader(HEADER + LINE))
+                .withType(TemporalMock.class).build().parse();
+        assertEquals(1, beans.size());
+        TemporalMock bean = beans.get(0);
+        assertEquals(LocalDate.of(2019, 7, 14), bean.getLocalDate());
+        assertEquals(LocalDateTime.of(2019, 7, 14, 12, 34, 56), bean.getLocalDateTime());
+        assertEquals(LocalTime.of(12, 34, 56, 789_000_000), bean.getLocalTime());
+        assertEquals(Instant.parse("2019-07-14T12:34:56Z"), bean.getInstant());
+        assertEquals(OffsetDateTime.of(2019, 7, 14, 12, 34, 56, 789_000_000, ZoneOffset.ofHours(2)),
+                bean.getOffsetDateTime());
+        assertEquals(ZonedDateTime.of(2019, 7, 14, 12, 34, 0, 0, ZoneId.of("Europe/Berlin")),
+                bean.getZonedDateTime());
+
+        StringWriter w = new StringWriter();
+        new StatefulBeanToCsvBuilder<TemporalMock>(w)
+                .withApplyQuotesToAll(false)
+                .build().write(bean);
+        String expected = HEADER.toUpperCase() + LINE;
+        // Instants without an offset are written in the default time zone
+        String instant = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX")
+                .withZone(ZoneId.systemDefault()).format(bean.getInstant());
+        assertEquals(expected.replace("2019-07-14T12:34:56Z", instant), w.toString());
+    }
+
+    @Test
+    public void fastPathFallsBackToTheFormatter() throws CsvDataTypeMismatchException {
+        ConverterTemporal date = new ConverterTemporal(LocalDate.class, null, Locale.US, "yyyy-MM-dd");
+        // Smart resolution moves the day to the end of the month
+        assertEquals(LocalDate.of(2019, 2, 28), date.convertToRead("2019-02-30"));
+        // More than four digits in the year
+        assertEquals(LocalDate.of(12019, 2, 1), date.convertToRead("+12019-02-01"));
+
+        ConverterTemporal dateTime = new ConverterTemporal(LocalDateTime.class, null, Locale.US, "yyyyMMdd'T'HHmmss");
+        // Midnight at the end of the day
+        assertEquals(LocalDateTime.of(2019, 7, 15, 0, 0), dateTime.convertToRead("20190714T240000"));
+
+        ConverterTemporal offset = new ConverterTemporal(OffsetDateTime.class, null, Locale.US, "yyyy-MM-dd HH:mm:ssX");
+        assertEquals(OffsetDateTime.of(2019, 7, 14, 12, 0, 0, 0, ZoneOffset.UTC), offset.convertToRead("2019-07-14 12:00:00Z"));
+        assertEquals(OffsetDateTime.of(2019, 7, 14, 12, 0, 0, 0, ZoneOffset.ofHoursMinutes(-5, -30)),
+                offset.convertToRead("2019-07-14 12:00:00-0530"));
+        assertEquals(OffsetDateTime.of(2019, 7, 14, 12, 0, 0, 0, ZoneOffset.ofHours(1)),
+                offset.convertToRead("2019-07-14 12:00:00+01"));
+    }
+
+    @Test
+    public void parsedOffsetIsKept() throws CsvDataTypeMismatchException {
+        TimeZone systemZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Europe/Berlin"));
+        try {
+            ZoneOffset plusFive = ZoneOffset.ofHours(5);
+
+            // Not read by the fast path at all
+            String pattern = "yyyy-MM-dd'T'HH:mmXXX";
+            assertEquals(OffsetDateTime.of(2020, 1, 1, 10, 0, 0, 0, plusFive),
+                    new ConverterTemporal(OffsetDateTime.class, null, Locale.US, pattern)
+                            .convertToRead("2020-01-01T10:00+05:00"));
+            assertEquals(ZonedDateTime.of(2020, 1, 1, 10, 0, 0, 0, plusFive),
+                    new ConverterTemporal(ZonedDateTime.class, null, Locale.US, pattern)
+                            .convertToRead("2020-01-01T10:00+05:00"));
+            assertEquals(Instant.parse("2020-01-01T05:00:00Z"),
+                    new ConverterTemporal(Instant.class, null, Locale.US, pattern)
+                            .convertToRead("2020-01-01T10:00+05:00"));
+
+            // Rejected by the fast path and handed to the formatter
+            pattern = "yyyy-MM-dd'T'HH:mm:ssXXX";
+            ConverterTemporal offset = new ConverterTemporal(OffsetDateTime.class, null, Locale.US, pattern);
+            assertEquals(OffsetDateTime.of(2021, 2, 28, 10, 0, 0, 0, plusFive),
+                    offset.convertToRead("2021-02-30T10:00:00+05:00"));
+            assertEquals(offset.convertToRead("2021-02-28T10:00:00+05:00"),
+                    offset.convertToRead("2021-02-30T10:00:00+05:00"));
+            assertEquals(ZonedDateTime.of(2021, 2, 28, 10, 0, 0, 0, plusFive),
+                    new ConverterTemporal(ZonedDateTime.class, null, Locale.US, pattern)
+                            .convertToRead("2021-02-30T10:00:00+05:00"));
+
+            // Without an offset in the pattern, the default time zone applies
+            assertEquals(ZonedDateTime.of(2020, 1, 1, 10, 0, 0, 0, ZoneId.of("Europe/Berlin")),
+                    new ConverterTemporal(ZonedDateTime.class, null, Locale.US, "yyyy-MM-dd'T'HH:mm")
+                            .convertToRead("2020-01-01T10:00"));
+        } finally {
+            TimeZone.setDefault(systemZone);
+        }
+    }
+
+    @Test
+    public void badInput() {
+        ConverterTemporal date = new ConverterTemporal(LocalDate.class, null, Locale.US, "yyyy-MM-dd");
+        for (String input : new String[]{"2019-13-01", "2019-07-1x", "0000-01-01", "20190714"}) {
+            Assertions.assertThrows(CsvDataTypeMismatchException.class, () -> date.convertToRead(input), input);
+        }
+        Assertions.assertThrows(CsvDataTypeMismatchException.class,
+                () -> date.convertToWrite(Collections.emptyList()));
+        ConverterTemporal withTime = new ConverterTemporal(LocalDate.class, null, Locale.US, "yyyy-MM-dd HH:mm:ss");
+        Assertions.assertThrows(CsvDataTypeMismatchException.class, () -> withTime.convertToRead("2019-07-14 25:00:00"));
+        Assertions.assertThrows(CsvDataTypeMismatchException.class,
+                () -> withTime.convertToWrite(LocalDate.of(2019, 7, 14)));
+    }
+
+    @Test
+    public void badConfiguration() {
+        CsvBadConverterException e = Assertions.assertThrows(CsvBadConverterException.class,
+                () -> new ConverterTemporal(LocalDate.class, null, Locale.US, "yyyy-MM-dd{"));
+        assertEquals(ConverterTemporal.class, e.getConverterClass());
+        e = Assertions.assertThrows(CsvBadConverterException.class,
+                () -> new ConverterTemporal(Year.class, null, Locale.US, "yyyy"));
+        assertEquals(ConverterTemporal.class, e.getConverterClass());
+    }
+}
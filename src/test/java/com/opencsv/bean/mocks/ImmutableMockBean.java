@@ -0,0 +1,52 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.opencsv.bean.mocks;
+
+import com.opencsv.bean.CsvBindAndJoinByName;
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvConstructor;
+import org.apache.commons.collections4.MultiValuedMap;
+
+/**
+ * A bean without a nullary constructor, populated through an annotated one.
+ */
+public class ImmutableMockBean {
+    @CsvBindByName
+    private final String name;
+
+    @CsvBindByName
+    private final int num;
+
+    @CsvBindAndJoinByName(column = "tag", elementType = String.class)
+    private final MultiValuedMap<String, String> tags;
+
+    @CsvConstructor({"tags", "num", "name"})
+    public ImmutableMockBean(MultiValuedMap<String, String> tags, int num, String name) {
+        this.name = name;
+        this.num = num;
+        this.tags = tags;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNum() {
+        return num;
+    }
+
+    public MultiValuedMap<String, String> getTags() {
+        return tags;
+    }
+}
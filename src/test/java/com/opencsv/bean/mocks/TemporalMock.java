@@ -0,0 +1,51 @@
+package com.opencsv.bean.mocks;
+
+import com.opencsv.bean.CsvBindByName;
+import com.opencsv.bean.CsvDate;
+
+import java.time.*;
+
+public class TemporalMock {
+
+    @CsvBindByName
+    @CsvDate("yyyy-MM-dd")
+    private LocalDate localDate;
+
+    @CsvBindByName
+    @CsvDate
+    private LocalDateTime localDateTime;
+
+    @CsvBindByName
+    @CsvDate("HH:mm:ss.SSS")
+    private LocalTime localTime;
+
+    @CsvBindByName
+    @CsvDate("yyyy-MM-dd'T'HH:mm:ssXXX")
+    private Instant instant;
+
+    @CsvBindByName
+    @CsvDate("yyyy-MM-dd'T'HH:mm:ss.SSSXXX")
+    private OffsetDateTime offsetDateTime;
+
+    @CsvBindByName
+    @CsvDate("dd MMM yyyy HH:mm VV")
+    private ZonedDateTime zonedDateTime;
+
+    public LocalDate getLocalDate() { return localDate; }
+    public void setLocalDate(LocalDate localDate) { this.localDate = localDate; }
+
+    public LocalDateTime getLocalDateTime() { return localDateTime; }
+    public void setLocalDateTime(LocalDateTime localDateTime) { this.localDateTime = localDateTime; }
+
+    public LocalTime getLocalTime() { return localTime; }
+    public void setLocalTime(LocalTime localTime) { this.localTime = localTime; }
+
+    public Instant getInstant() { return instant; }
+    public void setInstant(Instant instant) { this.instant = instant; }
+
+    public OffsetDateTime getOffsetDateTime() { return offsetDateTime; }
+    public void setOffsetDateTime(OffsetDateTime offsetDateTime) { this.offsetDateTime = offsetDateTime; }
+
+    public ZonedDateTime getZonedDateTime() { return zonedDateTime; }
+    public void setZonedDateTime(ZonedDateTime zonedDateTime) { this.zonedDateTime = zonedDateTime; }
+}